@@ -0,0 +1,95 @@
+#!/bin/bash
+
+# 플랫폼 스레드 모드 vs 가상 스레드(vthreads) 모드 부하 비교 스크립트
+# 사용법: ./load-compare.sh [기본 프로파일] [요청 경로] [동시 접속 수] [요청 수] [HTTP 메서드] [요청 본문]
+# 예시:   ./load-compare.sh local /api/code/list 400 20000 POST '{"page":1,"page_size":20}'
+# 필요 도구: curl, Java 21, 빌드 결과(target/*.jar), hey (https://github.com/rakyll/hey, 없으면 tools/load-compare/LoadGenerator.java 사용)
+# 환경 변수:
+#   UPSTREAM_DELAY_MS - 지정하면 외부 인증 서버 대신 고정 지연 대역(tools/load-compare/UpstreamStub.java)을 기동하여 사용
+#   APP_CMD           - 애플리케이션 기동 명령 (기본: java -jar target/*.jar), 프로파일/외부 서버 주소는 인자로 추가됨
+
+BASE_PROFILE=${1:-local}
+TARGET_PATH=${2:-/api/test/health}
+CONCURRENCY=${3:-400}
+REQUESTS=${4:-20000}
+METHOD=${5:-GET}
+BODY=${6:-}
+PORT=8080
+UPSTREAM_PORT=18081
+RESULT_DIR=logs/load-compare
+TOOL_DIR=tools/load-compare
+
+if command -v hey &> /dev/null; then
+    LOAD_TOOL=(hey)
+else
+    echo "[INFO] hey를 찾을 수 없어 $TOOL_DIR/LoadGenerator.java 를 사용합니다."
+    LOAD_TOOL=(java "$TOOL_DIR/LoadGenerator.java")
+fi
+
+if [ -z "$APP_CMD" ]; then
+    JAR=$(ls target/*.jar 2>/dev/null | grep -v original | head -n 1)
+    if [ -z "$JAR" ]; then
+        echo "[ERROR] target/*.jar 가 없습니다. 먼저 mvn -B package -DskipTests 를 실행하세요."
+        exit 1
+    fi
+    APP_CMD="java -jar $JAR"
+fi
+
+mkdir -p "$RESULT_DIR"
+
+LOAD_ARGS=(-m "$METHOD")
+if [ -n "$BODY" ]; then
+    LOAD_ARGS+=(-H "Content-Type: application/json" -d "$BODY")
+fi
+
+APP_ARGS=()
+UPSTREAM_PID=""
+if [ -n "$UPSTREAM_DELAY_MS" ]; then
+    java "$TOOL_DIR/UpstreamStub.java" $UPSTREAM_PORT "$UPSTREAM_DELAY_MS" > "$RESULT_DIR/upstream.log" 2>&1 &
+    UPSTREAM_PID=$!
+    APP_ARGS+=(--auth.server.base-url=http://localhost:$UPSTREAM_PORT)
+    sleep 3
+fi
+
+run_mode() {
+    local MODE=$1
+    local PROFILES=$2
+
+    echo "========================================"
+    echo "[INFO] $MODE 모드 시작 (profiles=$PROFILES)"
+    echo "========================================"
+
+    $APP_CMD --spring.profiles.active=$PROFILES "${APP_ARGS[@]}" > "$RESULT_DIR/$MODE-app.log" 2>&1 &
+    local APP_PID=$!
+
+    # 애플리케이션 기동 대기
+    for i in $(seq 1 120); do
+        if curl -s -o /dev/null "http://localhost:$PORT/actuator/health"; then
+            break
+        fi
+        sleep 1
+    done
+
+    # 워밍업 후 측정
+    "${LOAD_TOOL[@]}" -n 1000 -c 50 "${LOAD_ARGS[@]}" "http://localhost:$PORT$TARGET_PATH" > /dev/null
+    "${LOAD_TOOL[@]}" -n $REQUESTS -c $CONCURRENCY "${LOAD_ARGS[@]}" "http://localhost:$PORT$TARGET_PATH" | tee "$RESULT_DIR/$MODE.txt"
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null
+}
+
+run_mode platform "$BASE_PROFILE"
+run_mode virtual "$BASE_PROFILE,vthreads"
+
+if [ -n "$UPSTREAM_PID" ]; then
+    kill $UPSTREAM_PID
+fi
+
+echo ""
+echo "========================================"
+echo "[INFO] 결과 요약 ($RESULT_DIR)"
+echo "========================================"
+for MODE in platform virtual; do
+    echo "[$MODE]"
+    grep -E "Requests/sec|Average|99% in|\[[0-9]+\]" "$RESULT_DIR/$MODE.txt"
+done
@@ -0,0 +1,31 @@
+package com.wai.admin.config;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.wai.admin.util.AuthContext;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 요청당 한 번 system_code 헤더와 인증 쿠키를 읽어 AuthContext로 저장하는 필터
+ * - HttpUtil의 외부 API 호출은 이 값을 재사용하므로 호출마다 쿠키를 다시 탐색하지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AuthContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AuthContext.bind(request, AuthContext.resolve(request));
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,262 @@
+package com.wai.admin.config;
+
+import java.util.Set;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.wai.admin.util.HttpBodyLogger;
+import com.wai.admin.util.HttpUtil;
+import com.wai.admin.util.RetryPolicy;
+import com.wai.admin.util.UpstreamGuard;
+import com.wai.admin.util.UpstreamResponseCache;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 외부 API 호출용 공유 HttpClient 설정
+ * - 커넥션 풀(PoolingHttpClientConnectionManager)을 애플리케이션 전체에서 재사용
+ * - 풀 상태(leased, pending, available)는 actuator metrics(httpcomponents.httpclient.pool.*)로 노출
+ * - 비동기 호출(HttpUtil.*Async)용 HttpAsyncClient도 별도 풀로 구성
+ * - 외부 API 라우트별 서킷 브레이커/동시 호출 제한(UpstreamGuard) 설정 등록
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpClientConfig.class);
+
+    @Value("${http.client.max-total:200}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${http.client.connect-timeout-ms:5000}")
+    private long connectTimeoutMillis;
+
+    @Value("${http.client.response-timeout-ms:60000}")
+    private long responseTimeoutMillis;
+
+    @Value("${http.client.connection-request-timeout-ms:10000}")
+    private long connectionRequestTimeoutMillis;
+
+    @Value("${http.client.validate-after-inactivity-ms:2000}")
+    private long validateAfterInactivityMillis;
+
+    @Value("${http.client.keep-alive-seconds:30}")
+    private long keepAliveSeconds;
+
+    @Value("${http.client.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
+    @Value("${http.client.circuit-breaker.enabled:true}")
+    private boolean circuitBreakerEnabled;
+
+    @Value("${http.client.circuit-breaker.window-size:20}")
+    private int circuitBreakerWindowSize;
+
+    @Value("${http.client.circuit-breaker.minimum-calls:10}")
+    private int circuitBreakerMinimumCalls;
+
+    @Value("${http.client.circuit-breaker.failure-rate-threshold:50}")
+    private int circuitBreakerFailureRateThreshold;
+
+    @Value("${http.client.circuit-breaker.open-seconds:30}")
+    private long circuitBreakerOpenSeconds;
+
+    @Value("${http.client.circuit-breaker.half-open-calls:3}")
+    private int circuitBreakerHalfOpenCalls;
+
+    @Value("${http.client.bulkhead.max-concurrent:${http.client.max-per-route:50}}")
+    private int bulkheadMaxConcurrent;
+
+    @Value("${http.client.bulkhead.max-wait-ms:1000}")
+    private long bulkheadMaxWaitMillis;
+
+    @Value("${http.client.retry.idempotent-max-retries:2}")
+    private int retryIdempotentMaxRetries;
+
+    @Value("${http.client.retry.non-idempotent-max-retries:1}")
+    private int retryNonIdempotentMaxRetries;
+
+    @Value("${http.client.retry.base-delay-ms:200}")
+    private long retryBaseDelayMillis;
+
+    @Value("${http.client.retry.max-delay-ms:2000}")
+    private long retryMaxDelayMillis;
+
+    @Value("${http.client.retry.budget-ms:5000}")
+    private long retryBudgetMillis;
+
+    @Value("${http.client.retry.statuses:429,503}")
+    private Set<Integer> retryStatuses;
+
+    @Value("${http.client.coalesce-reads:true}")
+    private boolean coalesceReads;
+
+    @Value("${http.client.response-cache.enabled:true}")
+    private boolean responseCacheEnabled;
+
+    @Value("${http.client.response-cache.storage:heap}")
+    private String responseCacheStorage;
+
+    @Value("${http.client.response-cache.dir:${java.io.tmpdir}/wai-upstream-cache}")
+    private String responseCacheDir;
+
+    @Value("${http.client.response-cache.max-bytes:67108864}")
+    private long responseCacheMaxBytes;
+
+    @Value("${http.client.response-cache.max-entry-bytes:2097152}")
+    private long responseCacheMaxEntryBytes;
+
+    @Value("${http.client.response-cache.idle-seconds:1800}")
+    private long responseCacheIdleSeconds;
+
+    @Value("${http.client.response-cache.default-ttl-seconds:0}")
+    private long responseCacheDefaultTtlSeconds;
+
+    @Value("${http.client.response-cache.ttl-overrides:}")
+    private String responseCacheTtlOverrides;
+
+    @Value("${http.client.body-log.max-chars:2000}")
+    private int bodyLogMaxChars;
+
+    @Value("${http.client.body-log.sample-rate:1.0}")
+    private double bodyLogSampleRate;
+
+    @Value("${http.client.body-log.route-sample-rates:}")
+    private String bodyLogRouteSampleRates;
+
+    @Value("${http.client.async.io-threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int ioThreadCount;
+
+    /**
+     * 정적 유틸리티(HttpUtil 호출 경로)의 정책 설정 등록
+     * - 서킷 브레이커/동시 호출 제한, 재시도, 본문 로그, 응답 캐시, 동일 조회 병합
+     * - 설정 클래스 초기화 시 한 번 등록하므로 클라이언트/메트릭 빈 생성 순서와 무관
+     */
+    @PostConstruct
+    public void configureUpstreamPolicies() {
+        HttpUtil.setCoalesceReads(coalesceReads);
+        UpstreamGuard.configure(new UpstreamGuard.Settings(circuitBreakerEnabled, circuitBreakerWindowSize,
+                circuitBreakerMinimumCalls, circuitBreakerFailureRateThreshold, circuitBreakerOpenSeconds,
+                circuitBreakerHalfOpenCalls, bulkheadMaxConcurrent, bulkheadMaxWaitMillis));
+        RetryPolicy.configure(new RetryPolicy.Settings(retryIdempotentMaxRetries, retryNonIdempotentMaxRetries,
+                retryBaseDelayMillis, retryMaxDelayMillis, retryBudgetMillis, retryStatuses));
+        HttpBodyLogger.configure(new HttpBodyLogger.Settings(bodyLogMaxChars, bodyLogSampleRate, bodyLogRouteSampleRates));
+        UpstreamResponseCache.configure(new UpstreamResponseCache.Settings(responseCacheEnabled, responseCacheStorage,
+                responseCacheDir, responseCacheMaxBytes, responseCacheMaxEntryBytes, responseCacheIdleSeconds,
+                responseCacheDefaultTtlSeconds, responseCacheTtlOverrides));
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMillis))
+                .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient upstreamHttpClient(PoolingHttpClientConnectionManager connectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .disableAutomaticRetries() // 재시도는 HttpUtil에서 처리
+                .build();
+
+        // 정적 유틸리티(HttpUtil)가 동일한 클라이언트를 사용하도록 등록
+        HttpUtil.setHttpClient(httpClient);
+        logger.info("공유 HttpClient 초기화: maxTotal={}, maxPerRoute={}, keepAlive={}s, idleEvict={}s",
+                maxTotal, maxPerRoute, keepAliveSeconds, idleEvictSeconds);
+
+        return httpClient;
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingAsyncClientConnectionManager httpAsyncClientConnectionManager() {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMillis))
+                .build();
+
+        return PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpAsyncClient upstreamHttpAsyncClient(PoolingAsyncClientConnectionManager asyncConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMillis))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMillis))
+                .build();
+
+        CloseableHttpAsyncClient httpAsyncClient = HttpAsyncClients.custom()
+                .setConnectionManager(asyncConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setIOReactorConfig(IOReactorConfig.custom().setIoThreadCount(ioThreadCount).build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictSeconds))
+                .disableAutomaticRetries() // 재시도는 HttpUtil에서 처리
+                .build();
+        httpAsyncClient.start();
+
+        HttpUtil.setHttpAsyncClient(httpAsyncClient);
+        logger.info("공유 비동기 HttpClient 초기화: ioThreads={}", ioThreadCount);
+
+        return httpAsyncClient;
+    }
+
+    @Bean
+    public MeterBinder httpAsyncClientPoolMetrics(PoolingAsyncClientConnectionManager asyncConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(asyncConnectionManager, "upstream-async");
+    }
+
+    @Bean
+    public MeterBinder upstreamResponseCacheMetrics() {
+        return UpstreamResponseCache.metrics();
+    }
+
+    @Bean
+    public MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "upstream");
+    }
+}
@@ -0,0 +1,92 @@
+package com.wai.admin.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.wai.admin.util.AuthContext;
+
+/**
+ * 외부 API 병렬 호출(fan-out)용 스레드 풀 설정
+ * - 작업 제출 시점의 인증 정보(AuthContext)만 작업 스레드로 전달 (서블릿 요청/응답 객체는 전달하지 않음)
+ * - 작업 스레드에서 받은 외부 API Set-Cookie는 AuthContext에 보관되며,
+ *   결과를 기다린 요청 스레드에서 HttpUtil.forwardDeferredCookies()로 응답에 전달
+ */
+@Configuration
+public class UpstreamExecutorConfig {
+
+    @Value("${upstream.executor.core-pool-size:16}")
+    private int corePoolSize;
+
+    @Value("${upstream.executor.max-pool-size:64}")
+    private int maxPoolSize;
+
+    @Value("${upstream.executor.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${cascade-delete.bulk-concurrency:4}")
+    private int bulkDeleteConcurrency;
+
+    @Value("${report.jobs.concurrency:2}")
+    private int reportJobConcurrency;
+
+    @Value("${report.jobs.queue-capacity:20}")
+    private int reportJobQueueCapacity;
+
+    @Bean(name = "upstreamExecutor")
+    public ThreadPoolTaskExecutor upstreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upstream-");
+        executor.setTaskDecorator(authContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일괄 삭제 항목 실행용 스레드 풀 (CascadeDeleteExecutor)
+     * - 항목 작업이 upstreamExecutor의 파일 삭제 작업을 기다리므로 별도 풀로 분리하고 동시 실행 수를 제한
+     */
+    @Bean(name = "bulkDeleteExecutor")
+    public ThreadPoolTaskExecutor bulkDeleteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulkDeleteConcurrency);
+        executor.setMaxPoolSize(bulkDeleteConcurrency);
+        executor.setThreadNamePrefix("bulk-delete-");
+        executor.setTaskDecorator(authContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 리포트 비동기 생성 작업 실행용 스레드 풀 (ReportJobService)
+     * - 동시 실행 수와 대기열을 제한하고, 대기열이 가득 차면 등록 거부(TaskRejectedException)
+     * - 작업은 요청이 끝난 뒤에도 실행되므로 요청 컨텍스트는 전달하지 않고 인증 정보(AuthContext)만 전달
+     */
+    @Bean(name = "reportJobExecutor")
+    public ThreadPoolTaskExecutor reportJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reportJobConcurrency);
+        executor.setMaxPoolSize(reportJobConcurrency);
+        executor.setQueueCapacity(reportJobQueueCapacity);
+        executor.setThreadNamePrefix("report-job-");
+        executor.setTaskDecorator(authContextTaskDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 인증 정보 전달용 TaskDecorator
+     * - 작업이 요청보다 늦게 끝나도 완료/재사용된 요청에 접근하지 않도록 요청 컨텍스트는 전달하지 않음
+     */
+    private TaskDecorator authContextTaskDecorator() {
+        return runnable -> AuthContext.capture().wrap(runnable);
+    }
+}
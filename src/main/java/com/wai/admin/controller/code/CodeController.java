@@ -1,5 +1,6 @@
 package com.wai.admin.controller.code;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.wai.admin.service.code.CodeService;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/code")
 public class CodeController {
@@ -25,15 +28,11 @@ public class CodeController {
     private CodeService codeService;
 
     @PostMapping("/list")
-    public ResponseEntity<Map<String, Object>> getAllCodes(
-            @RequestBody Map<String, Object> searchParams) {
-        Map<String, Object> result = codeService.getAllCodes(searchParams);
-        
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+    public void getAllCodes(
+            @RequestBody Map<String, Object> searchParams,
+            HttpServletResponse response) throws IOException {
+        // 외부 API 응답을 그대로 스트리밍 (성공 200, 실패 400)
+        codeService.getAllCodes(searchParams, response);
     }
 
     @PostMapping("/create")
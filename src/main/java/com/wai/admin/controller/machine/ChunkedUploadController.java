@@ -0,0 +1,107 @@
+package com.wai.admin.controller.machine;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.wai.admin.service.machine.ChunkedUploadService;
+
+import java.io.IOException;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 대용량 3D 모델/ZIP 파일 분할 업로드 API
+ * 1. POST   /init                         업로드 세션 생성
+ * 2. PUT    /{upload_id}/chunk?offset=N    조각 업로드 (application/octet-stream, X-Chunk-Checksum: SHA-256 hex)
+ * 3. GET    /{upload_id}                   누락된 조각 조회 (이어 올리기)
+ * 4. POST   /{upload_id}/complete          업로드 완료 및 외부 저장소 전달
+ * 5. DELETE /{upload_id}                   업로드 취소
+ */
+@RestController
+@RequestMapping("/api/upload/chunked")
+public class ChunkedUploadController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadController.class);
+
+    @Autowired
+    private ChunkedUploadService chunkedUploadService;
+
+    /**
+     * 분할 업로드 세션 생성
+     *
+     * @param params file_name, file_size, chunk_size, target, library_id 또는 machine_name
+     * @return upload_id, chunk_size, total_chunks
+     */
+    @PostMapping("/init")
+    public ResponseEntity<Map<String, Object>> initUpload(@RequestBody Map<String, Object> params) {
+        logger.info("분할 업로드 시작 요청: {}", params);
+        return toResponse(chunkedUploadService.initUpload(params));
+    }
+
+    /**
+     * 조각 업로드 (병렬 전송 가능)
+     *
+     * @param uploadId 업로드 ID
+     * @param offset   조각 시작 위치
+     * @param checksum 조각의 SHA-256 (hex)
+     * @return 수신된 조각 수
+     */
+    @PutMapping(value = "/{upload_id}/chunk", consumes = "application/octet-stream")
+    public ResponseEntity<Map<String, Object>> putChunk(
+            @PathVariable("upload_id") String uploadId,
+            @RequestParam("offset") long offset,
+            @RequestHeader(value = "X-Chunk-Checksum", required = false) String checksum,
+            HttpServletRequest request) throws IOException {
+        return toResponse(chunkedUploadService.putChunk(uploadId, offset, checksum,
+                request.getContentLengthLong(), request.getInputStream()));
+    }
+
+    /**
+     * 업로드 진행 상태 조회
+     *
+     * @param uploadId 업로드 ID
+     * @return 누락된 조각 목록
+     */
+    @GetMapping("/{upload_id}")
+    public ResponseEntity<Map<String, Object>> getStatus(@PathVariable("upload_id") String uploadId) {
+        return toResponse(chunkedUploadService.getStatus(uploadId));
+    }
+
+    /**
+     * 업로드 완료
+     *
+     * @param uploadId 업로드 ID
+     * @return 외부 저장소 업로드 결과
+     */
+    @PostMapping("/{upload_id}/complete")
+    public ResponseEntity<Map<String, Object>> completeUpload(@PathVariable("upload_id") String uploadId) {
+        logger.info("분할 업로드 완료 요청: uploadId={}", uploadId);
+        Map<String, Object> result = chunkedUploadService.completeUpload(uploadId);
+        logger.info("분할 업로드 완료 응답: success={}, message={}", result.get("success"), result.get("message"));
+        return toResponse(result);
+    }
+
+    /**
+     * 업로드 취소
+     *
+     * @param uploadId 업로드 ID
+     */
+    @DeleteMapping("/{upload_id}")
+    public ResponseEntity<Map<String, Object>> abortUpload(@PathVariable("upload_id") String uploadId) {
+        return toResponse(chunkedUploadService.abortUpload(uploadId));
+    }
+
+    private ResponseEntity<Map<String, Object>> toResponse(Map<String, Object> result) {
+        if ((Boolean) result.get("success")) {
+            return ResponseEntity.ok(result);
+        }
+        // 기존 업로드 서비스는 status 또는 statusCode로 오류 코드를 반환
+        Object status = result.containsKey("status") ? result.get("status") : result.get("statusCode");
+        int statusCode = status instanceof Integer && (Integer) status >= 400 ? (Integer) status : 400;
+        return ResponseEntity.status(statusCode).body(result);
+    }
+}
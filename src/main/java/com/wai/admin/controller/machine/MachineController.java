@@ -8,6 +8,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.wai.admin.service.machine.MachineService;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -219,6 +220,26 @@ public class MachineController {
         }
     }
 
+    /**
+     * 기계 일괄 삭제
+     * 
+     * @param bulkParams items: [{id, 삭제할 파일 ID 정보}]
+     * @return 항목별 삭제 결과
+     */
+    @SuppressWarnings("unchecked")
+    @PostMapping("/delete/bulk")
+    public ResponseEntity<Map<String, Object>> deleteMachines(@RequestBody Map<String, Object> bulkParams) {
+        Object items = bulkParams.get("items");
+        Map<String, Object> result = machineService.deleteMachines(items instanceof List ? (List<Map<String, Object>>) items : null);
+
+        if ((Boolean) result.get("success")) {
+            return ResponseEntity.ok(result);
+        } else {
+            int statusCode = (Integer) result.getOrDefault("statusCode", 500);
+            return ResponseEntity.status(statusCode).body(result);
+        }
+    }
+
     /**
      * 기계 삭제
      * 
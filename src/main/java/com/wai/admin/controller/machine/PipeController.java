@@ -8,6 +8,7 @@ import org.springframework.web.multipart.MultipartFile;
 import com.wai.admin.service.machine.PipeService;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -209,6 +210,26 @@ public class PipeController {
         }
     }
 
+    /**
+     * 파이프 일괄 삭제
+     * 
+     * @param bulkParams items: [{id, 삭제할 파일 ID 정보}]
+     * @return 항목별 삭제 결과
+     */
+    @SuppressWarnings("unchecked")
+    @PostMapping("/delete/bulk")
+    public ResponseEntity<Map<String, Object>> deletePipes(@RequestBody Map<String, Object> bulkParams) {
+        Object items = bulkParams.get("items");
+        Map<String, Object> result = pipeService.deletePipes(items instanceof List ? (List<Map<String, Object>>) items : null);
+
+        if ((Boolean) result.get("success")) {
+            return ResponseEntity.ok(result);
+        } else {
+            int statusCode = (Integer) result.getOrDefault("statusCode", 500);
+            return ResponseEntity.status(statusCode).body(result);
+        }
+    }
+
     /**
      * 파이프 삭제
      * 
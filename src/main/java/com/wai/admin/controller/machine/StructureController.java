@@ -147,6 +147,26 @@ public class StructureController {
         }
     }
 
+    /**
+     * 구조체 일괄 삭제
+     * 
+     * @param bulkParams items: [{id, 삭제할 파일 ID 정보}]
+     * @return 항목별 삭제 결과
+     */
+    @SuppressWarnings("unchecked")
+    @PostMapping("/delete/bulk")
+    public ResponseEntity<Map<String, Object>> deleteStructures(@RequestBody Map<String, Object> bulkParams) {
+        Object items = bulkParams.get("items");
+        Map<String, Object> result = structureService.deleteStructures(items instanceof List ? (List<Map<String, Object>>) items : null);
+
+        if ((Boolean) result.get("success")) {
+            return ResponseEntity.ok(result);
+        } else {
+            int statusCode = (Integer) result.getOrDefault("statusCode", 500);
+            return ResponseEntity.status(statusCode).body(result);
+        }
+    }
+
     @PostMapping("/delete/{id}")
     public ResponseEntity<Map<String, Object>> deleteStructure(@PathVariable String id, @RequestBody Map<String, Object> deleteParams) {
         Map<String, Object> result;
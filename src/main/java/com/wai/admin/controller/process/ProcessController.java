@@ -7,9 +7,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartHttpServletRequest;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.HashMap;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @RestController
 @RequestMapping("/api/process/")
 public class ProcessController {
@@ -433,45 +437,30 @@ public class ProcessController {
     }
 
     /**
-     * 심볼 다운로드 URL 조회
+     * 심볼 파일 스트리밍 다운로드 (Range 요청 지원)
      */
     @GetMapping("/symbol/download/{symbolId}")
-    public ResponseEntity<Map<String, Object>> getSymbolDownload(@PathVariable String symbolId) {
-        Map<String, Object> result = processService.getSymbolDownload(symbolId);
-
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+    public void streamSymbolDownload(@PathVariable String symbolId, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        processService.streamSymbolDownload(symbolId, request, response);
     }
 
     /**
-     * 계산식 다운로드 URL 조회
+     * 계산식 파일 스트리밍 다운로드 (Range 요청 지원)
      */
     @GetMapping("/formula/download/{formulaId}")
-    public ResponseEntity<Map<String, Object>> getFormulaDownload(@PathVariable String formulaId) {
-        Map<String, Object> result = processService.getFormulaDownload(formulaId);
-
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+    public void streamFormulaDownload(@PathVariable String formulaId, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        processService.streamFormulaDownload(formulaId, request, response);
     }
 
     /**
-     * 도면 다운로드 URL 조회
+     * 도면 파일 스트리밍 다운로드 (Range 요청 지원)
      */
     @GetMapping("/drawing/download/{drawingId}")
-    public ResponseEntity<Map<String, Object>> getDrawingDownload(@PathVariable String drawingId) {
-        Map<String, Object> result = processService.getDrawingDownload(drawingId);
-
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+    public void streamDrawingDownload(@PathVariable String drawingId, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        processService.streamDrawingDownload(drawingId, request, response);
     }
 
     /**
@@ -744,19 +733,15 @@ public class ProcessController {
     }
 
     /**
-     * 용량계산서(CCS) 파일 다운로드 URL 조회
+     * 용량계산서(CCS) 파일 스트리밍 다운로드 (Range 요청 지원)
      */
     @GetMapping("/ccs/download/{tableName}/{pkValue}")
-    public ResponseEntity<Map<String, Object>> getCcsDownload(
+    public void streamCcsDownload(
             @PathVariable String tableName,
-            @PathVariable String pkValue) {
-        Map<String, Object> result = processService.getCcsDownload(tableName, pkValue);
-
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+            @PathVariable String pkValue,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        processService.streamCcsDownload(tableName, pkValue, request, response);
     }
 
     /**
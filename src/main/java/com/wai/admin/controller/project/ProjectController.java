@@ -8,9 +8,11 @@ import org.springframework.web.multipart.MultipartFile;
 import com.wai.admin.service.project.ProjectService;
 import com.wai.admin.util.JsonUtil;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/api/project")
@@ -132,17 +134,12 @@ public class ProjectController {
     }
 
     /**
-     * 부지정보 파일 조회
+     * 부지정보 파일 스트리밍 다운로드 (Range 요청 지원)
      */
     @GetMapping("/fileInfo/{siteId}")
-    public ResponseEntity<Map<String, Object>> downloadSiteInfoFile(@PathVariable String siteId) {
-        Map<String, Object> result = projectService.downloadSiteInfoFile(siteId);
-        
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+    public void streamSiteInfoFile(@PathVariable String siteId, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        projectService.streamSiteInfoFile(siteId, request, response);
     }
 
     /**
@@ -13,8 +13,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wai.admin.service.reports.calculate.MaschineListReportService;
+import com.wai.admin.service.reports.calculate.ReportArtifactCache;
 
 
 @RestController
@@ -24,20 +26,24 @@ public class MaschineListReportController {
 	@Autowired
 	private MaschineListReportService maschineListService;	
 
+	@Autowired
+	private ReportArtifactCache reportArtifactCache;
+
 
 	/**
 	 * 기계리스트 엑셀 다운로드 (mashinelist.json 기반)
 	 */
 	@PostMapping("/v1/machinelist")
-	public ResponseEntity<byte[]> downloadMachineListExcel(
+	public ResponseEntity<StreamingResponseBody> downloadMachineListExcel(
 		@RequestBody(required = false) Map<String, Object> params) throws IOException {
 
 		System.out.println("machinelist.xlsx 다운로드");
 		try {
 			// 엑셀 파일 생성 (params 전달하여 jsonUrl 기반으로 생성)
-			byte[] excelBytes = maschineListService.generateMachineListExcel(params);
+			ReportArtifactCache.Artifact artifact = reportArtifactCache.getOrCreate("machinelist", params,
+				(outputStream, templateUrls) -> maschineListService.generateMachineListExcel(params).writeTo(outputStream));
 			
-			System.out.println("machinelist.xlsx excelBytes 생성 완료");
+			System.out.println("machinelist.xlsx 생성 완료");
 			// 파일명 생성
 			String fileName = "Machine_List_" + 
 				new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".xlsx";
@@ -46,15 +52,16 @@ public class MaschineListReportController {
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
 			headers.setContentDispositionFormData("attachment", fileName);
-			headers.setContentLength(excelBytes.length);
+			headers.setContentLength(artifact.getSize());
+			headers.set("X-Report-Cache", artifact.isCacheHit() ? "HIT" : "MISS");
 			
 			return ResponseEntity.ok()
 					.headers(headers)
-					.body(excelBytes);
+					.body(artifact::writeTo);
 			
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError()
-					.body(("기계리스트 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8"));
+					.body(outputStream -> outputStream.write(("기계리스트 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8")));
 		}
 	}
 
@@ -13,8 +13,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wai.admin.service.reports.calculate.MassBalanceListReportService;
+import com.wai.admin.service.reports.calculate.ReportArtifactCache;
 
 
 @RestController
@@ -24,20 +26,24 @@ public class MassBalanceListReportController {
 	@Autowired
 	private MassBalanceListReportService massbalanceListService;	
 
+	@Autowired
+	private ReportArtifactCache reportArtifactCache;
+
 
 	/**
 	 * 물질수지도 엑셀 다운로드
 	 */
 	@PostMapping("/v1/massbalancelist")
-	public ResponseEntity<byte[]> downloadMassBalanceListExcel(
+	public ResponseEntity<StreamingResponseBody> downloadMassBalanceListExcel(
 		@RequestBody(required = false) Map<String, Object> params) throws IOException {
 
 		System.out.println("massbalancelist.xlsx 다운로드");
 		try {
 			// 엑셀 파일 생성 (params 전달하여 jsonUrl 기반으로 생성)
-			byte[] excelBytes = massbalanceListService.generateMassBalanceListExcel(params);
+			ReportArtifactCache.Artifact artifact = reportArtifactCache.getOrCreate("massbalancelist", params,
+				(outputStream, templateUrls) -> massbalanceListService.generateMassBalanceListExcel(params).writeTo(outputStream));
 			
-			System.out.println("massbalancelist.xlsx excelBytes 생성 완료");
+			System.out.println("massbalancelist.xlsx 생성 완료");
 			// 파일명 생성
 			String fileName = "MassBalance_List_" + 
 				new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".xlsx";
@@ -46,15 +52,16 @@ public class MassBalanceListReportController {
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
 			headers.setContentDispositionFormData("attachment", fileName);
-			headers.setContentLength(excelBytes.length);
+			headers.setContentLength(artifact.getSize());
+			headers.set("X-Report-Cache", artifact.isCacheHit() ? "HIT" : "MISS");
 			
 			return ResponseEntity.ok()
 					.headers(headers)
-					.body(excelBytes);
+					.body(artifact::writeTo);
 			
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError()
-					.body(("물질수지도 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8"));
+					.body(outputStream -> outputStream.write(("물질수지도 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8")));
 		}
 	}
 
@@ -10,8 +10,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wai.admin.service.reports.calculate.ProcessCapaReportService;
+import com.wai.admin.service.reports.calculate.ReportArtifactCache;
 
 @RestController
 @RequestMapping("/api/report/")
@@ -20,14 +22,21 @@ public class ProcessCapaReportController {
 	@Autowired
 	private ProcessCapaReportService processCapaReportService;
 
+	@Autowired
+	private ReportArtifactCache reportArtifactCache;
+
 	
 	@PostMapping(value = "/v1/processcapa")
-	public ResponseEntity<byte[]> downloadIntegrationXlsx(@RequestBody Map<String, Object> searchParams) throws Exception {
-		byte[] reportBytes = processCapaReportService.generateIntegrationXlsx(searchParams);
+	public ResponseEntity<StreamingResponseBody> downloadIntegrationXlsx(@RequestBody Map<String, Object> searchParams) throws Exception {
+		// 입력(파라미터, 데이터 JSON, CCS 템플릿)이 같으면 이전에 생성한 결과 사용
+		ReportArtifactCache.Artifact artifact = reportArtifactCache.getOrCreate("processcapa", searchParams,
+			(outputStream, templateUrls) -> outputStream.write(processCapaReportService.generateIntegrationXlsx(searchParams, templateUrls)));
 
 		return ResponseEntity.ok()
 			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=processcapacity.xlsx")
+			.header("X-Report-Cache", artifact.isCacheHit() ? "HIT" : "MISS")
 			.contentType(MediaType.APPLICATION_OCTET_STREAM)
-			.body(reportBytes);
+			.contentLength(artifact.getSize())
+			.body(artifact::writeTo);
 	}
 }
@@ -1,6 +1,7 @@
 package com.wai.admin.controller.reports.calculate;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
 import java.util.Map;
 
@@ -117,7 +118,7 @@ public class ProcessCapaReportPreviewController {
 
 		try {
 			// URL에서 JSON 데이터 다운로드
-			URL url = new URL(jsonUrl);
+			URL url = URI.create(jsonUrl).toURL();
 			InputStream inputStream = url.openStream();
 			String jsonContent = StreamUtils.copyToString(inputStream, java.nio.charset.StandardCharsets.UTF_8);
 			inputStream.close();
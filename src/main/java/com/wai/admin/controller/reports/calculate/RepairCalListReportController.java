@@ -9,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wai.admin.service.reports.calculate.RepairCalListReportService;
 
@@ -29,9 +30,9 @@ public class RepairCalListReportController {
      *
      */
     @GetMapping("/v1/repaircallist.xlsx")
-    public ResponseEntity<byte[]> downloadRepairCalListExcel() throws IOException {
+    public ResponseEntity<StreamingResponseBody> downloadRepairCalListExcel() throws IOException {
         try {
-            byte[] excelBytes = repairCalListService.generateRepairCalExcel();
+            StreamingResponseBody excelBody = repairCalListService.generateRepairCalExcel();
 
             // 파일명 생성 (타임스탬프 포함)
             String fileName = "Repair_Cal_List_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date()) + ".xlsx";
@@ -40,11 +41,10 @@ public class RepairCalListReportController {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", fileName);
-            headers.setContentLength(excelBytes.length);
 
             return ResponseEntity.ok()
                     .headers(headers)
-                    .body(excelBytes);
+                    .body(excelBody);
         } catch (Exception e) {
             throw new IOException("수리계산서 엑셀 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
@@ -0,0 +1,47 @@
+package com.wai.admin.controller.reports.calculate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wai.admin.service.reports.calculate.ReportArtifactCache;
+
+/**
+ * 리포트 결과 캐시 관리 API
+ * - DELETE /api/report/cache?project_id=xxx  해당 프로젝트의 캐시된 리포트 결과 삭제 (project_id 없으면 전체)
+ */
+@RestController
+@RequestMapping("/api/report/cache")
+public class ReportArtifactCacheController {
+
+	@Autowired
+	private ReportArtifactCache reportArtifactCache;
+
+
+	/**
+	 * 리포트 결과 캐시 무효화
+	 */
+	@DeleteMapping
+	public ResponseEntity<Map<String, Object>> invalidate(
+		@RequestParam(value = "project_id", required = false) String projectId) {
+
+		int removed = reportArtifactCache.invalidate(projectId);
+
+		Map<String, Object> response = new HashMap<>();
+		response.put("project_id", projectId);
+		response.put("removed", removed);
+
+		Map<String, Object> result = new HashMap<>();
+		result.put("success", true);
+		result.put("status", 200);
+		result.put("message", "리포트 결과 캐시가 삭제되었습니다.");
+		result.put("response", response);
+		return ResponseEntity.ok(result);
+	}
+}
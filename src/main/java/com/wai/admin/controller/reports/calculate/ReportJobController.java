@@ -0,0 +1,107 @@
+package com.wai.admin.controller.reports.calculate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.wai.admin.service.reports.calculate.ReportJobService;
+
+/**
+ * 리포트 비동기 생성 API (요청 스레드에서 생성하면 프록시 타임아웃이 나는 대용량 리포트용)
+ * 1. POST   /api/report/jobs                  작업 등록 ({"type": "processcapa", "params": {...}}) → job_id
+ * 2. GET    /api/report/jobs/{job_id}         상태/진행률 조회
+ * 3. GET    /api/report/jobs/{job_id}/result  완료된 결과 파일 다운로드
+ * 4. DELETE /api/report/jobs/{job_id}         작업 취소/삭제
+ */
+@RestController
+@RequestMapping("/api/report/jobs")
+public class ReportJobController {
+
+	@Autowired
+	private ReportJobService reportJobService;
+
+
+	/**
+	 * 리포트 생성 작업 등록
+	 */
+	@PostMapping
+	public ResponseEntity<Map<String, Object>> submitJob(@RequestBody Map<String, Object> request) {
+		return toResponse(reportJobService.submit(request));
+	}
+
+	/**
+	 * 리포트 생성 작업 상태 조회
+	 */
+	@GetMapping("/{job_id}")
+	public ResponseEntity<Map<String, Object>> getJobStatus(@PathVariable("job_id") String jobId) {
+		return toResponse(reportJobService.getStatus(jobId));
+	}
+
+	/**
+	 * 리포트 결과 파일 다운로드
+	 */
+	@GetMapping("/{job_id}/result")
+	public ResponseEntity<?> downloadJobResult(@PathVariable("job_id") String jobId) {
+		Map<String, Object> result = reportJobService.getResult(jobId);
+		if (!(Boolean) result.get("success")) {
+			return toResponse(result);
+		}
+
+		ReportJobService.ResultFile resultFile = (ReportJobService.ResultFile) result.get("response");
+
+		// 응답 전에 파일을 열어 두어 전송 중 만료/취소로 삭제되어도 끝까지 전송
+		InputStream in;
+		try {
+			in = Files.newInputStream(resultFile.getPath());
+		} catch (IOException e) {
+			Map<String, Object> expired = new HashMap<>();
+			expired.put("success", false);
+			expired.put("status", 410);
+			expired.put("message", "리포트 결과 파일이 만료되었습니다. 다시 요청해 주세요.");
+			return toResponse(expired);
+		}
+
+		// 응답 헤더 설정
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.parseMediaType(resultFile.getContentType()));
+		headers.setContentDispositionFormData("attachment", resultFile.getFileName());
+		headers.setContentLength(resultFile.getSize());
+
+		StreamingResponseBody body = outputStream -> {
+			try (InputStream resultStream = in) {
+				resultStream.transferTo(outputStream);
+			}
+		};
+		return ResponseEntity.ok()
+				.headers(headers)
+				.body(body);
+	}
+
+	/**
+	 * 리포트 생성 작업 취소/삭제
+	 */
+	@DeleteMapping("/{job_id}")
+	public ResponseEntity<Map<String, Object>> cancelJob(@PathVariable("job_id") String jobId) {
+		return toResponse(reportJobService.cancel(jobId));
+	}
+
+	private ResponseEntity<Map<String, Object>> toResponse(Map<String, Object> result) {
+		int statusCode = (Integer) result.get("status");
+		return ResponseEntity.status(statusCode).body(result);
+	}
+}
@@ -15,13 +15,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wai.admin.service.reports.calculate.JasperTemplateRegistry;
 import com.wai.admin.vo.sampleVo.PayloadVo;
 
 import net.sf.jasperreports.engine.JREmptyDataSource;
-import net.sf.jasperreports.engine.JasperCompileManager;
-import net.sf.jasperreports.engine.JasperFillManager;
-import net.sf.jasperreports.engine.JasperPrint;
-import net.sf.jasperreports.engine.JasperReport;
 import net.sf.jasperreports.engine.export.ooxml.JRXlsxExporter;
 import net.sf.jasperreports.export.SimpleExporterInput;
 import net.sf.jasperreports.export.SimpleOutputStreamExporterOutput;
@@ -35,11 +32,14 @@ public class ReportSampleReportController {
 	
 	//private final ResourceLoader resourceLoader;
 	private final ObjectMapper objectMapper;
+	// 컴파일된 jrxml 캐시 (요청마다 컴파일하지 않음)
+	private final JasperTemplateRegistry jasperTemplateRegistry;
 	public static String json = null;
 
 	// Manual constructor (Lombok fallback for IDE)
-	public ReportSampleReportController(ObjectMapper objectMapper) {
+	public ReportSampleReportController(ObjectMapper objectMapper, JasperTemplateRegistry jasperTemplateRegistry) {
 		this.objectMapper = objectMapper;
+		this.jasperTemplateRegistry = jasperTemplateRegistry;
 	}
 	
 	  //@CrossOrigin(origins = "*", allowedHeaders = "*", allowCredentials = "false")
@@ -66,23 +66,21 @@ public class ReportSampleReportController {
 	    params.put("house", payload.getHouse());              // List<HouseItem>
 
 	    
-	    //Resource jrxml = resourceLoader.getResource("classpath:reports/general_statment.jrxml");
-	    //ClassPathResource jrxml = new ClassPathResource("reports/general_statment.jrxml");
-	    ClassPathResource jrxml = new ClassPathResource("reports/general_statment.jrxml");
-	    JasperReport jr = JasperCompileManager.compileReport(jrxml.getInputStream());
-	    JasperPrint jp = JasperFillManager.fillReport(jr, params, new JREmptyDataSource(1));
-
 	    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-	    JRXlsxExporter exporter = new JRXlsxExporter();
-	    exporter.setExporterInput(new SimpleExporterInput(jp));
-	    exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(baos));
+	    // fill 결과(virtualizer 스왑 파일)는 export 후 정리
+	    try (JasperTemplateRegistry.FilledReport filled =
+	    		jasperTemplateRegistry.fill("general_statment", params, new JREmptyDataSource(1))) {
+		    JRXlsxExporter exporter = new JRXlsxExporter();
+		    exporter.setExporterInput(new SimpleExporterInput(filled.getPrint()));
+		    exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(baos));
 
-	    SimpleXlsxReportConfiguration conf = new SimpleXlsxReportConfiguration();
-	    conf.setDetectCellType(true);
-	    conf.setRemoveEmptySpaceBetweenRows(true);
-	    exporter.setConfiguration(conf);
+		    SimpleXlsxReportConfiguration conf = new SimpleXlsxReportConfiguration();
+		    conf.setDetectCellType(true);
+		    conf.setRemoveEmptySpaceBetweenRows(true);
+		    exporter.setConfiguration(conf);
 
-	    exporter.exportReport();
+		    exporter.exportReport();
+	    }
 
 	    
         byte[] reportBytes = baos.toByteArray();
@@ -124,30 +122,29 @@ public class ReportSampleReportController {
 	    params.put("companyItems", payload.getCompany().getItems()); // List<Item>
 	    params.put("house", payload.getHouse());              		// List<HouseItem>
 
-	    ClassPathResource jrxml = new ClassPathResource("reports/general_statment.jrxml");
-	    JasperReport jr = JasperCompileManager.compileReport(jrxml.getInputStream());
-	    JasperPrint jp = JasperFillManager.fillReport(jr, params, new JREmptyDataSource(1));
-
 	    ByteArrayOutputStream baos = new ByteArrayOutputStream();
-	    JRPdfExporter exporter = new JRPdfExporter();
-	    exporter.setExporterInput(new SimpleExporterInput(jp));
-	    exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(baos));
-
-        SimplePdfReportConfiguration reportConf = new SimplePdfReportConfiguration();
-        reportConf.setForceLineBreakPolicy(true); //등 레이아웃 옵션
-	    
-	    SimplePdfExporterConfiguration conf = new SimplePdfExporterConfiguration();
-        //conf.setMetadataAuthor("BUKWANGTECH");
-        conf.setTagged(true);
-        conf.setTagLanguage("KO-KR");
-        conf.setMetadataTitle("General Statement");
-        conf.setDisplayMetadataTitle(true);
-        //conf.setEncrypted(true); // 암호화 등 사용하려 할경우 BouncyCastle(BC) 라이브러리 의존성 주입해야 함. 
-        
-        exporter.setConfiguration(reportConf);
-        exporter.setConfiguration(conf);
-        
-	    exporter.exportReport();
+	    try (JasperTemplateRegistry.FilledReport filled =
+	    		jasperTemplateRegistry.fill("general_statment", params, new JREmptyDataSource(1))) {
+		    JRPdfExporter exporter = new JRPdfExporter();
+		    exporter.setExporterInput(new SimpleExporterInput(filled.getPrint()));
+		    exporter.setExporterOutput(new SimpleOutputStreamExporterOutput(baos));
+
+	        SimplePdfReportConfiguration reportConf = new SimplePdfReportConfiguration();
+	        reportConf.setForceLineBreakPolicy(true); //등 레이아웃 옵션
+		    
+		    SimplePdfExporterConfiguration conf = new SimplePdfExporterConfiguration();
+	        //conf.setMetadataAuthor("BUKWANGTECH");
+	        conf.setTagged(true);
+	        conf.setTagLanguage("KO-KR");
+	        conf.setMetadataTitle("General Statement");
+	        conf.setDisplayMetadataTitle(true);
+	        //conf.setEncrypted(true); // 암호화 등 사용하려 할경우 BouncyCastle(BC) 라이브러리 의존성 주입해야 함. 
+	        
+	        exporter.setConfiguration(reportConf);
+	        exporter.setConfiguration(conf);
+	        
+		    exporter.exportReport();
+	    }
 
 //	    logger.info("Excel report generated successfully");
 	    
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wai.admin.service.reports.calculate.StructureListReportService;
 
@@ -28,13 +29,13 @@ public class StructureListReportController {
 	 * 구조물리스트 엑셀 다운로드 (structure.json 기반)
 	 */
 	@PostMapping("/v1/structurelist")
-	public ResponseEntity<byte[]> downloadStructureListExcel(
+	public ResponseEntity<StreamingResponseBody> downloadStructureListExcel(
 		@RequestBody(required = false) Map<String, Object> params) throws IOException {
 
 		System.out.println("structurelist.xlsx 다운로드");
 		try {
 			// 엑셀 파일 생성 (params 전달하여 jsonUrl 기반으로 생성)
-			byte[] excelBytes = structureListReportService.generateStructureListExcel(params);
+			StreamingResponseBody excelBody = structureListReportService.generateStructureListExcel(params);
 			
 			// 파일명 생성
 			String fileName = "Structure_List_" + 
@@ -44,15 +45,14 @@ public class StructureListReportController {
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
 			headers.setContentDispositionFormData("attachment", fileName);
-			headers.setContentLength(excelBytes.length);
 			
 			return ResponseEntity.ok()
 					.headers(headers)
-					.body(excelBytes);
+					.body(excelBody);
 			
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError()
-					.body(("구조물리스트 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8"));
+					.body(outputStream -> outputStream.write(("구조물리스트 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8")));
 		}
 	}
 
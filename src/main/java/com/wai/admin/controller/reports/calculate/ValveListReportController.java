@@ -9,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wai.admin.service.reports.calculate.ValveListReportService;
 
@@ -28,11 +29,11 @@ public class ValveListReportController {
 	 * 밸브리스트 엑셀 다운로드 (valve.json 기반)
 	 */
 	@GetMapping("/v1/valvelist.xlsx")
-	public ResponseEntity<byte[]> downloadValveListExcel() throws IOException {
+	public ResponseEntity<StreamingResponseBody> downloadValveListExcel() throws IOException {
 
 		try {
 			// 엑셀 파일 생성
-			byte[] excelBytes = valveListService.generateValveListExcel();
+			StreamingResponseBody excelBody = valveListService.generateValveListExcel();
 
 			// 파일명 생성
 			String fileName = "Valve_List_" +
@@ -42,15 +43,14 @@ public class ValveListReportController {
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
 			headers.setContentDispositionFormData("attachment", fileName);
-			headers.setContentLength(excelBytes.length);
 
 			return ResponseEntity.ok()
 					.headers(headers)
-					.body(excelBytes);
+					.body(excelBody);
 
 		} catch (Exception e) {
 			return ResponseEntity.internalServerError()
-					.body(("밸브리스트 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8"));
+					.body(outputStream -> outputStream.write(("밸브리스트 엑셀 파일 생성 중 오류가 발생했습니다: " + e.getMessage()).getBytes("UTF-8")));
 		}
 	}
 
@@ -7,6 +7,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -21,16 +24,12 @@ public class RoleController {
      * 권한 조회
      */
     @PostMapping("/list")
-    public ResponseEntity<Map<String, Object>> searchRoles(
+    public void searchRoles(
             @RequestBody Map<String, Object> searchParams,
-            HttpServletRequest request) {
-        Map<String, Object> result = roleService.searchRoles(searchParams, request);
-        
-        if ((Boolean) result.get("success")) {
-            return ResponseEntity.ok(result);
-        } else {
-            return ResponseEntity.badRequest().body(result);
-        }
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        // 외부 API 응답을 그대로 스트리밍 (성공 200, 실패 400)
+        roleService.searchRoles(searchParams, request, response);
     }
 
     /**
@@ -1,18 +1,23 @@
 package com.wai.admin.service.code;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.wai.admin.service.user.UserService;
+import com.wai.admin.util.CommonCodeUtil;
 import com.wai.admin.util.HttpUtil;
 import com.wai.admin.util.JsonUtil;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 @Service
 public class CodeService {
 
@@ -22,10 +27,15 @@ public class CodeService {
     @Value("${auth.server.base-url}")
     private String authServerBaseUrl;
 
-    public Map<String, Object> getAllCodes(Map<String, Object> searchParams) {
+    @Autowired
+    private CommonCodeUtil commonCodeUtil;
+
+    /**
+     * 코드 목록 조회 - 외부 API 응답을 파싱하지 않고 표준 응답 형태로 감싸 바로 전달 (pass-through)
+     */
+    public void getAllCodes(Map<String, Object> searchParams, HttpServletResponse response) throws IOException {
 
         logger.debug("외부 인증 서버 사용자 목록 조회 시도: server={}, params={}", authServerBaseUrl, searchParams);
-        Map<String, Object> result = new HashMap<>();
         
         // 외부 인증 서버 URL 구성
         String usersUrl = authServerBaseUrl + "/api/v1/common/common_codes/search";
@@ -45,52 +55,9 @@ public class CodeService {
         String requestBody = JsonUtil.objectMapToJson(requestMap);
         logger.debug("코드 목록 조회 요청 본문: {}", requestBody);
         
-        // HttpUtil을 사용하여 POST 요청 수행 (자동 토큰 추출)
-        HttpUtil.HttpResult httpResult = HttpUtil.post(usersUrl, "application/json", requestBody);
-        
-        // 응답 처리
-        if (httpResult.isSuccess()) {
-            // 성공적인 응답 처리
-            String responseBody = httpResult.getBody();
-            Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-            
-            // 디버깅용: 파싱된 응답을 보기 좋게 로그 출력
-            if (parsedResponse != null) {
-                logger.debug("코드 목록 조회 응답:\n{}", JsonUtil.mapToString(parsedResponse));
-            } else {
-                logger.warn("코드 목록 조회 응답 파싱 실패: {}", responseBody);
-            }
-            
-            logger.debug("코드 목록 조회 성공");
-            result.put("success", true);
-            result.put("status", httpResult.getStatus());
-            result.put("message", "messages.success.userListSuccess");
-            result.put("response", parsedResponse);
-        } else {
-            // 에러 응답 처리
-            result.put("success", false);
-            result.put("status", httpResult.getStatus());
-            
-            String responseBody = httpResult.getBody();
-            Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-            
-            // HTTP 에러 응답에서 message 또는 detail 메시지 추출
-            String errorMessage = JsonUtil.extractValue(responseBody, "message");
-            if (errorMessage == null || errorMessage.isEmpty()) {
-                errorMessage = JsonUtil.extractValue(responseBody, "detail");
-            }
-            
-            if (errorMessage == null || errorMessage.isEmpty()) {
-                errorMessage = "messages.error.userListFail";
-            }
-            
-            result.put("message", errorMessage);
-            result.put("response", parsedResponse);
-            
-            logger.warn("외부 인증 서버 코드 목록 조회 실패: {}", errorMessage);
-        }
-        
-        return result;
+        // HttpUtil을 사용하여 POST 요청 수행 후 응답 본문을 그대로 스트리밍 (자동 토큰 추출)
+        HttpUtil.passThrough(usersUrl, "POST", "application/json", requestBody,
+                "messages.success.userListSuccess", "messages.error.userListFail", response);
     }
 
     public Map<String, Object> createCode(Map<String, Object> codeData) {
@@ -122,6 +89,8 @@ public class CodeService {
             Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
             
             logger.debug("코드 등록 성공");
+            // 공통코드 캐시 무효화 (등록된 code_group만)
+            commonCodeUtil.evictCommonCodes(java.util.Objects.toString(codeData.get("code_group"), null));
             result.put("success", true);
             result.put("status", httpResult.getStatus());
             result.put("message", "messages.success.userCreateSuccess");
@@ -186,6 +155,8 @@ public class CodeService {
             Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
             
             logger.debug("코드 수정 성공");
+            // 공통코드 캐시 무효화 (기존 code_group을 알 수 없으므로 전체)
+            commonCodeUtil.evictCommonCodes(null);
             result.put("success", true);
             result.put("status", httpResult.getStatus());
             result.put("message", "messages.success.userUpdateSuccess");
@@ -244,6 +215,8 @@ public class CodeService {
             Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
             
             logger.debug("코드 삭제 성공");
+            // 공통코드 캐시 무효화
+            commonCodeUtil.evictCommonCodes(null);
             result.put("success", true);
             result.put("status", httpResult.getStatus());
             result.put("message", "messages.success.userDeleteSuccess");
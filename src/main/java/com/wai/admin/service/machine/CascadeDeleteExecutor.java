@@ -0,0 +1,188 @@
+package com.wai.admin.service.machine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.wai.admin.util.HttpUtil;
+
+/**
+ * 장비/구조체 삭제 시 관련 파일(Model, RVT, RFA, Symbol, Thumbnail, Formula) 동시 삭제 처리
+ * - 메인 항목 삭제 후 서로 독립적인 파일 삭제를 upstreamExecutor에서 동시에 실행하고 공통 마감 시간까지 대기
+ * - 실패/시간 초과된 파일은 기존과 같은 "{파일} 삭제 실패; " 형식으로 모아서 반환
+ * - 여러 항목 일괄 삭제는 bulkDeleteExecutor(동시 실행 수 제한)에서 항목별로 실행
+ *   (항목 작업이 파일 삭제 작업을 기다리므로 같은 풀을 쓰지 않도록 분리)
+ */
+@Component
+public class CascadeDeleteExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CascadeDeleteExecutor.class);
+
+    @Autowired
+    @Qualifier("upstreamExecutor")
+    private ThreadPoolTaskExecutor upstreamExecutor;
+
+    @Autowired
+    @Qualifier("bulkDeleteExecutor")
+    private ThreadPoolTaskExecutor bulkDeleteExecutor;
+
+    // 관련 파일 삭제 전체에 적용되는 공통 마감 시간
+    @Value("${cascade-delete.file-timeout-ms:30000}")
+    private long fileTimeoutMillis;
+
+    // 일괄 삭제 요청당 최대 항목 수
+    @Value("${cascade-delete.bulk-max-items:200}")
+    private int bulkMaxItems;
+
+    /**
+     * 관련 파일 삭제 작업
+     */
+    public static final class FileDelete {
+        private final String label;
+        private final Supplier<Map<String, Object>> task;
+
+        /**
+         * @param label 오류 메시지에 사용할 파일 구분 (예: "Model 파일")
+         * @param task  삭제 API 호출 (success 키를 포함한 결과 반환)
+         */
+        public FileDelete(String label, Supplier<Map<String, Object>> task) {
+            this.label = label;
+            this.task = task;
+        }
+    }
+
+    /**
+     * 관련 파일 동시 삭제
+     * @param fileDeletes 삭제할 파일 목록 (등록 순서대로 오류 메시지 구성)
+     * @return 실패한 파일 오류 메시지 (모두 성공하면 빈 문자열)
+     */
+    public String deleteFiles(List<FileDelete> fileDeletes) {
+        if (fileDeletes.isEmpty()) {
+            return "";
+        }
+
+        List<Future<Map<String, Object>>> futures = new ArrayList<>();
+        for (FileDelete fileDelete : fileDeletes) {
+            futures.add(upstreamExecutor.submit(fileDelete.task::get));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fileTimeoutMillis);
+        StringBuilder errorMessages = new StringBuilder();
+        for (int i = 0; i < fileDeletes.size(); i++) {
+            FileDelete fileDelete = fileDeletes.get(i);
+            Future<Map<String, Object>> future = futures.get(i);
+            try {
+                Map<String, Object> fileResult = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!Boolean.TRUE.equals(fileResult.get("success"))) {
+                    errorMessages.append(fileDelete.label).append(" 삭제 실패; ");
+                }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                logger.error("{} 삭제 시간 초과: {}ms", fileDelete.label, fileTimeoutMillis);
+                errorMessages.append(fileDelete.label).append(" 삭제 실패(시간 초과); ");
+            } catch (ExecutionException e) {
+                logger.error("{} 삭제 중 예외 발생: {}", fileDelete.label, e.getCause().getMessage(), e.getCause());
+                errorMessages.append(fileDelete.label).append(" 삭제 실패; ");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                errorMessages.append(fileDelete.label).append(" 삭제 실패; ");
+            }
+        }
+        // 병렬 삭제 호출에서 받은 외부 API Set-Cookie 전달 (일괄 삭제 작업 스레드에서는 요청 스레드가 전달)
+        HttpUtil.forwardDeferredCookies();
+        return errorMessages.toString();
+    }
+
+    /**
+     * 여러 항목 일괄 삭제 (항목별 삭제는 동시 실행 수 제한 내에서 병렬 실행)
+     * @param items 삭제 항목 목록 (id + 항목별 삭제 파라미터)
+     * @param deleteOne 단건 삭제 (id, 삭제 파라미터) → 단건 삭제 결과
+     * @return 항목별 삭제 결과 (response: [{id, success, message}])
+     */
+    public Map<String, Object> deleteAll(List<Map<String, Object>> items,
+            BiFunction<String, Map<String, Object>, Map<String, Object>> deleteOne) {
+        Map<String, Object> result = new HashMap<>();
+
+        if (items == null || items.isEmpty()) {
+            result.put("success", false);
+            result.put("statusCode", 400);
+            result.put("message", "삭제할 항목(items)이 필요합니다.");
+            return result;
+        }
+        if (items.size() > bulkMaxItems) {
+            result.put("success", false);
+            result.put("statusCode", 400);
+            result.put("message", "한 번에 삭제할 수 있는 항목은 최대 " + bulkMaxItems + "건입니다.");
+            return result;
+        }
+
+        Map<String, CompletableFuture<Map<String, Object>>> futures = new LinkedHashMap<>();
+        for (Object element : items) {
+            if (!(element instanceof Map)) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> item = (Map<String, Object>) element;
+            Object id = item.get("id");
+            if (id == null || id.toString().trim().isEmpty() || futures.containsKey(id.toString())) {
+                continue;
+            }
+            String itemId = id.toString();
+            futures.put(itemId, CompletableFuture.supplyAsync(() -> deleteOne.apply(itemId, item), bulkDeleteExecutor));
+        }
+
+        List<Map<String, Object>> itemResults = new ArrayList<>();
+        int successCount = 0;
+        for (Map.Entry<String, CompletableFuture<Map<String, Object>>> entry : futures.entrySet()) {
+            Map<String, Object> itemResult = new HashMap<>();
+            itemResult.put("id", entry.getKey());
+            try {
+                Map<String, Object> deleteResult = entry.getValue().join();
+                boolean success = Boolean.TRUE.equals(deleteResult.get("success"));
+                itemResult.put("success", success);
+                itemResult.put("message", deleteResult.get("message"));
+                if (success) {
+                    successCount++;
+                }
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.error("일괄 삭제 중 예외 발생: id={}, error={}", entry.getKey(), cause.getMessage(), cause);
+                itemResult.put("success", false);
+                itemResult.put("message", "삭제 처리 중 오류가 발생했습니다: " + cause.getMessage());
+            }
+            itemResults.add(itemResult);
+        }
+
+        HttpUtil.forwardDeferredCookies();
+
+        int failCount = itemResults.size() - successCount;
+        logger.debug("일괄 삭제 완료: total={}, success={}, fail={}", itemResults.size(), successCount, failCount);
+
+        result.put("success", true);
+        result.put("message", failCount == 0
+                ? itemResults.size() + "건이 모두 삭제되었습니다."
+                : itemResults.size() + "건 중 " + failCount + "건 삭제에 실패했습니다.");
+        result.put("success_count", successCount);
+        result.put("fail_count", failCount);
+        result.put("response", itemResults);
+        return result;
+    }
+}
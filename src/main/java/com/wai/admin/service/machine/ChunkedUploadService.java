@@ -0,0 +1,617 @@
+package com.wai.admin.service.machine;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.wai.admin.service.user.UserIdentityService;
+import com.wai.admin.util.AuthContext;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 대용량 3D 모델/ZIP 파일 분할(chunk) 업로드 서비스
+ * - init: 업로드 세션 생성 및 로컬 디스크에 전체 크기의 파일 할당
+ * - chunk: 조각을 임시 파일로 받아 크기/SHA-256 체크섬 검증 후 offset 위치에 반영 (순서 무관/병렬 업로드 가능)
+ * - status: 수신 완료된 조각 목록 조회 (연결이 끊긴 경우 누락된 조각만 재전송)
+ * - complete: 모든 조각 수신 확인 후 기존 업로드 서비스로 외부 저장소에 전달
+ * 세션 정보는 메모리에 보관하므로 동일 서버 인스턴스로 요청되어야 함
+ * 세션은 생성한 사용자에게만 노출 (다른 사용자의 upload_id로는 조각 기록/조회/완료/취소 불가)
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @Value("${upload.chunked.dir:${java.io.tmpdir}/wai-chunked-upload}")
+    private String uploadDir;
+
+    @Value("${upload.chunked.default-chunk-bytes:8388608}")
+    private long defaultChunkBytes;
+
+    @Value("${upload.chunked.max-chunk-bytes:67108864}")
+    private long maxChunkBytes;
+
+    @Value("${upload.chunked.max-file-bytes:10737418240}")
+    private long maxFileBytes;
+
+    // 마지막 요청 후 이 시간이 지난 세션은 삭제
+    @Value("${upload.chunked.expire-minutes:60}")
+    private long expireMinutes;
+
+    @Autowired
+    private Asset3DService asset3DService;
+
+    @Autowired
+    private MachineService machineService;
+
+    @Autowired
+    private PipeService pipeService;
+
+    @Autowired
+    private ElectricalService electricalService;
+
+    @Autowired
+    private MeasurementService measurementService;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    private Path uploadRoot;
+
+    // upload_id -> 업로드 세션
+    private final Map<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() throws IOException {
+        uploadRoot = Paths.get(uploadDir);
+        Files.createDirectories(uploadRoot);
+
+        // 세션 정보는 메모리에만 있으므로 이전 실행에서 남은 파일 정리
+        try (Stream<Path> files = Files.list(uploadRoot)) {
+            files.forEach(this::deleteQuietly);
+        }
+        logger.info("분할 업로드 초기화: dir={}, maxChunkBytes={}, maxFileBytes={}", uploadRoot, maxChunkBytes, maxFileBytes);
+    }
+
+    /**
+     * 업로드 세션 생성
+     *
+     * @param params file_name, file_size, chunk_size(선택), target(library_model, machine, pipe, electrical, measurement),
+     *               library_id(target이 library_model인 경우) 또는 machine_name(그 외)
+     * @return upload_id, chunk_size, total_chunks
+     */
+    public Map<String, Object> initUpload(Map<String, Object> params) {
+        Map<String, Object> result = new HashMap<>();
+        purgeExpiredSessions();
+
+        String fileName = params.get("file_name") != null ? params.get("file_name").toString().trim() : "";
+        String target = params.get("target") != null ? params.get("target").toString().trim() : "";
+        String targetId = "library_model".equals(target) ? stringParam(params, "library_id") : stringParam(params, "machine_name");
+        long fileSize = longParam(params, "file_size", -1);
+        long chunkSize = longParam(params, "chunk_size", defaultChunkBytes);
+
+        if (fileName.isEmpty() || fileSize <= 0) {
+            return fail(result, 400, "file_name, file_size가 필요합니다.");
+        }
+        if (!isSupportedTarget(target)) {
+            return fail(result, 400, "지원하지 않는 업로드 대상입니다: " + target);
+        }
+        if (targetId == null || targetId.isEmpty()) {
+            return fail(result, 400, "library_model".equals(target) ? "library_id가 필요합니다." : "machine_name이 필요합니다.");
+        }
+        if (fileSize > maxFileBytes) {
+            return fail(result, 413, "업로드 가능한 최대 파일 크기를 초과했습니다.");
+        }
+        if (chunkSize <= 0 || chunkSize > maxChunkBytes) {
+            return fail(result, 400, "chunk_size는 1 ~ " + maxChunkBytes + " bytes 사이여야 합니다.");
+        }
+        String ownerKey = userIdentityService.resolve(AuthContext.current());
+        if (ownerKey == null) {
+            return fail(result, 401, "인증 정보가 유효하지 않습니다. 다시 로그인해 주세요.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        Path sessionDir = uploadRoot.resolve(uploadId);
+        try {
+            Files.createDirectories(sessionDir);
+            Path dataFile = sessionDir.resolve("data.part");
+            // 병렬로 도착하는 조각을 각 offset에 바로 기록할 수 있도록 전체 크기로 할당
+            try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(1), fileSize - 1);
+            }
+
+            int totalChunks = (int) ((fileSize + chunkSize - 1) / chunkSize);
+            UploadSession session = new UploadSession(uploadId, ownerKey, fileName, fileSize, chunkSize, totalChunks,
+                    target, targetId, sessionDir, dataFile);
+            sessions.put(uploadId, session);
+
+            logger.info("분할 업로드 시작: uploadId={}, fileName={}, fileSize={}, chunkSize={}, totalChunks={}, target={}",
+                    uploadId, fileName, fileSize, chunkSize, totalChunks, target);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("upload_id", uploadId);
+            response.put("chunk_size", chunkSize);
+            response.put("total_chunks", totalChunks);
+            result.put("success", true);
+            result.put("status", 200);
+            result.put("message", "분할 업로드가 시작되었습니다.");
+            result.put("response", response);
+        } catch (IOException e) {
+            logger.error("분할 업로드 세션 생성 실패: fileName={}", fileName, e);
+            deleteQuietly(sessionDir);
+            return fail(result, 500, "분할 업로드 세션 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 조각 기록
+     *
+     * @param uploadId      업로드 ID
+     * @param offset        조각 시작 위치 (chunk_size의 배수)
+     * @param checksum      조각의 SHA-256 (hex, 선택)
+     * @param contentLength 요청 본문 길이 (알 수 없으면 -1)
+     * @param body          조각 데이터
+     * @return 수신된 조각 수
+     */
+    public Map<String, Object> putChunk(String uploadId, long offset, String checksum, long contentLength, InputStream body) {
+        Map<String, Object> result = new HashMap<>();
+        UploadSession session = findSession(uploadId);
+        if (session == null) {
+            return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        if (offset < 0 || offset >= session.fileSize || offset % session.chunkSize != 0) {
+            return fail(result, 400, "잘못된 offset입니다: " + offset);
+        }
+
+        int chunkIndex = (int) (offset / session.chunkSize);
+        long expectedLength = Math.min(session.chunkSize, session.fileSize - offset);
+        if (contentLength >= 0 && contentLength != expectedLength) {
+            return fail(result, 400, "조각 크기가 올바르지 않습니다. expected=" + expectedLength + ", actual=" + contentLength);
+        }
+        session.touch();
+
+        // 조각을 먼저 별도 임시 파일로 받아 크기/체크섬을 확인한 후에만 data.part에 반영
+        // (이미 수신된 조각의 재전송이 실패/중단되어도 기존 조각과 수신 표시가 손상되지 않음)
+        Path chunkFile = session.sessionDir.resolve("chunk-" + chunkIndex + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(chunkFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                int read;
+                while ((read = body.read(buffer)) >= 0) {
+                    if (written + read > expectedLength) {
+                        return fail(result, 400, "조각 크기가 올바르지 않습니다. expected=" + expectedLength);
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                    while (byteBuffer.hasRemaining()) {
+                        written += channel.write(byteBuffer);
+                    }
+                }
+            }
+            if (written != expectedLength) {
+                return fail(result, 400, "조각 크기가 올바르지 않습니다. expected=" + expectedLength + ", actual=" + written);
+            }
+
+            String actualChecksum = HexFormat.of().formatHex(digest.digest());
+            if (checksum != null && !checksum.isEmpty() && !checksum.equalsIgnoreCase(actualChecksum)) {
+                logger.warn("분할 업로드 조각 체크섬 불일치: uploadId={}, chunk={}, expected={}, actual={}",
+                        uploadId, chunkIndex, checksum, actualChecksum);
+                return fail(result, 422, "조각 체크섬이 일치하지 않습니다. 다시 전송해 주세요.");
+            }
+
+            // 반영/수신 표시는 완료 처리(completeUpload)와 같은 세션 락 안에서 수행하여
+            // 조립 중인 파일에 조각이 기록되거나 완료된 세션에 조각이 반영되지 않도록 함
+            int receivedCount;
+            session.lock.lock();
+            try {
+                if (sessions.get(uploadId) != session) {
+                    return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+                }
+                copyChunk(chunkFile, session.dataFile, offset, written);
+                receivedCount = session.markReceived(chunkIndex);
+            } finally {
+                session.lock.unlock();
+            }
+            logger.debug("분할 업로드 조각 수신: uploadId={}, chunk={}/{}, size={}",
+                    uploadId, chunkIndex + 1, session.totalChunks, written);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("upload_id", uploadId);
+            response.put("chunk_index", chunkIndex);
+            response.put("checksum", actualChecksum);
+            response.put("received_chunks", receivedCount);
+            response.put("total_chunks", session.totalChunks);
+            result.put("success", true);
+            result.put("status", 200);
+            result.put("message", "조각 업로드가 완료되었습니다.");
+            result.put("response", response);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            if (sessions.get(uploadId) != session) {
+                // 조각 수신 중 세션이 완료/취소/만료되어 세션 디렉토리가 삭제된 경우
+                return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+            }
+            logger.error("분할 업로드 조각 기록 실패: uploadId={}, offset={}", uploadId, offset, e);
+            return fail(result, 500, "조각 기록 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            deleteQuietly(chunkFile);
+        }
+        return result;
+    }
+
+    /**
+     * 검증된 조각 임시 파일을 data.part의 offset 위치에 복사
+     */
+    private void copyChunk(Path chunkFile, Path dataFile, long offset, long length) throws IOException {
+        try (FileChannel source = FileChannel.open(chunkFile, StandardOpenOption.READ);
+                FileChannel target = FileChannel.open(dataFile, StandardOpenOption.WRITE)) {
+            long copied = 0;
+            while (copied < length) {
+                long transferred = target.transferFrom(source, offset + copied, length - copied);
+                if (transferred <= 0) {
+                    throw new IOException("조각 복사가 중단되었습니다. copied=" + copied + ", length=" + length);
+                }
+                copied += transferred;
+            }
+        }
+    }
+
+    /**
+     * 업로드 진행 상태 조회 (이어 올리기용)
+     *
+     * @param uploadId 업로드 ID
+     * @return 수신 완료/누락 조각 목록
+     */
+    public Map<String, Object> getStatus(String uploadId) {
+        Map<String, Object> result = new HashMap<>();
+        UploadSession session = findSession(uploadId);
+        if (session == null) {
+            return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        session.touch();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("upload_id", uploadId);
+        response.put("file_name", session.fileName);
+        response.put("file_size", session.fileSize);
+        response.put("chunk_size", session.chunkSize);
+        response.put("total_chunks", session.totalChunks);
+        response.put("missing_chunks", session.missingChunks());
+        result.put("success", true);
+        result.put("status", 200);
+        result.put("message", "업로드 상태 조회가 완료되었습니다.");
+        result.put("response", response);
+        return result;
+    }
+
+    /**
+     * 업로드 완료 - 모든 조각 수신 확인 후 외부 저장소로 전달
+     *
+     * @param uploadId 업로드 ID
+     * @return 기존 업로드 API와 동일한 결과
+     */
+    public Map<String, Object> completeUpload(String uploadId) {
+        Map<String, Object> result = new HashMap<>();
+        UploadSession session = findSession(uploadId);
+        if (session == null) {
+            return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+
+        // 조립된 파일을 외부 저장소로 전달하기 시작했는지 여부 (그 전에 끝나면 세션을 유지하여 이어 올리기 가능)
+        boolean forwarding = false;
+        session.lock.lock();
+        try {
+            session.touch();
+            List<Integer> missing = session.missingChunks();
+            if (!missing.isEmpty()) {
+                result.put("response", Map.of("missing_chunks", missing));
+                return fail(result, 409, "아직 수신되지 않은 조각이 있습니다.");
+            }
+            if (!sessions.containsKey(uploadId)) {
+                return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+            }
+
+            // 원본 파일명으로 변경 (외부 API에 전달되는 파일명 유지)
+            Path assembled = session.sessionDir.resolve(sanitizeFileName(session.fileName));
+            Files.move(session.dataFile, assembled, StandardCopyOption.REPLACE_EXISTING);
+            forwarding = true;
+            logger.info("분할 업로드 조립 완료, 외부 저장소로 전달: uploadId={}, file={}, size={}",
+                    uploadId, session.fileName, session.fileSize);
+
+            MultipartFile file = new FileMultipartFile(session.fileName, assembled);
+            switch (session.target) {
+                case "library_model":
+                    result = asset3DService.uploadLibraryModel(file, session.targetId);
+                    break;
+                case "machine":
+                    result = machineService.uploadModelZip(session.targetId, file);
+                    break;
+                case "pipe":
+                    result = pipeService.uploadModelZip(session.targetId, file);
+                    break;
+                case "electrical":
+                    result = electricalService.uploadModelZip(session.targetId, file);
+                    break;
+                case "measurement":
+                    result = measurementService.uploadModelZip(session.targetId, file);
+                    break;
+                default:
+                    return fail(result, 400, "지원하지 않는 업로드 대상입니다: " + session.target);
+            }
+        } catch (IOException e) {
+            logger.error("분할 업로드 완료 처리 실패: uploadId={}", uploadId, e);
+            return fail(result, 500, "업로드 완료 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } finally {
+            // 전달을 시도한 경우 결과와 관계없이 로컬 파일 정리 (실패 시 클라이언트가 다시 업로드)
+            if (forwarding) {
+                sessions.remove(uploadId);
+                deleteQuietly(session.sessionDir);
+            }
+            session.lock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 업로드 취소
+     *
+     * @param uploadId 업로드 ID
+     */
+    public Map<String, Object> abortUpload(String uploadId) {
+        Map<String, Object> result = new HashMap<>();
+        UploadSession session = findSession(uploadId);
+        if (session == null) {
+            return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+        }
+        // 조각 반영/완료 처리 중인 경우 끝날 때까지 대기
+        session.lock.lock();
+        try {
+            if (!sessions.remove(uploadId, session)) {
+                return fail(result, 404, "업로드 세션을 찾을 수 없습니다: " + uploadId);
+            }
+            deleteQuietly(session.sessionDir);
+        } finally {
+            session.lock.unlock();
+        }
+        logger.info("분할 업로드 취소: uploadId={}", uploadId);
+
+        result.put("success", true);
+        result.put("status", 200);
+        result.put("message", "업로드가 취소되었습니다.");
+        return result;
+    }
+
+    /**
+     * 요청 사용자의 업로드 세션 조회
+     * - 다른 사용자(또는 유효하지 않은 토큰)의 요청에는 존재 여부도 노출하지 않음
+     */
+    private UploadSession findSession(String uploadId) {
+        UploadSession session = uploadId != null ? sessions.get(uploadId) : null;
+        if (session == null) {
+            return null;
+        }
+        if (!session.ownerKey.equals(userIdentityService.resolve(AuthContext.current()))) {
+            logger.warn("다른 사용자의 분할 업로드 세션 접근 거부: uploadId={}", uploadId);
+            return null;
+        }
+        return session;
+    }
+
+    /**
+     * 만료된 세션 정리
+     */
+    private void purgeExpiredSessions() {
+        long expireBefore = System.currentTimeMillis() - expireMinutes * 60_000L;
+        for (UploadSession session : new ArrayList<>(sessions.values())) {
+            if (session.lastAccess < expireBefore && sessions.remove(session.uploadId, session)) {
+                deleteQuietly(session.sessionDir);
+                logger.info("만료된 분할 업로드 세션 삭제: uploadId={}, fileName={}", session.uploadId, session.fileName);
+            }
+        }
+    }
+
+    private boolean isSupportedTarget(String target) {
+        switch (target) {
+            case "library_model":
+            case "machine":
+            case "pipe":
+            case "electrical":
+            case "measurement":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private String sanitizeFileName(String fileName) {
+        String name = Paths.get(fileName).getFileName().toString();
+        return name.isEmpty() || "data.part".equals(name) ? "upload.bin" : name;
+    }
+
+    private String stringParam(Map<String, Object> params, String key) {
+        Object value = params.get(key);
+        return value != null ? value.toString().trim() : null;
+    }
+
+    private long longParam(Map<String, Object> params, String key, long defaultValue) {
+        Object value = params.get(key);
+        if (value == null || value.toString().trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private Map<String, Object> fail(Map<String, Object> result, int status, String message) {
+        result.put("success", false);
+        result.put("status", status);
+        result.put("message", message);
+        return result;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> children = Files.list(path)) {
+                    children.forEach(this::deleteQuietly);
+                }
+            }
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("분할 업로드 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 업로드 세션 (메모리 보관)
+     */
+    private static class UploadSession {
+        private final String uploadId;
+        private final String ownerKey;
+        private final String fileName;
+        private final long fileSize;
+        private final long chunkSize;
+        private final int totalChunks;
+        private final String target;
+        private final String targetId;
+        private final Path sessionDir;
+        private final Path dataFile;
+        private final BitSet received;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long lastAccess;
+
+        UploadSession(String uploadId, String ownerKey, String fileName, long fileSize, long chunkSize, int totalChunks,
+                String target, String targetId, Path sessionDir, Path dataFile) {
+            this.uploadId = uploadId;
+            this.ownerKey = ownerKey;
+            this.fileName = fileName;
+            this.fileSize = fileSize;
+            this.chunkSize = chunkSize;
+            this.totalChunks = totalChunks;
+            this.target = target;
+            this.targetId = targetId;
+            this.sessionDir = sessionDir;
+            this.dataFile = dataFile;
+            this.received = new BitSet(totalChunks);
+            this.lastAccess = System.currentTimeMillis();
+        }
+
+        void touch() {
+            lastAccess = System.currentTimeMillis();
+        }
+
+        int markReceived(int chunkIndex) {
+            lock.lock();
+            try {
+                received.set(chunkIndex);
+                return received.cardinality();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Integer> missingChunks() {
+            lock.lock();
+            try {
+                List<Integer> missing = new ArrayList<>();
+                for (int i = received.nextClearBit(0); i < totalChunks; i = received.nextClearBit(i + 1)) {
+                    missing.add(i);
+                }
+                return missing;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 조립된 로컬 파일을 기존 업로드 서비스에 전달하기 위한 MultipartFile 구현
+     */
+    private static class FileMultipartFile implements MultipartFile {
+        private final String originalFilename;
+        private final Path path;
+
+        FileMultipartFile(String originalFilename, Path path) {
+            this.originalFilename = originalFilename;
+            this.path = path;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return originalFilename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                return 0;
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -29,6 +29,9 @@ public class PipeService {
     @Autowired
     private CommonCodeUtil commonCodeUtil;
 
+    @Autowired
+    private CascadeDeleteExecutor cascadeDeleteExecutor;
+
     /**
      * 공통 코드 조회 - 여러 API 호출하여 통합 결과 반환
      */
@@ -555,55 +558,41 @@ public class PipeService {
             Map<String, Object> deleteResult = deleteEquipmentFromAPI(equipmentId);
 
             if ((Boolean) deleteResult.get("success")) {
-                // 2. 파이프 삭제 성공 시 파일들 순차적 삭제
-                boolean allFilesDeleted = true;
-                StringBuilder errorMessages = new StringBuilder();
+                // 2. 파이프 삭제 성공 시 관련 파일들 동시 삭제 (공통 마감 시간 내)
+                List<CascadeDeleteExecutor.FileDelete> fileDeletes = new ArrayList<>();
 
                 // Model 파일 삭제
                 String modelFileId = (String) deleteParams.get("model_file_id");
                 if (modelFileId != null && !modelFileId.trim().isEmpty()) {
-                    Map<String, Object> modelResult = deleteModelFile(equipmentId, modelFileId);
-                    if (!(Boolean) modelResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("Model 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("Model 파일", () -> deleteModelFile(equipmentId, modelFileId)));
                 }
 
                 // RVT 파일 삭제
                 String rvtFileId = (String) deleteParams.get("rvt_file_id");
                 if (rvtFileId != null && !rvtFileId.trim().isEmpty()) {
-                    Map<String, Object> rvtResult = deleteRvtFile(equipmentId, rvtFileId);
-                    if (!(Boolean) rvtResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("RVT 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("RVT 파일", () -> deleteRvtFile(equipmentId, rvtFileId)));
                 }
 
                 // Symbol 파일 삭제
                 String symbolId = (String) deleteParams.get("symbol_id");
                 if (symbolId != null && !symbolId.trim().isEmpty()) {
-                    Map<String, Object> symbolResult = deleteSymbolFile(equipmentId, symbolId);
-                    if (!(Boolean) symbolResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("Symbol 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("Symbol 파일", () -> deleteSymbolFile(equipmentId, symbolId)));
                 }
 
                 // Thumbnail 파일 삭제
                 String thumbnailId = (String) deleteParams.get("thumbnail_id");
                 if (thumbnailId != null && !thumbnailId.trim().isEmpty()) {
-                    Map<String, Object> thumbResult = deleteThumbnailFile(equipmentId, thumbnailId);
-                    if (!(Boolean) thumbResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("Thumbnail 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("Thumbnail 파일", () -> deleteThumbnailFile(equipmentId, thumbnailId)));
                 }
 
+                String errorMessages = cascadeDeleteExecutor.deleteFiles(fileDeletes);
+                boolean allFilesDeleted = errorMessages.isEmpty();
+
                 result.put("success", true);
                 if (allFilesDeleted) {
                     result.put("message", "파이프와 모든 관련 파일이 성공적으로 삭제되었습니다.");
                 } else {
-                    result.put("message", "파이프는 삭제되었지만 일부 파일 삭제에 실패했습니다: " + errorMessages.toString());
+                    result.put("message", "파이프는 삭제되었지만 일부 파일 삭제에 실패했습니다: " + errorMessages);
                 }
                 result.put("data", deleteResult.get("data"));
 
@@ -623,6 +612,15 @@ public class PipeService {
         return result;
     }
 
+    /**
+     * 파이프 일괄 삭제 - 항목별 deletePipe 결과를 모아서 반환 (동시 실행 수 제한)
+     * @param items [{id, 항목별 삭제 파라미터(파일 ID 등)}]
+     */
+    public Map<String, Object> deletePipes(List<Map<String, Object>> items) {
+        logger.debug("파이프 일괄 삭제 처리 시작: count={}", items != null ? items.size() : 0);
+        return cascadeDeleteExecutor.deleteAll(items, this::deletePipe);
+    }
+
     /**
      * 파이프 삭제 API 호출 - 실제 DELETE 요청
      */
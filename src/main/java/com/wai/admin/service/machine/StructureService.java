@@ -27,6 +27,9 @@ public class StructureService {
     @Autowired
     private CommonCodeUtil commonCodeUtil;
 
+    @Autowired
+    private CascadeDeleteExecutor cascadeDeleteExecutor;
+
     /**
      * 공통 코드 조회 - 여러 API 호출하여 통합 결과 반환
      */
@@ -385,55 +388,41 @@ public class StructureService {
             Map<String, Object> deleteResult = deleteStructureFromAPI(structureId);
             
             if ((Boolean) deleteResult.get("success")) {
-                // 2. 구조체 삭제 성공 시 파일들 순차적 삭제
-                boolean allFilesDeleted = true;
-                StringBuilder errorMessages = new StringBuilder();
+                // 2. 구조체 삭제 성공 시 관련 파일들 동시 삭제 (공통 마감 시간 내)
+                List<CascadeDeleteExecutor.FileDelete> fileDeletes = new ArrayList<>();
                 
                 // DTD 모델 파일 삭제
                 String dtdxModelFileId = (String) deleteParams.get("dtdx_model_file_id");
                 if (dtdxModelFileId != null && !dtdxModelFileId.trim().isEmpty()) {
-                    Map<String, Object> dtdxResult = deleteModelFile(structureId, dtdxModelFileId);
-                    if (!(Boolean) dtdxResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("DTD 모델 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("DTD 모델 파일", () -> deleteModelFile(structureId, dtdxModelFileId)));
                 }
                 
                 // RVT 파일 삭제
                 String rvtModelFileId = (String) deleteParams.get("rvt_model_file_id");
                 if (rvtModelFileId != null && !rvtModelFileId.trim().isEmpty()) {
-                    Map<String, Object> rvtResult = deleteRvtFile(structureId, rvtModelFileId);
-                    if (!(Boolean) rvtResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("RVT 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("RVT 파일", () -> deleteRvtFile(structureId, rvtModelFileId)));
                 }
                 
                 // 썸네일 파일 삭제
                 String thumbnailSymbolId = (String) deleteParams.get("thumbnail_symbol_id");
                 if (thumbnailSymbolId != null && !thumbnailSymbolId.trim().isEmpty()) {
-                    Map<String, Object> thumbResult = deleteThumbnailFile(structureId, thumbnailSymbolId);
-                    if (!(Boolean) thumbResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("썸네일 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("썸네일 파일", () -> deleteThumbnailFile(structureId, thumbnailSymbolId)));
                 }
                 
                 // 공식 파일 삭제
                 String formulaId = (String) deleteParams.get("formula_id");
                 if (formulaId != null && !formulaId.trim().isEmpty()) {
-                    Map<String, Object> formulaResult = deleteFormulaFile(structureId, formulaId);
-                    if (!(Boolean) formulaResult.get("success")) {
-                        allFilesDeleted = false;
-                        errorMessages.append("공식 파일 삭제 실패; ");
-                    }
+                    fileDeletes.add(new CascadeDeleteExecutor.FileDelete("공식 파일", () -> deleteFormulaFile(structureId, formulaId)));
                 }
                 
+                String errorMessages = cascadeDeleteExecutor.deleteFiles(fileDeletes);
+                boolean allFilesDeleted = errorMessages.isEmpty();
+
                 result.put("success", true);
                 if (allFilesDeleted) {
                     result.put("message", "구조체와 모든 관련 파일이 성공적으로 삭제되었습니다.");
                 } else {
-                    result.put("message", "구조체는 삭제되었지만 일부 파일 삭제에 실패했습니다: " + errorMessages.toString());
+                    result.put("message", "구조체는 삭제되었지만 일부 파일 삭제에 실패했습니다: " + errorMessages);
                 }
                 result.put("data", deleteResult.get("data"));
                 
@@ -453,6 +442,15 @@ public class StructureService {
         return result;
     }
 
+    /**
+     * 구조체 일괄 삭제 - 항목별 deleteStructure 결과를 모아서 반환 (동시 실행 수 제한)
+     * @param items [{id, 항목별 삭제 파라미터(파일 ID 등)}]
+     */
+    public Map<String, Object> deleteStructures(List<Map<String, Object>> items) {
+        logger.debug("구조체 일괄 삭제 처리 시작: count={}", items != null ? items.size() : 0);
+        return cascadeDeleteExecutor.deleteAll(items, this::deleteStructure);
+    }
+
     /**
      * 구조체 삭제 API 호출 - 실제 DELETE 요청
      */
@@ -2,6 +2,7 @@ package com.wai.admin.service.process;
 
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
@@ -12,6 +13,9 @@ import org.springframework.beans.factory.annotation.Value;
 import com.wai.admin.util.JsonUtil;
 import com.wai.admin.util.HttpUtil;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 @Service
 public class ProcessService {
 
@@ -4967,244 +4971,42 @@ public class ProcessService {
     }
 
     /**
-     * 심볼 다운로드 URL 조회
-     * 
+     * 심볼 파일 스트리밍 다운로드 (Range 요청 지원)
+     *
      * @param symbolId 다운로드할 심볼 ID
-     * @return 다운로드 URL과 파일 정보
+     * @param request  클라이언트 요청 (Range 헤더 전달용)
+     * @param response 파일을 기록할 응답
      */
-    public Map<String, Object> getSymbolDownload(String symbolId) {
-        logger.debug("심볼 다운로드 URL 조회 API 호출: symbol_id={}", symbolId);
-        Map<String, Object> result = new HashMap<>();
-
-        if (symbolId == null || symbolId.trim().isEmpty()) {
-            logger.warn("심볼 다운로드 URL 조회 실패: 심볼 ID가 null이거나 비어있음");
-            result.put("success", false);
-            result.put("message", "messages.error.invalidSymbolId");
-            return result;
-        }
-
-        try {
-            // symbolId를 문자열로 명시적 변환 (UUID 객체 처리 문제 해결)
-            String symbolIdStr = symbolId.toString().trim();
-            logger.debug("변환된 symbolId: {}", symbolIdStr);
-
-            // 외부 인증 서버 URL 구성
-            String apiUrl = authServerBaseUrl + "/api/v1/minio/symbols/download/" + symbolIdStr;
-            logger.debug("심볼 다운로드 URL: {}", apiUrl);
-
-            // HttpUtil을 사용하여 GET 요청 수행 (자동 토큰 추출)
-            HttpUtil.HttpResult httpResult = HttpUtil.get(apiUrl, "application/json", null);
-
-            // 응답 처리
-            if (httpResult.isSuccess()) {
-                // 성공적인 응답 처리
-                String responseBody = httpResult.getBody();
-
-                logger.debug("심볼 다운로드 URL 조회 성공");
-                result.put("success", true);
-                result.put("status", httpResult.getStatus());
-                result.put("message", "messages.success.symbolDownloadUrlSuccess");
-                result.put("download_url", apiUrl);
-                result.put("response_body", responseBody);
-
-                // 다운로드 URL만 반환 (헤더 정보는 HttpUtil에서 제공하지 않음)
-                logger.debug("다운로드 URL 생성 완료: {}", apiUrl);
-
-            } else {
-                // 에러 응답 처리
-                String responseBody = httpResult.getBody();
-                Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-
-                String errorMessage = httpResult.getExtractedErrorMessage();
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "message");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "detail");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = "심볼 다운로드 URL 조회에 실패했습니다.";
-                }
-
-                result.put("success", false);
-                result.put("status", httpResult.getStatus());
-                result.put("message", errorMessage);
-                result.put("response", parsedResponse);
-
-                logger.warn("외부 인증 서버 심볼 다운로드 URL 조회 실패: {}", errorMessage);
-            }
-
-        } catch (Exception e) {
-            logger.error("심볼 다운로드 URL 조회 API 호출 중 오류 발생", e);
-            result.put("success", false);
-            result.put("message", "심볼 다운로드 URL 조회 API 호출 중 오류가 발생했습니다: " + e.getMessage());
-        }
-
-        return result;
+    public void streamSymbolDownload(String symbolId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String apiUrl = authServerBaseUrl + "/api/v1/minio/symbols/download/" + symbolId.trim();
+        logger.debug("심볼 파일 스트리밍 다운로드: {}", apiUrl);
+        HttpUtil.streamDownload(apiUrl, "messages.success.symbolDownloadUrlSuccess", "심볼 다운로드에 실패했습니다.", request, response);
     }
 
     /**
-     * 계산식 다운로드 URL 조회
-     * 
+     * 계산식 파일 스트리밍 다운로드 (Range 요청 지원)
+     *
      * @param formulaId 다운로드할 계산식 ID
-     * @return 다운로드 URL과 파일 정보
+     * @param request   클라이언트 요청 (Range 헤더 전달용)
+     * @param response  파일을 기록할 응답
      */
-    public Map<String, Object> getFormulaDownload(String formulaId) {
-        logger.debug("계산식 다운로드 URL 조회 API 호출: formula_id={}", formulaId);
-        Map<String, Object> result = new HashMap<>();
-
-        if (formulaId == null || formulaId.trim().isEmpty()) {
-            logger.warn("계산식 다운로드 URL 조회 실패: 계산식 ID가 null이거나 비어있음");
-            result.put("success", false);
-            result.put("message", "messages.error.invalidFormulaId");
-            return result;
-        }
-
-        try {
-            // formulaId를 문자열로 명시적 변환 (UUID 객체 처리 문제 해결)
-            String formulaIdStr = formulaId.toString().trim();
-            logger.debug("변환된 formulaId: {}", formulaIdStr);
-
-            // 외부 인증 서버 URL 구성
-            String apiUrl = authServerBaseUrl + "/api/v1/minio/formula/download/" + formulaIdStr;
-            logger.debug("계산식 다운로드 URL: {}", apiUrl);
-
-            // HttpUtil을 사용하여 GET 요청 수행 (자동 토큰 추출)
-            HttpUtil.HttpResult httpResult = HttpUtil.get(apiUrl, "application/json", null);
-
-            // 디버깅을 위한 상세 로깅
-            logger.debug("HTTP 응답 상태: {}", httpResult.getStatus());
-            logger.debug("HTTP 응답 본문: {}", httpResult.getBody());
-            logger.debug("HTTP 응답 성공 여부: {}", httpResult.isSuccess());
-
-            // 응답 처리
-            if (httpResult.isSuccess()) {
-                // 성공적인 응답 처리
-                String responseBody = httpResult.getBody();
-
-                logger.debug("계산식 다운로드 URL 조회 성공");
-                result.put("success", true);
-                result.put("status", httpResult.getStatus());
-                result.put("message", "messages.success.formulaDownloadUrlSuccess");
-                result.put("download_url", apiUrl);
-                result.put("response_body", responseBody);
-
-                // 다운로드 URL만 반환 (헤더 정보는 HttpUtil에서 제공하지 않음)
-                logger.debug("다운로드 URL 생성 완료: {}", apiUrl);
-
-            } else {
-                // 에러 응답 처리
-                String responseBody = httpResult.getBody();
-                Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-
-                String errorMessage = httpResult.getExtractedErrorMessage();
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "message");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "detail");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = "계산식 다운로드 URL 조회에 실패했습니다.";
-                }
-
-                result.put("success", false);
-                result.put("status", httpResult.getStatus());
-                result.put("message", errorMessage);
-                result.put("response", parsedResponse);
-
-                logger.warn("외부 인증 서버 계산식 다운로드 URL 조회 실패: {}", errorMessage);
-            }
-
-        } catch (Exception e) {
-            logger.error("계산식 다운로드 URL 조회 API 호출 중 오류 발생", e);
-            result.put("success", false);
-            result.put("message", "계산식 다운로드 URL 조회 API 호출 중 오류가 발생했습니다: " + e.getMessage());
-        }
-
-        return result;
+    public void streamFormulaDownload(String formulaId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String apiUrl = authServerBaseUrl + "/api/v1/minio/formula/download/" + formulaId.trim();
+        logger.debug("계산식 파일 스트리밍 다운로드: {}", apiUrl);
+        HttpUtil.streamDownload(apiUrl, "messages.success.formulaDownloadUrlSuccess", "계산식 다운로드에 실패했습니다.", request, response);
     }
 
     /**
-     * 도면 다운로드 URL 조회
-     * 
+     * 도면 파일 스트리밍 다운로드 (Range 요청 지원)
+     *
      * @param drawingId 다운로드할 도면 ID
-     * @return 다운로드 URL과 파일 정보
+     * @param request   클라이언트 요청 (Range 헤더 전달용)
+     * @param response  파일을 기록할 응답
      */
-    public Map<String, Object> getDrawingDownload(String drawingId) {
-        logger.debug("도면 다운로드 URL 조회 API 호출: drawing_id={}", drawingId);
-        Map<String, Object> result = new HashMap<>();
-
-        if (drawingId == null || drawingId.trim().isEmpty()) {
-            logger.warn("도면 다운로드 URL 조회 실패: 도면 ID가 null이거나 비어있음");
-            result.put("success", false);
-            result.put("message", "messages.error.invalidDrawingId");
-            return result;
-        }
-
-        try {
-            // drawingId를 문자열로 명시적 변환 (UUID 객체 처리 문제 해결)
-            String drawingIdStr = drawingId.toString().trim();
-            logger.debug("변환된 drawingId: {}", drawingIdStr);
-
-            // 외부 인증 서버 URL 구성
-            String apiUrl = authServerBaseUrl + "/api/v1/minio/drawing_files/download/" + drawingIdStr;
-            logger.debug("도면 다운로드 URL: {}", apiUrl);
-
-            // HttpUtil을 사용하여 GET 요청 수행 (자동 토큰 추출)
-            HttpUtil.HttpResult httpResult = HttpUtil.get(apiUrl, "application/json", null);
-
-            // 디버깅을 위한 상세 로깅
-            logger.debug("HTTP 응답 상태: {}", httpResult.getStatus());
-            logger.debug("HTTP 응답 본문: {}", httpResult.getBody());
-            logger.debug("HTTP 응답 성공 여부: {}", httpResult.isSuccess());
-
-            // 응답 처리
-            if (httpResult.isSuccess()) {
-                // 성공적인 응답 처리
-                String responseBody = httpResult.getBody();
-
-                logger.debug("도면 다운로드 URL 조회 성공");
-                result.put("success", true);
-                result.put("status", httpResult.getStatus());
-                result.put("message", "messages.success.drawingDownloadUrlSuccess");
-                result.put("download_url", apiUrl);
-                result.put("response_body", responseBody);
-
-                // 다운로드 URL만 반환 (헤더 정보는 HttpUtil에서 제공하지 않음)
-                logger.debug("다운로드 URL 생성 완료: {}", apiUrl);
-
-            } else {
-                // 에러 응답 처리
-                String responseBody = httpResult.getBody();
-                Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-
-                String errorMessage = httpResult.getExtractedErrorMessage();
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "message");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "detail");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = "도면 다운로드 URL 조회에 실패했습니다.";
-                }
-
-                result.put("success", false);
-                result.put("status", httpResult.getStatus());
-                result.put("message", errorMessage);
-                result.put("response", parsedResponse);
-
-                logger.warn("외부 인증 서버 도면 다운로드 URL 조회 실패: {}", errorMessage);
-            }
-
-        } catch (Exception e) {
-            logger.error("도면 다운로드 URL 조회 API 호출 중 오류 발생", e);
-            result.put("success", false);
-            result.put("message", "도면 다운로드 URL 조회 API 호출 중 오류가 발생했습니다: " + e.getMessage());
-        }
-
-        return result;
+    public void streamDrawingDownload(String drawingId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String apiUrl = authServerBaseUrl + "/api/v1/minio/drawing_files/download/" + drawingId.trim();
+        logger.debug("도면 파일 스트리밍 다운로드: {}", apiUrl);
+        HttpUtil.streamDownload(apiUrl, "messages.success.drawingDownloadUrlSuccess", "도면 다운로드에 실패했습니다.", request, response);
     }
 
     /**
@@ -6494,89 +6296,17 @@ public class ProcessService {
     }
 
     /**
-     * 용량계산서(CCS) 파일 다운로드 URL 조회
-     * 
+     * 용량계산서(CCS) 파일 스트리밍 다운로드 (Range 요청 지원)
+     *
      * @param tableName 테이블명
      * @param pkValue   기본키 값
-     * @return 다운로드 URL과 파일 정보
+     * @param request   클라이언트 요청 (Range 헤더 전달용)
+     * @param response  파일을 기록할 응답
      */
-    public Map<String, Object> getCcsDownload(String tableName, String pkValue) {
-        logger.debug("용량계산서 파일 다운로드 URL 조회 API 호출: tableName={}, pkValue={}", tableName, pkValue);
-        Map<String, Object> result = new HashMap<>();
-
-        if (tableName == null || tableName.trim().isEmpty()) {
-            logger.warn("용량계산서 파일 다운로드 URL 조회 실패: 테이블명이 null이거나 비어있음");
-            result.put("success", false);
-            result.put("message", "테이블명이 필요합니다.");
-            return result;
-        }
-
-        if (pkValue == null || pkValue.trim().isEmpty()) {
-            logger.warn("용량계산서 파일 다운로드 URL 조회 실패: 기본키 값이 null이거나 비어있음");
-            result.put("success", false);
-            result.put("message", "기본키 값이 필요합니다.");
-            return result;
-        }
-
-        try {
-            // 파라미터를 문자열로 명시적 변환
-            String tableNameStr = tableName.toString().trim();
-            String pkValueStr = pkValue.toString().trim();
-            logger.debug("변환된 tableName: {}, pkValue: {}", tableNameStr, pkValueStr);
-
-            // 외부 인증 서버 URL 구성
-            String apiUrl = authServerBaseUrl + "/api/v1/minio/download/" + tableNameStr + "/" + pkValueStr;
-            logger.debug("용량계산서 파일 다운로드 URL: {}", apiUrl);
-
-            // HttpUtil을 사용하여 GET 요청 수행 (자동 토큰 추출)
-            HttpUtil.HttpResult httpResult = HttpUtil.get(apiUrl, "application/json", null);
-
-            // 응답 처리
-            if (httpResult.isSuccess()) {
-                // 성공적인 응답 처리
-                String responseBody = httpResult.getBody();
-
-                logger.debug("용량계산서 파일 다운로드 URL 조회 성공");
-                result.put("success", true);
-                result.put("status", httpResult.getStatus());
-                result.put("message", "용량계산서 파일 다운로드 URL 조회가 완료되었습니다.");
-                result.put("download_url", apiUrl);
-                result.put("response_body", responseBody);
-
-                // 다운로드 URL만 반환 (헤더 정보는 HttpUtil에서 제공하지 않음)
-                logger.debug("다운로드 URL 생성 완료: {}", apiUrl);
-
-            } else {
-                // 에러 응답 처리
-                String responseBody = httpResult.getBody();
-                Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-
-                String errorMessage = httpResult.getExtractedErrorMessage();
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "message");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = JsonUtil.extractValue(responseBody, "detail");
-                }
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = "용량계산서 파일 다운로드 URL 조회에 실패했습니다.";
-                }
-
-                result.put("success", false);
-                result.put("status", httpResult.getStatus());
-                result.put("message", errorMessage);
-                result.put("response", parsedResponse);
-
-                logger.warn("외부 인증 서버 용량계산서 파일 다운로드 URL 조회 실패: {}", errorMessage);
-            }
-
-        } catch (Exception e) {
-            logger.error("용량계산서 파일 다운로드 URL 조회 API 호출 중 오류 발생", e);
-            result.put("success", false);
-            result.put("message", "용량계산서 파일 다운로드 URL 조회 API 호출 중 오류가 발생했습니다: " + e.getMessage());
-        }
-
-        return result;
+    public void streamCcsDownload(String tableName, String pkValue, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String apiUrl = authServerBaseUrl + "/api/v1/minio/download/" + tableName.trim() + "/" + pkValue.trim();
+        logger.debug("용량계산서 파일 스트리밍 다운로드: {}", apiUrl);
+        HttpUtil.streamDownload(apiUrl, "용량계산서 파일 다운로드가 완료되었습니다.", "용량계산서 파일 다운로드에 실패했습니다.", request, response);
     }
 
     /**
@@ -3,18 +3,29 @@ package com.wai.admin.service.project;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
 import com.wai.admin.util.CommonCodeUtil;
 import com.wai.admin.util.JsonUtil;
 import com.wai.admin.util.HttpUtil;
 
+import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @Service
 public class ProjectService {
@@ -28,6 +39,14 @@ public class ProjectService {
     @Autowired
     private CommonCodeUtil commonCodeUtil;
 
+    @Autowired
+    @Qualifier("upstreamExecutor")
+    private ThreadPoolTaskExecutor upstreamExecutor;
+
+    // 프로젝트 공통코드 호출별 타임아웃 (각 호출 시작 시점부터)
+    @Value("${project.common-codes.timeout-ms:5000}")
+    private long commonCodeTimeoutMillis;
+
     /**
      * 프로젝트 목록 조회 - 외부 API 호출
      */
@@ -474,90 +493,82 @@ public class ProjectService {
      */
     public Map<String, Object> getProjectCommonCodes() {
         logger.debug("프로젝트 관련 공통코드 조회 시도");
+        // 조합된 코드 묶음을 언어별로 캐시 (공통코드 변경 시 무효화)
+        return commonCodeUtil.getCachedBundle("projectCommonCodes", this::loadProjectCommonCodes);
+    }
+
+    /**
+     * 프로젝트 관련 공통코드 6종을 병렬로 조회하여 조합
+     * - 호출별 타임아웃 적용 (각 호출이 작업 스레드에서 시작된 시점부터), 하나라도 실패하면 나머지 호출을 취소하고 즉시 실패 반환
+     */
+    private Map<String, Object> loadProjectCommonCodes() {
         Map<String, Object> result = new HashMap<>();
         
+        // 결과 key -> 조회 작업 (응답 데이터 key는 단위 시스템만 response, 나머지는 data)
+        Map<String, Supplier<Map<String, Object>>> lookups = new LinkedHashMap<>();
+        lookups.put("bizTypeCodes", () -> commonCodeUtil.getCommonCodesByCategory("parent_key", "BUSINESS_CD", true)); // 비즈니스 타입 코드
+        lookups.put("unitCodes", () -> commonCodeUtil.getUnitSystems()); // 단위 시스템
+        lookups.put("langCodes", () -> commonCodeUtil.getCommonCodesByCategory("parent_key", "LANG_CD", true)); // 언어 설정 코드
+        lookups.put("status", () -> commonCodeUtil.getCommonCodesByCategory("parent_key", "STATUS_CD", true)); // 진행상태 코드
+        lookups.put("countryCodes", () -> commonCodeUtil.getCommonCodesByCategory("parent_key", "COUNTRY_CD", true)); // 국가 코드
+        lookups.put("monetaryCodes", () -> commonCodeUtil.getCommonCodesByCategory("parent_key", "MONETARY_CD", true)); // 화폐 코드
+        
+        Map<String, Future<?>> tasks = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Map<String, Object>>> futures = new LinkedHashMap<>();
+        CompletableFuture<Map<String, Object>> firstFailure = new CompletableFuture<>();
+        
         try {
-            // 비즈니스 타입 코드 (BUSINESS_CD)
-            Map<String, Object> bizTypeResult = commonCodeUtil.getCommonCodesByCategory("parent_key", "BUSINESS_CD", true);
-            logger.debug("비즈니스 타입 코드: {}", bizTypeResult);
-            
-            // 비즈니스 타입 코드 조회 실패 시
-            if (!(Boolean) bizTypeResult.get("success")) {
-                result.put("success", false);
-                result.put("status", bizTypeResult.get("status"));
-                result.put("message", bizTypeResult.get("message"));
-                result.put("response", bizTypeResult);
-                return result;
-            }
-            
-            // 단위 시스템 조회
-            Map<String, Object> unitResult = commonCodeUtil.getUnitSystems();
-            
-            // 단위 시스템 조회 실패 시
-            if (!(Boolean) unitResult.get("success")) {
-                result.put("success", false);
-                result.put("status", unitResult.get("status"));
-                result.put("message", unitResult.get("message"));
-                result.put("response", unitResult);
-                return result;
-            }
-            
-            // 언어 설정 코드 (LANG_CD)
-            Map<String, Object> langResult = commonCodeUtil.getCommonCodesByCategory("parent_key", "LANG_CD", true);
-            
-            // 언어 설정 코드 조회 실패 시
-            if (!(Boolean) langResult.get("success")) {
-                result.put("success", false);
-                result.put("status", langResult.get("status"));
-                result.put("message", langResult.get("message"));
-                result.put("response", langResult);
-                return result;
+            for (Map.Entry<String, Supplier<Map<String, Object>>> lookup : lookups.entrySet()) {
+                CompletableFuture<Map<String, Object>> future = new CompletableFuture<>();
+                future.whenComplete((lookupResult, ex) -> {
+                    if (ex != null) {
+                        // 호출 시간 초과 또는 예외
+                        firstFailure.completeExceptionally(ex);
+                    } else if (!Boolean.TRUE.equals(lookupResult.get("success"))) {
+                        firstFailure.complete(lookupResult);
+                    }
+                });
+                tasks.put(lookup.getKey(), upstreamExecutor.submit(() -> {
+                    // 대기열에서 기다린 시간은 제외하고 호출 시작부터 타임아웃 적용
+                    future.orTimeout(commonCodeTimeoutMillis, TimeUnit.MILLISECONDS);
+                    try {
+                        future.complete(lookup.getValue().get());
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                }));
+                futures.put(lookup.getKey(), future);
             }
             
-            // 진행상태 코드 (STATUS_CD)
-            Map<String, Object> statusResult = commonCodeUtil.getCommonCodesByCategory("parent_key", "STATUS_CD", true);
-            
-            // 진행상태 코드 조회 실패 시
-            if (!(Boolean) statusResult.get("success")) {
-                result.put("success", false);
-                result.put("status", statusResult.get("status"));
-                result.put("message", statusResult.get("message"));
-                result.put("response", statusResult);
-                return result;
+            // 전체 완료 또는 첫 실패(시간 초과 포함) 중 먼저 발생한 것을 대기
+            CompletableFuture<Void> allDone = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]));
+            CompletableFuture.anyOf(allDone, firstFailure).get();
+            
+            // 첫 실패로 먼저 끝난 경우가 아니면 원래 순서대로 실패 여부 확인
+            Map<String, Object> failedResult = firstFailure.getNow(null);
+            if (failedResult == null) {
+                for (CompletableFuture<Map<String, Object>> future : futures.values()) {
+                    if (!Boolean.TRUE.equals(future.join().get("success"))) {
+                        failedResult = future.join();
+                        break;
+                    }
+                }
             }
             
-            // 국가 코드 (COUNTRY_CD)
-            Map<String, Object> countryResult = commonCodeUtil.getCommonCodesByCategory("parent_key", "COUNTRY_CD", true);
-            
-            // 국가 코드 조회 실패 시
-            if (!(Boolean) countryResult.get("success")) {
+            if (failedResult != null) {
                 result.put("success", false);
-                result.put("status", countryResult.get("status"));
-                result.put("message", countryResult.get("message"));
-                result.put("response", countryResult);
+                result.put("status", failedResult.get("status"));
+                result.put("message", failedResult.get("message"));
+                result.put("response", failedResult);
                 return result;
             }
-
-            // 화폐 코드 (MONETARY_CD)
-            Map<String, Object> monetaryResult = commonCodeUtil.getCommonCodesByCategory("parent_key", "MONETARY_CD", true);
             
-            // 화폐 코드 조회 실패 시
-            if (!(Boolean) monetaryResult.get("success")) {
-                result.put("success", false);
-                result.put("status", monetaryResult.get("status"));
-                result.put("message", monetaryResult.get("message"));
-                result.put("response", monetaryResult);
-                return result;
-            }
-
             // 각각의 결과를 key에 담아서 return
             Map<String, Object> data = new HashMap<>();
-            data.put("bizTypeCodes", bizTypeResult.get("data"));
-            data.put("unitCodes", unitResult.get("response"));
-            data.put("langCodes", langResult.get("data"));
-            data.put("status", statusResult.get("data"));
-            data.put("countryCodes", countryResult.get("data"));
-            data.put("monetaryCodes", monetaryResult.get("data"));
+            for (Map.Entry<String, CompletableFuture<Map<String, Object>>> entry : futures.entrySet()) {
+                String dataKey = "unitCodes".equals(entry.getKey()) ? "response" : "data";
+                data.put(entry.getKey(), entry.getValue().join().get(dataKey));
+            }
 
             result.put("success", true);
             result.put("status", 200);
@@ -565,10 +576,27 @@ public class ProjectService {
             result.put("response", data);
             
         } catch (Exception e) {
-            logger.error("프로젝트 관련 공통코드 조회 중 오류 발생", e);
+            Throwable cause = (e instanceof ExecutionException && e.getCause() != null) ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                logger.error("프로젝트 관련 공통코드 조회 시간 초과: 호출별 {}ms", commonCodeTimeoutMillis);
+                result.put("success", false);
+                result.put("status", 504);
+                result.put("message", "공통코드 조회 시간이 초과되었습니다.");
+                return result;
+            }
+            logger.error("프로젝트 관련 공통코드 조회 중 오류 발생", cause);
             result.put("success", false);
             result.put("status", 500);
-            result.put("message", "공통코드 조회 중 오류가 발생했습니다: " + e.getMessage());
+            result.put("message", "공통코드 조회 중 오류가 발생했습니다: " + cause.getMessage());
+        } finally {
+            // 완료되지 않은 나머지 호출 취소 (fail-fast / 타임아웃)
+            for (Future<?> task : tasks.values()) {
+                if (!task.isDone()) {
+                    task.cancel(true);
+                }
+            }
+            // 병렬 호출에서 받은 외부 API Set-Cookie를 이 요청의 응답으로 전달
+            HttpUtil.forwardDeferredCookies();
         }
         
         return result;
@@ -1258,59 +1286,12 @@ public class ProjectService {
     }
 
     /**
-     * 부지정보 파일 조회 - 외부 API 호출
+     * 부지정보 파일 스트리밍 다운로드 (Range 요청 지원)
      */
-    public Map<String, Object> downloadSiteInfoFile(String siteId) {
-        logger.debug("외부 인증 서버 부지정보 파일 조회 시도: siteId={}, server={}", siteId, authServerBaseUrl);
-        Map<String, Object> result = new HashMap<>();
-        
-        if (siteId == null || siteId.isEmpty()) {
-            logger.warn("부지정보 파일 조회 실패: site_id가 null이거나 비어있음");
-            result.put("success", false);
-            result.put("message", "messages.error.siteInfoIdInvalid");
-            return result;
-        }
-        
-        try {
-            String downloadUrl = authServerBaseUrl + "/api/v1/minio/site_info/download/" + siteId;
-            logger.debug("부지정보 파일 조회 URL: {}", downloadUrl);
-            
-            HttpUtil.HttpResult httpResult = HttpUtil.get(downloadUrl, "application/json", "");
-            
-            if (httpResult.isSuccess()) {
-                String responseBody = httpResult.getBody();
-                Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-                
-                logger.debug("부지정보 파일 조회 API 성공");
-                result.put("success", true);
-                result.put("status", httpResult.getStatus());
-                result.put("message", "messages.success.siteInfoFileSearchSuccess");
-                result.put("response", parsedResponse);
-            } else {
-                result.put("success", false);
-                result.put("status", httpResult.getStatus());
-                
-                String responseBody = httpResult.getBody();
-                Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-                
-                String errorMessage = httpResult.getExtractedErrorMessage();
-                if (errorMessage == null || errorMessage.isEmpty()) {
-                    errorMessage = "부지정보 파일 조회에 실패했습니다.";
-                }
-                
-                result.put("message", errorMessage);
-                result.put("response", parsedResponse);
-                
-                logger.warn("부지정보 파일 조회 API 실패: {}", errorMessage);
-            }
-            
-        } catch (Exception e) {
-            logger.error("부지정보 파일 조회 API 호출 중 오류 발생", e);
-            result.put("success", false);
-            result.put("message", "부지정보 파일 조회 API 호출 중 오류가 발생했습니다: " + e.getMessage());
-        }
-        
-        return result;
+    public void streamSiteInfoFile(String siteId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String downloadUrl = authServerBaseUrl + "/api/v1/minio/site_info/download/" + siteId;
+        logger.debug("부지정보 파일 스트리밍 다운로드: {}", downloadUrl);
+        HttpUtil.streamDownload(downloadUrl, "messages.success.siteInfoFileSearchSuccess", "부지정보 파일 조회에 실패했습니다.", request, response);
     }
 
     /**
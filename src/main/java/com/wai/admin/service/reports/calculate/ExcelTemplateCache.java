@@ -0,0 +1,307 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.wai.admin.util.KeyedLock;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * CCS 엑셀 템플릿 파일 캐시
+ * - download_url(쿼리스트링 제외)별로 원본 xlsx 바이트를 로컬 디스크에 보관
+ * - ETag/Last-Modified 기반 조건부 요청으로 변경 여부를 확인하고, 변경이 없으면(304) 디스크 파일 사용
+ * - 전체 크기 상한을 넘으면 가장 오래 사용되지 않은 파일부터 삭제
+ * - 호출자에게는 항상 새 Workbook 인스턴스를 반환하므로 수정해도 캐시에 영향 없음
+ * - 시트명 목록은 Workbook 없이 workbook 파트만 읽어 파일 버전(캐시 항목)별로 보관
+ * - 파일 버전(내용 해시)은 리포트 결과 캐시의 입력 버전 확인에 사용
+ */
+@Component
+public class ExcelTemplateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExcelTemplateCache.class);
+
+    @Value("${report.template-cache.dir:${java.io.tmpdir}/wai-template-cache}")
+    private String cacheDir;
+
+    @Value("${report.template-cache.max-bytes:536870912}")
+    private long maxBytes;
+
+    // 마지막 검증 후 이 시간 안에는 원격 확인 없이 디스크 파일 사용
+    @Value("${report.template-cache.revalidate-seconds:60}")
+    private long revalidateSeconds;
+
+    @Value("${report.template-cache.timeout-ms:30000}")
+    private int timeoutMillis;
+
+    private Path cacheRoot;
+
+    // 캐시 키(URL, 쿼리스트링 제외) -> 캐시 항목
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    // 동일 파일 중복 다운로드 방지용 키별 락 (사용 중인 키만 보관)
+    private final KeyedLock locks = new KeyedLock();
+
+    @PostConstruct
+    public void init() throws IOException {
+        cacheRoot = Paths.get(cacheDir);
+        Files.createDirectories(cacheRoot);
+
+        // 인덱스는 메모리에만 있으므로 이전 실행에서 남은 파일 정리
+        try (Stream<Path> files = Files.list(cacheRoot)) {
+            files.forEach(this::deleteQuietly);
+        }
+        logger.info("엑셀 템플릿 캐시 초기화: dir={}, maxBytes={}, revalidate={}s", cacheRoot, maxBytes, revalidateSeconds);
+    }
+
+    /**
+     * URL의 엑셀 파일을 새 Workbook으로 반환 (캐시 사용)
+     * @param url 다운로드 URL
+     * @return 새 Workbook (호출자가 close)
+     */
+    public Workbook openWorkbook(String url) throws IOException {
+        Path file = getFile(url);
+        try (InputStream in = Files.newInputStream(file)) {
+            return new XSSFWorkbook(in);
+        }
+    }
+
+    /**
+     * URL의 엑셀 파일을 로컬 캐시 파일 경로로 반환 (필요 시 다운로드/재검증)
+     * @param url 다운로드 URL
+     * @return 캐시된 xlsx 파일 경로 (읽기 전용으로 사용)
+     */
+    public Path getFile(String url) throws IOException {
+        return getEntry(url).file;
+    }
+
+    /**
+     * URL의 엑셀 파일 시트명 목록 (Workbook을 만들지 않고 workbook 파트만 읽음)
+     * - 같은 파일 버전에 대해서는 한 번만 읽고, 재다운로드되면 새 캐시 항목에서 다시 읽음
+     * @param url 다운로드 URL
+     * @return 시트명 목록 (workbook 순서, 수정 불가)
+     */
+    public List<String> getSheetNames(String url) throws IOException {
+        CacheEntry entry = getEntry(url);
+        List<String> sheetNames = entry.sheetNames;
+        if (sheetNames == null) {
+            sheetNames = XlsxSheetNameReader.read(entry.file);
+            entry.sheetNames = sheetNames;
+        }
+        return sheetNames;
+    }
+
+    /**
+     * URL의 엑셀 파일 버전 (캐시 파일 내용의 SHA-256)
+     * - 리포트 결과 캐시(ReportArtifactCache)에서 템플릿 변경 여부 확인용
+     * - 같은 파일 버전에 대해서는 한 번만 계산하고, 재다운로드되면 새 캐시 항목에서 다시 계산
+     * @param url 다운로드 URL
+     * @return 파일 내용 해시 (hex)
+     */
+    public String getVersion(String url) throws IOException {
+        CacheEntry entry = getEntry(url);
+        String contentHash = entry.contentHash;
+        if (contentHash == null) {
+            try (InputStream in = Files.newInputStream(entry.file)) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    digest.update(buffer, 0, read);
+                }
+                contentHash = HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            entry.contentHash = contentHash;
+        }
+        return contentHash;
+    }
+
+    /**
+     * URL의 캐시 항목 반환 (필요 시 다운로드/재검증)
+     */
+    private CacheEntry getEntry(String url) throws IOException {
+        String key = toCacheKey(url);
+        try (KeyedLock.Handle handle = locks.lock(key)) {
+            CacheEntry entry = entries.get(key);
+            long now = System.currentTimeMillis();
+
+            if (entry != null && Files.exists(entry.file)) {
+                if (now - entry.validatedAt < revalidateSeconds * 1000L) {
+                    entry.lastAccess = now;
+                    logger.debug("엑셀 템플릿 캐시 적중: {}", key);
+                    return entry;
+                }
+                if (revalidate(url, entry)) {
+                    entry.validatedAt = now;
+                    entry.lastAccess = now;
+                    logger.debug("엑셀 템플릿 재검증 완료(변경 없음): {}", key);
+                    return entry;
+                }
+            }
+
+            CacheEntry downloaded = download(url, key);
+            entries.put(key, downloaded);
+            if (entry != null && !entry.file.equals(downloaded.file)) {
+                deleteQuietly(entry.file);
+            }
+            evictIfNeeded(key);
+            return downloaded;
+        }
+    }
+
+    /**
+     * 조건부 요청으로 원격 파일 변경 여부 확인
+     * @return 변경이 없으면 true
+     */
+    private boolean revalidate(String url, CacheEntry entry) {
+        if (entry.etag == null && entry.lastModified == null) {
+            return false;
+        }
+        try {
+            URLConnection connection = URI.create(url).toURL().openConnection();
+            if (!(connection instanceof HttpURLConnection)) {
+                return false;
+            }
+            HttpURLConnection httpConnection = (HttpURLConnection) connection;
+            httpConnection.setConnectTimeout(timeoutMillis);
+            httpConnection.setReadTimeout(timeoutMillis);
+            if (entry.etag != null) {
+                httpConnection.setRequestProperty("If-None-Match", entry.etag);
+            }
+            if (entry.lastModified != null) {
+                httpConnection.setRequestProperty("If-Modified-Since", entry.lastModified);
+            }
+            int status = httpConnection.getResponseCode();
+            httpConnection.disconnect();
+            return status == HttpURLConnection.HTTP_NOT_MODIFIED;
+        } catch (Exception e) {
+            logger.warn("엑셀 템플릿 재검증 실패, 다시 다운로드합니다: {} - {}", url, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 원격 파일을 임시 파일로 받은 후 캐시 파일로 이동
+     */
+    private CacheEntry download(String url, String key) throws IOException {
+        URLConnection connection = URI.create(url).toURL().openConnection();
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+
+        Path target = cacheRoot.resolve(hash(key) + ".xlsx");
+        Path temp = Files.createTempFile(cacheRoot, "download-", ".tmp");
+        try (InputStream in = connection.getInputStream()) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteQuietly(temp);
+        }
+
+        CacheEntry entry = new CacheEntry(target, Files.size(target),
+                connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
+        logger.info("엑셀 템플릿 다운로드 및 캐시 저장: {} ({} bytes, etag={})", key, entry.size, entry.etag);
+        return entry;
+    }
+
+    /**
+     * 전체 크기 상한 초과 시 가장 오래 사용되지 않은 항목부터 삭제 (방금 저장한 항목 제외)
+     */
+    private void evictIfNeeded(String currentKey) {
+        long total = entries.values().stream().mapToLong(e -> e.size).sum();
+        if (total <= maxBytes) {
+            return;
+        }
+
+        List<Map.Entry<String, CacheEntry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+        for (Map.Entry<String, CacheEntry> candidate : candidates) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (candidate.getKey().equals(currentKey)) {
+                continue;
+            }
+            if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                total -= candidate.getValue().size;
+                deleteQuietly(candidate.getValue().file);
+                logger.debug("엑셀 템플릿 캐시 제거(LRU): {}", candidate.getKey());
+            }
+        }
+    }
+
+    /**
+     * 캐시 키 생성 - 서명 등 매번 바뀌는 쿼리스트링은 제외
+     */
+    private String toCacheKey(String url) {
+        int queryIndex = url.indexOf('?');
+        return queryIndex >= 0 ? url.substring(0, queryIndex) : url;
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("캐시 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 항목 (디스크 파일 + 검증 정보)
+     */
+    private static class CacheEntry {
+        private final Path file;
+        private final long size;
+        private final String etag;
+        private final String lastModified;
+        private volatile long validatedAt;
+        private volatile long lastAccess;
+        // 이 파일 버전의 시트명 목록 (처음 조회 시 채움)
+        private volatile List<String> sheetNames;
+        // 이 파일 버전의 내용 해시 (처음 조회 시 채움)
+        private volatile String contentHash;
+
+        CacheEntry(Path file, long size, String etag, String lastModified) {
+            this.file = file;
+            this.size = size;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.validatedAt = System.currentTimeMillis();
+            this.lastAccess = this.validatedAt;
+        }
+    }
+}
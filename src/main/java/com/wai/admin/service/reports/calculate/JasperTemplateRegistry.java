@@ -0,0 +1,280 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import net.sf.jasperreports.engine.JRDataSource;
+import net.sf.jasperreports.engine.JRException;
+import net.sf.jasperreports.engine.JRParameter;
+import net.sf.jasperreports.engine.JasperCompileManager;
+import net.sf.jasperreports.engine.JasperFillManager;
+import net.sf.jasperreports.engine.JasperPrint;
+import net.sf.jasperreports.engine.JasperReport;
+import net.sf.jasperreports.engine.fill.JRSwapFileVirtualizer;
+import net.sf.jasperreports.engine.util.JRSwapFile;
+
+/**
+ * JasperReports 템플릿(reports/*.jrxml) 레지스트리
+ * - jrxml은 시작 시(precompile) 또는 처음 사용할 때 한 번만 컴파일하여 JasperReport로 보관
+ * - hot-reload 사용 시 jrxml 파일 수정 시간을 확인하여 변경되면 다시 컴파일 (컴파일 실패 시 이전 버전 유지)
+ * - fill은 동시 실행 수를 제한하고, 페이지를 스왑 파일로 내보내는 virtualizer를 사용하여 대용량 리포트의 힙 사용량 제한
+ */
+@Component
+public class JasperTemplateRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(JasperTemplateRegistry.class);
+
+    private static final String JRXML_EXTENSION = ".jrxml";
+
+    @Value("${report.jasper.location:classpath*:reports/}")
+    private String templateLocation;
+
+    // 시작 시 모든 jrxml 컴파일 여부 (false면 처음 사용할 때 컴파일)
+    @Value("${report.jasper.precompile:true}")
+    private boolean precompile;
+
+    // jrxml 변경 시 다시 컴파일 (파일 시스템에 있는 템플릿만 해당, jar 내부 템플릿은 변경되지 않음)
+    @Value("${report.jasper.hot-reload:false}")
+    private boolean hotReload;
+
+    // 수정 시간 확인 간격 (요청마다 파일 시스템 조회하지 않도록)
+    @Value("${report.jasper.reload-check-seconds:2}")
+    private long reloadCheckSeconds;
+
+    // 동시에 실행하는 fill 수와 슬롯 대기 시간
+    @Value("${report.jasper.fill.max-concurrent:4}")
+    private int maxConcurrentFills;
+
+    @Value("${report.jasper.fill.acquire-timeout-ms:60000}")
+    private long fillAcquireTimeoutMillis;
+
+    @Value("${report.jasper.virtualizer.enabled:true}")
+    private boolean virtualizerEnabled;
+
+    @Value("${report.jasper.virtualizer.dir:${java.io.tmpdir}/wai-jasper-swap}")
+    private String swapDir;
+
+    // 메모리에 유지하는 페이지 수 (초과분은 스왑 파일로 내보냄)
+    @Value("${report.jasper.virtualizer.max-pages:50}")
+    private int virtualizerMaxPages;
+
+    @Value("${report.jasper.virtualizer.block-size:4096}")
+    private int swapBlockSize;
+
+    @Value("${report.jasper.virtualizer.min-grow-count:100}")
+    private int swapMinGrowCount;
+
+    // 템플릿 이름(확장자 제외) -> 템플릿
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    private Semaphore fillSlots;
+
+    @PostConstruct
+    public void init() throws IOException {
+        fillSlots = new Semaphore(Math.max(1, maxConcurrentFills));
+        if (virtualizerEnabled) {
+            Files.createDirectories(Paths.get(swapDir));
+        }
+
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources(templateLocation + "*" + JRXML_EXTENSION);
+        for (Resource resource : resources) {
+            String fileName = resource.getFilename();
+            if (fileName == null) {
+                continue;
+            }
+            String name = fileName.substring(0, fileName.length() - JRXML_EXTENSION.length());
+            templates.putIfAbsent(name, new Template(name, resource));
+        }
+        logger.info("Jasper 템플릿 등록: location={}, templates={}, precompile={}, hotReload={}, virtualizer={}",
+                templateLocation, templates.keySet(), precompile, hotReload, virtualizerEnabled);
+
+        if (precompile) {
+            for (Template template : templates.values()) {
+                try {
+                    compile(template);
+                } catch (JRException | IOException e) {
+                    // 잘못된 템플릿 하나 때문에 기동이 실패하지 않도록 로그만 남기고 사용 시 다시 컴파일
+                    logger.error("Jasper 템플릿 컴파일 실패: {} - {}", template.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 컴파일된 템플릿 반환 (필요 시 컴파일/재컴파일)
+     * @param name 템플릿 이름 (예: "general_statment", 확장자 생략 가능)
+     */
+    public JasperReport getReport(String name) throws JRException, IOException {
+        String key = name.endsWith(JRXML_EXTENSION) ? name.substring(0, name.length() - JRXML_EXTENSION.length()) : name;
+        Template template = templates.get(key);
+        if (template == null) {
+            throw new JRException("Jasper 템플릿을 찾을 수 없습니다: " + name + " (등록된 템플릿: " + templates.keySet() + ")");
+        }
+
+        JasperReport report = template.report;
+        if (report != null && !(hotReload && isModified(template))) {
+            return report;
+        }
+
+        template.lock.lock();
+        try {
+            report = template.report;
+            if (report == null) {
+                return compile(template);
+            }
+            if (hotReload && isModified(template)) {
+                try {
+                    return compile(template);
+                } catch (JRException e) {
+                    // 수정 중인 jrxml이 잘못된 경우 이전 버전으로 계속 응답
+                    logger.error("Jasper 템플릿 재컴파일 실패, 이전 버전 사용: {} - {}", template.name, e.getMessage());
+                    template.lastModified = lastModified(template.resource);
+                }
+            }
+            return template.report;
+        } finally {
+            template.lock.unlock();
+        }
+    }
+
+    /**
+     * 리포트 채우기 (fill)
+     * - 동시 실행 수 제한, virtualizer 사용 시 결과는 export 후 close()로 스왑 파일 정리
+     * @param name 템플릿 이름
+     * @param parameters 리포트 파라미터 (변경하지 않음)
+     * @param dataSource 데이터 소스
+     * @return 채운 결과 (호출자가 export 후 close)
+     */
+    public FilledReport fill(String name, Map<String, Object> parameters, JRDataSource dataSource) throws JRException, IOException {
+        JasperReport report = getReport(name);
+
+        try {
+            if (!fillSlots.tryAcquire(fillAcquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new JRException("리포트 생성 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JRException("리포트 생성 대기 중 중단되었습니다.", e);
+        }
+
+        JRSwapFileVirtualizer virtualizer = null;
+        try {
+            Map<String, Object> fillParameters = new HashMap<>(parameters);
+            if (virtualizerEnabled) {
+                JRSwapFile swapFile = new JRSwapFile(swapDir, swapBlockSize, swapMinGrowCount);
+                // swapOwner=true: virtualizer cleanup 시 스왑 파일도 삭제
+                virtualizer = new JRSwapFileVirtualizer(virtualizerMaxPages, swapFile, true);
+                fillParameters.put(JRParameter.REPORT_VIRTUALIZER, virtualizer);
+            }
+
+            long startTime = System.currentTimeMillis();
+            JasperPrint print = JasperFillManager.fillReport(report, fillParameters, dataSource);
+            if (virtualizer != null) {
+                // 채우기가 끝난 페이지는 더 이상 바뀌지 않으므로 export 시 다시 직렬화하지 않음
+                virtualizer.setReadOnly(true);
+            }
+            logger.debug("Jasper fill 완료: template={}, pages={}, elapsed={}ms",
+                    name, print.getPages().size(), System.currentTimeMillis() - startTime);
+            return new FilledReport(print, virtualizer);
+        } catch (JRException | RuntimeException e) {
+            if (virtualizer != null) {
+                virtualizer.cleanup();
+            }
+            throw e;
+        } finally {
+            fillSlots.release();
+        }
+    }
+
+    private JasperReport compile(Template template) throws JRException, IOException {
+        long lastModified = lastModified(template.resource);
+        long startTime = System.currentTimeMillis();
+        JasperReport report;
+        try (InputStream in = template.resource.getInputStream()) {
+            report = JasperCompileManager.compileReport(in);
+        }
+        template.report = report;
+        template.lastModified = lastModified;
+        template.checkedAt = System.currentTimeMillis();
+        logger.info("Jasper 템플릿 컴파일: {} ({}ms)", template.name, template.checkedAt - startTime);
+        return report;
+    }
+
+    /**
+     * jrxml 수정 여부 확인 (reload-check-seconds 간격으로만 파일 시스템 조회)
+     */
+    private boolean isModified(Template template) {
+        long now = System.currentTimeMillis();
+        if (now - template.checkedAt < reloadCheckSeconds * 1000L) {
+            return false;
+        }
+        template.checkedAt = now;
+        return lastModified(template.resource) != template.lastModified;
+    }
+
+    private long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 등록된 템플릿 (jrxml 위치 + 컴파일 결과)
+     */
+    private static class Template {
+        private final String name;
+        private final Resource resource;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile JasperReport report;
+        private volatile long lastModified;
+        private volatile long checkedAt;
+
+        Template(String name, Resource resource) {
+            this.name = name;
+            this.resource = resource;
+        }
+    }
+
+    /**
+     * 채운 리포트 (export가 끝나면 close()로 virtualizer 스왑 파일 정리)
+     */
+    public static final class FilledReport implements AutoCloseable {
+        private final JasperPrint print;
+        private final JRSwapFileVirtualizer virtualizer;
+
+        private FilledReport(JasperPrint print, JRSwapFileVirtualizer virtualizer) {
+            this.print = print;
+            this.virtualizer = virtualizer;
+        }
+
+        public JasperPrint getPrint() {
+            return print;
+        }
+
+        @Override
+        public void close() {
+            if (virtualizer != null) {
+                virtualizer.cleanup();
+            }
+        }
+    }
+}
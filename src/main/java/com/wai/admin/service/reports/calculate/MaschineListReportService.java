@@ -1,7 +1,5 @@
 package com.wai.admin.service.reports.calculate;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
@@ -13,14 +11,16 @@ import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,20 +29,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class MaschineListReportService {
 
     private final ObjectMapper objectMapper;
+    private final StreamingWorkbookFactory streamingWorkbookFactory;
 
-    public MaschineListReportService(ObjectMapper objectMapper) {
+    public MaschineListReportService(ObjectMapper objectMapper, StreamingWorkbookFactory streamingWorkbookFactory) {
         this.objectMapper = objectMapper;
+        this.streamingWorkbookFactory = streamingWorkbookFactory;
     }
 
     /**
      * 기계리스트 엑셀 파일 생성 (jsonUrl 기반)
      */
-    public byte[] generateMachineListExcel(Map<String, Object> params) throws Exception {
+    public StreamingResponseBody generateMachineListExcel(Map<String, Object> params) throws Exception {
         System.out.println("generateMachineListExcel 시작");
-        XSSFWorkbook workbook = null;
+        SXSSFWorkbook workbook = streamingWorkbookFactory.create();
         try {
-            workbook = new XSSFWorkbook();
-            XSSFSheet sheet = workbook.createSheet("기계리스트");
+            Sheet sheet = workbook.createSheet("기계리스트");
 
             // 스타일 정의
             CellStyle titleStyle = createTitleStyle(workbook);
@@ -54,8 +55,8 @@ public class MaschineListReportService {
             int rowNum = 0;
 
             // 제목 행
-            XSSFRow titleRow = sheet.createRow(rowNum++);
-            XSSFCell titleCell = titleRow.createCell(0);
+            Row titleRow = sheet.createRow(rowNum++);
+            Cell titleCell = titleRow.createCell(0);
             titleCell.setCellValue("기계리스트");
             titleCell.setCellStyle(titleStyle);
             sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 10));
@@ -64,13 +65,13 @@ public class MaschineListReportService {
             rowNum++;
 
             // 헤더 행
-            XSSFRow headerRow = sheet.createRow(rowNum++);
+            Row headerRow = sheet.createRow(rowNum++);
             String[] headers = {"Tag No.", "Item", "Specification", "Vendor", "MODEL",
                                 "Material of Construction", "Power\n(kw)",
                                 "Duty", "Sty", "Tot", "Unit"};
 
             for (int i = 0; i < headers.length; i++) {
-                XSSFCell cell = headerRow.createCell(i);
+                Cell cell = headerRow.createCell(i);
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
             }
@@ -91,9 +92,9 @@ public class MaschineListReportService {
                     }
 
                     // 시스템 그룹 행
-                    XSSFRow groupRow = sheet.createRow(rowNum++);
+                    Row groupRow = sheet.createRow(rowNum++);
                     groupRow.setHeightInPoints(40);
-                    XSSFCell groupCell = groupRow.createCell(0);
+                    Cell groupCell = groupRow.createCell(0);
                     groupCell.setCellValue("■ " + processName);
                     groupCell.setCellStyle(groupStyle);
                     sheet.addMergedRegion(new CellRangeAddress(rowNum - 1, rowNum - 1, 0, 10));
@@ -114,7 +115,7 @@ public class MaschineListReportService {
                                 specification = spec1.isEmpty() ? spec2 : spec1 + " " + spec2;
                             }
 
-                            XSSFRow dataRow = sheet.createRow(rowNum++);
+                            Row dataRow = sheet.createRow(rowNum++);
 
                             // Tag No
                             createCell(dataRow, 0, getString(item, "tag_number"), centerStyle);
@@ -156,19 +157,12 @@ public class MaschineListReportService {
             sheet.setColumnWidth(9, 2000);  // Tot
             sheet.setColumnWidth(10, 2000);  // Unit
 
-            // 바이트 배열로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
-            return baos.toByteArray();
-        } finally {
-            if (workbook != null) {
-                try {
-                    workbook.close();
-                } catch (IOException e) {
-                    // 로그만 기록 (무시)
-                }
-            }
+            // 모든 행을 채운 뒤 응답 스트림에 기록 (기록이 끝나면 임시 파일 삭제)
+            return streamingWorkbookFactory.stream(workbook);
+        } catch (Exception e) {
+            // 응답으로 넘기기 전 실패 시 임시 파일 정리 후 예외 전달 (컨트롤러에서 500 응답)
+            streamingWorkbookFactory.discard(workbook);
+            throw e;
         }
     }
 
@@ -183,7 +177,7 @@ public class MaschineListReportService {
             // jsonUrl이 있으면 URL에서 로드, 없으면 기본 파일에서 로드
             if (jsonUrl != null && !jsonUrl.trim().isEmpty()) {
                 // URL에서 JSON 데이터 로드
-                java.net.URL url = new java.net.URL(jsonUrl);
+                java.net.URL url = java.net.URI.create(jsonUrl).toURL();
                 inputStream = url.openStream();
                 System.out.println("URL에서 JSON 로드: " + jsonUrl);
             } else {
@@ -208,7 +202,7 @@ public class MaschineListReportService {
     /**
      * 제목 스타일 생성
      */
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
+    private CellStyle createTitleStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -223,7 +217,7 @@ public class MaschineListReportService {
     /**
      * 헤더 스타일 생성
      */
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -245,7 +239,7 @@ public class MaschineListReportService {
     /**
      * 그룹 스타일 생성
      */
-    private CellStyle createGroupStyle(XSSFWorkbook workbook) {
+    private CellStyle createGroupStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -266,7 +260,7 @@ public class MaschineListReportService {
     /**
      * 데이터 스타일 생성
      */
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
+    private CellStyle createDataStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -284,7 +278,7 @@ public class MaschineListReportService {
     /**
      * 중앙 정렬 스타일 생성
      */
-    private CellStyle createCenterStyle(XSSFWorkbook workbook) {
+    private CellStyle createCenterStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -301,9 +295,9 @@ public class MaschineListReportService {
     /**
      * 셀 생성 헬퍼 메서드
      */
-    private void createCell(XSSFRow row, int column, String value,
+    private void createCell(Row row, int column, String value,
                             CellStyle style) {
-        XSSFCell cell = row.createCell(column);
+        Cell cell = row.createCell(column);
         cell.setCellValue(value != null ? value : "");
         cell.setCellStyle(style);
     }
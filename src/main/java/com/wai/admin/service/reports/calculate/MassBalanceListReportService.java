@@ -2,9 +2,9 @@ package com.wai.admin.service.reports.calculate;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -16,6 +16,7 @@ import java.util.Set;
 import javax.imageio.ImageIO;
 
 import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.ClientAnchor;
 import org.apache.poi.ss.usermodel.Drawing;
@@ -24,17 +25,17 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Picture;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.util.IOUtils;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,6 +44,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class MassBalanceListReportService {
 
     private final ObjectMapper objectMapper;
+    private final StreamingWorkbookFactory streamingWorkbookFactory;
 
     // 특수 문자 넘버링 배열
     private static final String[] CIRCLE_NUMBERS = {
@@ -53,19 +55,19 @@ public class MassBalanceListReportService {
         "㊶", "㊷", "㊸", "㊹", "㊺", "㊻", "㊼", "㊽", "㊾", "㊿"
     };
 
-    public MassBalanceListReportService(ObjectMapper objectMapper) {
+    public MassBalanceListReportService(ObjectMapper objectMapper, StreamingWorkbookFactory streamingWorkbookFactory) {
         this.objectMapper = objectMapper;
+        this.streamingWorkbookFactory = streamingWorkbookFactory;
     }
 
     /**
      * 물질수지도 엑셀 파일 생성
      */
-    public byte[] generateMassBalanceListExcel(Map<String, Object> params) throws Exception {
+    public StreamingResponseBody generateMassBalanceListExcel(Map<String, Object> params) throws Exception {
         System.out.println("generateMassBalanceListExcel 시작");
-        XSSFWorkbook workbook = null;
+        SXSSFWorkbook workbook = streamingWorkbookFactory.create();
         try {
-            workbook = new XSSFWorkbook();
-            XSSFSheet sheet = workbook.createSheet("물질수지도");
+            Sheet sheet = workbook.createSheet("물질수지도");
 
             // JSON 데이터 로드
             Map<String, Object> jsonData = loadMassBalanceJson(params);
@@ -95,10 +97,10 @@ public class MassBalanceListReportService {
             int totalColumns = 21;  //massBalanceList.size() * 1;
 
             // Row 2: MASS BALANCE 타이틀
-            XSSFRow titleRow = sheet.createRow(currentRow++);
+            Row titleRow = sheet.createRow(currentRow++);
             // 병합 영역의 모든 셀에 스타일 적용 (테두리가 제대로 표시되도록)
             for (int i = 0; i < totalColumns; i++) {
-                XSSFCell cell = titleRow.createCell(i);
+                Cell cell = titleRow.createCell(i);
                 if (i == 0) {
                     cell.setCellValue("MASS BALANCE");
                 }
@@ -222,7 +224,7 @@ public class MassBalanceListReportService {
                 }
 
                 // 헤더 행: 공정명 (① Influent, ② SBR Input, ...)
-                XSSFRow processHeaderRow = sheet.createRow(currentRow++);
+                Row processHeaderRow = sheet.createRow(currentRow++);
                 int colIdx = 0;
                 for (int i = startIdx; i < endIdx; i++) {
                     Map<String, Object> process = massBalanceList.get(i);
@@ -235,7 +237,7 @@ public class MassBalanceListReportService {
 
                     // 병합 영역의 모든 셀에 스타일 적용 (테두리가 제대로 표시되도록)
                     for (int j = 0; j < colsForThisProcess; j++) {
-                        XSSFCell cell = processHeaderRow.createCell(colIdx + j);
+                        Cell cell = processHeaderRow.createCell(colIdx + j);
                         if (j == 0) {
                             cell.setCellValue(circleNum + " " + processName);
                         }
@@ -251,7 +253,7 @@ public class MassBalanceListReportService {
                 }
 
                 // Q 행 (유량)
-                XSSFRow qRow = sheet.createRow(currentRow++);
+                Row qRow = sheet.createRow(currentRow++);
                 colIdx = 0;
                 for (int i = startIdx; i < endIdx; i++) {
                     Map<String, Object> process = massBalanceList.get(i);
@@ -282,7 +284,7 @@ public class MassBalanceListReportService {
                 }
 
                 // Item 헤더 행 (Item | mg/L | kg/d 반복)
-                XSSFRow itemHeaderRow = sheet.createRow(currentRow++);
+                Row itemHeaderRow = sheet.createRow(currentRow++);
                 colIdx = 0;
                 for (int i = startIdx; i < endIdx; i++) {
                     // 각 테이블의 첫 번째 공정에서만 Item 출력
@@ -299,7 +301,7 @@ public class MassBalanceListReportService {
                     String itemName = entry.getKey();
                     List<Map<String, Double>> processDataList = entry.getValue();
 
-                    XSSFRow dataRow = sheet.createRow(currentRow++);
+                    Row dataRow = sheet.createRow(currentRow++);
                     colIdx = 0;
 
                     for (int i = startIdx; i < endIdx; i++) {
@@ -398,10 +400,10 @@ public class MassBalanceListReportService {
 
                     // 1행: "Removal Efficiency (%)" 타이틀 (횡 병합)
                     int effTitleRowIdx = currentRow;
-                    XSSFRow effTitleRow = sheet.createRow(currentRow++);
+                    Row effTitleRow = sheet.createRow(currentRow++);
                     int totalEffCols = 1 + processCountInTable; // Item열 + 공정수
                     for (int i = 0; i < totalEffCols; i++) {
-                        XSSFCell cell = effTitleRow.createCell(i);
+                        Cell cell = effTitleRow.createCell(i);
                         if (i == 0) {
                             cell.setCellValue("Removal Efficiency (%)");
                         }
@@ -412,7 +414,7 @@ public class MassBalanceListReportService {
                     }
 
                     // 2행: "Item" + 각 공정명 (번호 없이 process_name만)
-                    XSSFRow effHeaderRow = sheet.createRow(currentRow++);
+                    Row effHeaderRow = sheet.createRow(currentRow++);
                     int colIdx = 0;
                     createCell(effHeaderRow, colIdx++, "Item", unitHeaderStyle);
                     for (int i = startIdx; i < endIdx; i++) {
@@ -423,7 +425,7 @@ public class MassBalanceListReportService {
 
                     // efficiency 데이터 행 생성
                     for (String key : efficiencyKeys) {
-                        XSSFRow dataRow = sheet.createRow(currentRow++);
+                        Row dataRow = sheet.createRow(currentRow++);
                         colIdx = 0;
 
                         // Item명 (첫 번째 열)
@@ -453,32 +455,25 @@ public class MassBalanceListReportService {
                 }
             }
 
-            // 바이트 배열로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
-            return baos.toByteArray();
-        } finally {
-            if (workbook != null) {
-                try {
-                    workbook.close();
-                } catch (IOException e) {
-                    // 로그만 기록 (무시)
-                }
-            }
+            // 모든 행을 채운 뒤 응답 스트림에 기록 (기록이 끝나면 임시 파일 삭제)
+            return streamingWorkbookFactory.stream(workbook);
+        } catch (Exception e) {
+            // 응답으로 넘기기 전 실패 시 임시 파일 정리 후 예외 전달 (컨트롤러에서 500 응답)
+            streamingWorkbookFactory.discard(workbook);
+            throw e;
         }
     }
 
     /**
      * URL에서 이미지 다운로드 후 엑셀에 삽입 (영역에 맞게 비율 유지하며 최적화)
      */
-    private int insertImageFromUrl(XSSFWorkbook workbook, XSSFSheet sheet, String imageUrl, int startRow) throws Exception {
+    private int insertImageFromUrl(Workbook workbook, Sheet sheet, String imageUrl, int startRow) throws Exception {
         InputStream imageStream = null;
         try {
 
             System.out.println("imageUrl >>>> " + imageUrl);
 
-            URL url = new URL(imageUrl);
+            URL url = URI.create(imageUrl).toURL();
             imageStream = url.openStream();
             byte[] imageBytes = IOUtils.toByteArray(imageStream);
 
@@ -570,7 +565,7 @@ public class MassBalanceListReportService {
 
             if (jsonUrl != null && !jsonUrl.trim().isEmpty()) {
                 // URL에서 JSON 데이터 로드
-                URL url = new URL(jsonUrl);
+                URL url = URI.create(jsonUrl).toURL();
                 inputStream = url.openStream();
                 System.out.println("URL에서 JSON 로드: " + jsonUrl);
             } else {
@@ -596,7 +591,7 @@ public class MassBalanceListReportService {
     /**
      * 제목 스타일 생성
      */
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
+    private CellStyle createTitleStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -620,7 +615,7 @@ public class MassBalanceListReportService {
     /**
      * 헤더 스타일 생성 (특수문자 ①② 들어가는 공정명 헤더)
      */
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -647,7 +642,7 @@ public class MassBalanceListReportService {
     /**
      * 단위 헤더 스타일 생성 (Item, mg/L, kg/d)
      */
-    private CellStyle createUnitHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createUnitHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -668,7 +663,7 @@ public class MassBalanceListReportService {
     /**
      * 데이터 스타일 생성 (Item명 등 좌측 열용 - 중앙정렬)
      */
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
+    private CellStyle createDataStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -686,7 +681,7 @@ public class MassBalanceListReportService {
     /**
      * 중앙 정렬 스타일 생성
      */
-    private CellStyle createCenterStyle(XSSFWorkbook workbook) {
+    private CellStyle createCenterStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -704,7 +699,7 @@ public class MassBalanceListReportService {
     /**
      * 숫자 스타일 생성 (소수점 1자리까지 표시)
      */
-    private CellStyle createNumericStyle(XSSFWorkbook workbook) {
+    private CellStyle createNumericStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -724,8 +719,8 @@ public class MassBalanceListReportService {
     /**
      * 셀 생성 헬퍼 메서드 (문자열)
      */
-    private void createCell(XSSFRow row, int column, String value, CellStyle style) {
-        XSSFCell cell = row.createCell(column);
+    private void createCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
         cell.setCellValue(value != null ? value : "");
         cell.setCellStyle(style);
     }
@@ -733,8 +728,8 @@ public class MassBalanceListReportService {
     /**
      * 숫자 셀 생성 헬퍼 메서드 (실수값 저장, 값이 없으면 '-' 표시)
      */
-    private void createNumericCell(XSSFRow row, int column, Double value, CellStyle style, CellStyle textStyle) {
-        XSSFCell cell = row.createCell(column);
+    private void createNumericCell(Row row, int column, Double value, CellStyle style, CellStyle textStyle) {
+        Cell cell = row.createCell(column);
         if (value == null) {
             cell.setCellValue("-");
             cell.setCellStyle(textStyle);
@@ -1,9 +1,9 @@
 package com.wai.admin.service.reports.calculate;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -14,16 +14,18 @@ import java.util.Map;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
@@ -44,6 +46,9 @@ public class ProcessCapaReportPreviewService {
     @Value("${auth.server.base-url}")
     private String authServerBaseUrl;
 
+    @Autowired
+    private ExcelTemplateCache excelTemplateCache;
+
     
     private List<String> getFileList(Map<String, Object> searchParams) {
         logger.debug("파일 목록 조회 시작: server={}, params={}", authServerBaseUrl, searchParams);
@@ -119,14 +124,10 @@ public class ProcessCapaReportPreviewService {
     }
 
     /**
-     * Download Excel file from URL
+     * Download Excel file from URL (로컬 템플릿 캐시 사용)
      */
     private Workbook downloadExcelFile(String url) throws IOException {
-        URL fileUrl = new URL(url);
-        InputStream inputStream = fileUrl.openStream();
-        Workbook workbook = new XSSFWorkbook(inputStream);
-        inputStream.close();
-        return workbook;
+        return excelTemplateCache.openWorkbook(url);
     }
 
     /**
@@ -213,7 +214,7 @@ public class ProcessCapaReportPreviewService {
         logger.info("타겟 processId: {}, processNo: {}", targetProcessId, targetProcessNo);
 
         // JSON URL에서 데이터 다운로드
-        URL url = new URL(jsonUrl);
+        URL url = URI.create(jsonUrl).toURL();
         InputStream inputStream = url.openStream();
         String jsonContent = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
         inputStream.close();
@@ -325,7 +326,7 @@ public class ProcessCapaReportPreviewService {
         // jsonUrl이 있으면 해당 로직 사용
         if (jsonUrl != null && !jsonUrl.trim().isEmpty()) {
             // URL에서 JSON 데이터 로드
-            URL url = new URL(jsonUrl);
+            URL url = URI.create(jsonUrl).toURL();
             InputStream inputStream = url.openStream();
             String jsonContent = StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
             inputStream.close();
@@ -389,13 +390,12 @@ public class ProcessCapaReportPreviewService {
                     }
 
                     try {
-                        // Excel 파일 다운로드
-                        Workbook workbook = downloadExcelFile(downloadUrl);
+                        // Excel 파일의 시트명만 조회 (Workbook 생성 없이 workbook 파트만 읽음, 파일 버전별 캐시)
+                        List<String> originalSheetNames = excelTemplateCache.getSheetNames(downloadUrl);
 
                         // 시트명 리스트 생성 (_DATAIN 제외)
                         List<String> sheetNames = new ArrayList<>();
-                        for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-                            String originalSheetName = workbook.getSheetAt(i).getSheetName();
+                        for (String originalSheetName : originalSheetNames) {
 
                             // "_DATAIN"이 포함된 시트는 제외
                             // ///////////////////////////////////(2025-12-04)
@@ -416,8 +416,6 @@ public class ProcessCapaReportPreviewService {
                             sheetNames.add(newSheetName);
                         }
 
-                        workbook.close();
-
                         // 파일명 결정 (duplicateCount에 따라)
                         String fileName;
                         fileName = processName;
@@ -449,18 +447,13 @@ public class ProcessCapaReportPreviewService {
             for (String fileUrl : fileUrls) {
                 try {
                     String fileName = extractFileNameFromUrl(fileUrl);
-                    Workbook workbook = downloadExcelFile(fileUrl);
-
                     List<String> sheetNames = new ArrayList<>();
-                    for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-                        String sheetName = workbook.getSheetAt(i).getSheetName();
+                    for (String sheetName : excelTemplateCache.getSheetNames(fileUrl)) {
                         if (!sheetName.toUpperCase().contains("DATAIN")) {
                             sheetNames.add(sheetName);
                         }
                     }
 
-                    workbook.close();
-
                     // FileTabInfo 객체 생성 (jsonUrl 없는 경우 processId, processNo는 빈값, duplicateCnt는 1)
                     FileTabInfo fileTabInfo = new FileTabInfo(fileName, "", "", fileUrl, 1, sheetNames);
                     tablist.add(fileTabInfo);
@@ -749,31 +742,7 @@ public class ProcessCapaReportPreviewService {
         workbook.setForceFormulaRecalculation(true);
         logger.info("수식 재계산 설정 완료");
 
-        // 5. Excel 파일을 임시로 저장했다가 다시 로드 (수식 재평가를 위해)
-        ByteArrayOutputStream tempBaos = new ByteArrayOutputStream();
-        workbook.write(tempBaos);
-        workbook.close();
-
-        // 임시 저장한 Excel을 다시 로드
-        ByteArrayInputStream tempBais = new ByteArrayInputStream(tempBaos.toByteArray());
-        workbook = new XSSFWorkbook(tempBais);
-        tempBaos.close();
-        tempBais.close();
-
-        logger.info("Excel 파일 재로드 완료 (수식 재평가)");
-
-        // 6. FormulaEvaluator를 사용하여 모든 수식을 명시적으로 재평가
-        // 외부 워크북 참조가 있는 경우 실패할 수 있으므로 try-catch로 처리
-        try {
-            org.apache.poi.ss.usermodel.FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
-            evaluator.setIgnoreMissingWorkbooks(true);
-            evaluator.evaluateAll();
-            logger.info("모든 수식 재평가 완료");
-        } catch (Exception e) {
-            logger.warn("수식 재평가 중 오류 발생 (외부 워크북 참조): {}. 캐시된 값 사용.", e.getMessage());
-        }
-
-        // 7. tabName과 동일한 Sheet 찾기
+        // 5. tabName과 동일한 Sheet 찾기
         Sheet sheet = null;
         for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
             Sheet currentSheet = workbook.getSheetAt(i);
@@ -790,7 +759,10 @@ public class ProcessCapaReportPreviewService {
 
         logger.info("시트 발견: {}, 행 개수: {}", sheet.getSheetName(), sheet.getLastRowNum() + 1);
 
-        // 8. Sheet를 HTML로 변환 (Excel 스타일 완벽 재현)
+        // 6. 요청한 시트의 수식 셀만 재평가 (참조하는 셀은 평가기가 재귀적으로 계산)
+        evaluateSheetFormulas(workbook, sheet);
+
+        // 7. Sheet를 HTML로 변환 (Excel 스타일 완벽 재현)
         StringBuilder html = new StringBuilder();
         html.append("<!DOCTYPE html>\n");
         html.append("<html>\n");
@@ -815,7 +787,7 @@ public class ProcessCapaReportPreviewService {
         html.append("    <div class=\"excel-container\">\n");
         html.append("    <table class=\"tbl-preview\">\n");
 
-        // 9. 컬럼 너비 설정
+        // 8. 컬럼 너비 설정
         html.append("        <colgroup>\n");
         int maxCol = 0;
         for (int rowIdx = 0; rowIdx <= sheet.getLastRowNum(); rowIdx++) {
@@ -833,7 +805,7 @@ public class ProcessCapaReportPreviewService {
         }
         html.append("        </colgroup>\n");
 
-        // 10. 병합 영역 정보 수집
+        // 9. 병합 영역 정보 수집
         List<CellRangeAddress> mergedRegions = sheet.getMergedRegions();
 
         // 병합 영역 맵 생성: key = "rowIdx,colIdx", value = CellRangeAddress
@@ -863,7 +835,7 @@ public class ProcessCapaReportPreviewService {
 
         logger.info("병합 영역 수: {}", mergedRegions.size());
 
-        // 11. 행 순회하며 HTML 테이블 생성 (스타일 및 병합 처리 포함)
+        // 10. 행 순회하며 HTML 테이블 생성 (스타일 및 병합 처리 포함)
         for (int rowIdx = 0; rowIdx <= sheet.getLastRowNum(); rowIdx++) {
             Row row = sheet.getRow(rowIdx);
             if (row == null) {
@@ -1018,6 +990,41 @@ public class ProcessCapaReportPreviewService {
         return htmlBytes;
     }
 
+    /**
+     * 시트의 수식 셀만 재평가
+     * - _DATAIN 시트 교체 후 평가기 캐시를 비우고, 해당 시트가 (직간접적으로) 참조하는 셀만 계산
+     * - 워크북 전체 write/reload 및 evaluateAll 대비 CPU/메모리 사용 감소
+     * - 외부 워크북 참조 등으로 실패한 셀은 캐시된 값 사용
+     */
+    private void evaluateSheetFormulas(Workbook workbook, Sheet sheet) {
+        FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+        evaluator.setIgnoreMissingWorkbooks(true);
+        evaluator.clearAllCachedResultValues();
+
+        int evaluatedCount = 0;
+        int failedCount = 0;
+        for (Row row : sheet) {
+            for (Cell cell : row) {
+                if (cell.getCellType() != CellType.FORMULA) {
+                    continue;
+                }
+                try {
+                    evaluator.evaluateFormulaCell(cell);
+                    evaluatedCount++;
+                } catch (Exception e) {
+                    failedCount++;
+                    logger.debug("수식 재평가 실패 (row={}, col={}): {}. 캐시된 값 사용.",
+                        cell.getRowIndex(), cell.getColumnIndex(), e.getMessage());
+                }
+            }
+        }
+
+        if (failedCount > 0) {
+            logger.warn("수식 재평가 중 오류 발생 - 시트: {}, 실패 셀 수: {}. 캐시된 값 사용.", sheet.getSheetName(), failedCount);
+        }
+        logger.info("시트 수식 재평가 완료 - 시트: {}, 평가 셀 수: {}", sheet.getSheetName(), evaluatedCount);
+    }
+
     /**
      * Excel Sheet를 DATA IN이 포함된 Excel 파일로 반환
      */
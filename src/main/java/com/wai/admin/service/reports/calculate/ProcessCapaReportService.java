@@ -9,7 +9,11 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -22,8 +26,11 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
 
@@ -41,11 +48,30 @@ public class ProcessCapaReportService {
     @Value("${auth.server.base-url}")
     private String authServerBaseUrl;
 
+    @Autowired
+    private ExcelTemplateCache excelTemplateCache;
+
+    @Autowired
+    @Qualifier("upstreamExecutor")
+    private ThreadPoolTaskExecutor upstreamExecutor;
+
+    // 통합 엑셀 생성 시 동시에 다운로드/파싱하는 워크북 수
+    @Value("${report.integration.download-concurrency:4}")
+    private int downloadConcurrency;
+
     /**
      * Generate integrated Excel file with process capacity data
      */
     public byte[] generateIntegrationXlsx(Map<String, Object> searchParams) throws Exception {
-        System.out.println("searchParams : " + searchParams);
+        return generateIntegrationXlsx(searchParams, null);
+    }
+
+    /**
+     * Generate integrated Excel file with process capacity data
+     * @param templateUrls 병합에 사용한 CCS 엑셀 download_url을 담을 집합 (리포트 결과 캐시의 입력 버전 기록용, null 허용)
+     */
+    public byte[] generateIntegrationXlsx(Map<String, Object> searchParams, Set<String> templateUrls) throws Exception {
+        logger.debug("searchParams : {}", searchParams);
 
         // 0. jsonUrl 호출하여 데이터 가져오기
         String jsonUrl = (String) searchParams.get("jsonUrl");
@@ -58,7 +84,7 @@ public class ProcessCapaReportService {
 
         if (jsonUrl != null && !jsonUrl.trim().isEmpty()) {
             // URL에서 JSON 데이터 로드
-            java.net.URL url = new java.net.URL(jsonUrl);
+            java.net.URL url = java.net.URI.create(jsonUrl).toURL();
             InputStream inputStream = url.openStream();
             jsonContent = StreamUtils.copyToString(inputStream, java.nio.charset.StandardCharsets.UTF_8);
             inputStream.close();
@@ -92,17 +118,27 @@ public class ProcessCapaReportService {
         }
 
         // ============================================================
-        // 1차: 중첩 for문으로 processInfo에 download_url 저장
+        // 1차: process_id별 download_url 조회 (병렬)
+        // - 조회 API는 process_id(process_code)로만 검색하므로 process_id당 1회만 호출하고
+        //   같은 process_id의 모든 processNo에 동일한 URL을 저장
         // ============================================================
         String apiUrl = authServerBaseUrl + "/api/v1/process/process_masters/search/enhanced";
 
+        Map<String, CompletableFuture<String>> downloadUrlFutures = new LinkedHashMap<>();
+        for (Map.Entry<String, ProcessInfoVo> entry : processInfoMap.entrySet()) {
+            ProcessInfoVo processInfo = entry.getValue();
+            String processId = processInfo.getProcessId();
+            String processNos = String.join(",", processInfo.getProcessNoList());
+            downloadUrlFutures.put(entry.getKey(), CompletableFuture.supplyAsync(
+                    () -> findDownloadUrlByProcessIdAndNo(apiUrl, processId, processNos, searchParams), upstreamExecutor));
+        }
+
         for (Map.Entry<String, ProcessInfoVo> entry : processInfoMap.entrySet()) {
             ProcessInfoVo processInfo = entry.getValue();
             String processId = processInfo.getProcessId();
+            String downloadUrl = downloadUrlFutures.get(entry.getKey()).join();
 
             for (String processNo : processInfo.getProcessNoList()) {
-                // API 호출하여 process_code가 일치하는 download_url 찾기
-                String downloadUrl = findDownloadUrlByProcessIdAndNo(apiUrl, processId, processNo, searchParams);
                 if (downloadUrl != null) {
                     processInfo.addDownloadUrl(downloadUrl);
                     logger.info("download_url 저장 - processId: {}, processNo: {}, url: {}", processId, processNo, downloadUrl);
@@ -113,108 +149,73 @@ public class ProcessCapaReportService {
             }
         }
 
+        // 병렬 조회에서 받은 외부 API Set-Cookie를 이 요청의 응답으로 전달 (파일 응답을 쓰기 전)
+        HttpUtil.forwardDeferredCookies();
+
         // 결과 로그 출력
         for (Map.Entry<String, ProcessInfoVo> entry : processInfoMap.entrySet()) {
             logger.info("최종 Process 정보: {}", entry.getValue());
         }
 
         // ============================================================
-        // 2차: 중첩 for문으로 엑셀 다운로드 및 sheet명 수정, 합치기
+        // 2차: 엑셀 다운로드/파싱은 병렬로, 시트 복사는 순서대로 합치기
         // ============================================================
-        Workbook mergedWorkbook = new XSSFWorkbook();
-
+        List<MergeTask> mergeTasks = new ArrayList<>();
         for (Map.Entry<String, ProcessInfoVo> entry : processInfoMap.entrySet()) {
             ProcessInfoVo processInfo = entry.getValue();
-            String processId = processInfo.getProcessId();
-            String processName = processInfo.getProcessName();
             List<String> processNoList = processInfo.getProcessNoList();
             List<String> downloadUrlList = processInfo.getDownloadUrlList();
-            int duplicateCount = processInfo.getDuplicateCount();
 
             for (int idx = 0; idx < processNoList.size(); idx++) {
                 String processNo = processNoList.get(idx);
                 String downloadUrl = (idx < downloadUrlList.size()) ? downloadUrlList.get(idx) : "";
 
                 if (downloadUrl == null || downloadUrl.isEmpty()) {
-                    logger.warn("download_url이 비어있어 건너뜁니다 - processId: {}, processNo: {}", processId, processNo);
+                    logger.warn("download_url이 비어있어 건너뜁니다 - processId: {}, processNo: {}", processInfo.getProcessId(), processNo);
                     continue;
                 }
+                mergeTasks.add(new MergeTask(processInfo, processNo, downloadUrl));
+                if (templateUrls != null) {
+                    templateUrls.add(downloadUrl);
+                }
+            }
+        }
 
-                try {
-                    // 엑셀 파일 다운로드
-                    Workbook sourceWorkbook = downloadExcelFile(downloadUrl);
-                    logger.info("엑셀 다운로드 완료 - processId: {}, processNo: {}", processId, processNo);
-
-                    // 스타일/폰트 캐시: 각 소스 워크북별로 새로 생성 (서로 다른 워크북의 스타일 인덱스 충돌 방지)
-                    Map<Integer, CellStyle> styleCache = new HashMap<>();
-                    Map<Integer, Font> fontCache = new HashMap<>();
-
-                    // 원본 DATAIN 시트명 찾기 (수식 참조 치환용)
-                    String oldDataInSheetName = null;
-                    for (int i = 0; i < sourceWorkbook.getNumberOfSheets(); i++) {
-                        String sheetName = sourceWorkbook.getSheetAt(i).getSheetName();
-                        if (sheetName.toUpperCase().contains("DATAIN")) {
-                            oldDataInSheetName = sheetName;
-                            break;
-                        }
-                    }
-
-                    // 새 DATAIN 시트명 결정
-                    String newDataInSheetName;
-                    if (duplicateCount == 1) {
-                        newDataInSheetName = processName + "_DATAIN";
-                    } else {
-                        newDataInSheetName = processName + "_" + processNo + "_DATAIN";
-                    }
-
-                    logger.info("DATAIN 시트명 치환: {} -> {}", oldDataInSheetName, newDataInSheetName);
-
-                    // sheet 순회
-                    for (int i = 0; i < sourceWorkbook.getNumberOfSheets(); i++) {
-                        Sheet sourceSheet = sourceWorkbook.getSheetAt(i);
-                        String originalSheetName = sourceSheet.getSheetName();
-
-                        // "DATAIN"이 포함된 시트는 건너뛰기 (나중에 새로 생성)
-                        if (originalSheetName.toUpperCase().contains("DATAIN")) {
-                            continue;
-                        }
+        Workbook mergedWorkbook = new XSSFWorkbook();
 
-                        String newSheetName;
-                        if (duplicateCount == 1) {
-                            // 조건1: duplicateCount가 1인 경우 - sheet명 그대로 유지
-                            newSheetName = originalSheetName;
-                        } else {
-                            // 조건2: duplicateCount가 1 이상인 경우 - sheet명 뒤에 "_" + processNo 추가
-                            newSheetName = originalSheetName + "_" + processNo;
-                        }
+        // 동시에 메모리에 올라가는 워크북 수를 제한하기 위해 downloadConcurrency 개까지만 앞서 다운로드
+        int window = Math.max(1, downloadConcurrency);
+        List<CompletableFuture<Workbook>> downloads = new ArrayList<>();
+        int merged = 0;
+        try {
+            for (; merged < mergeTasks.size(); merged++) {
+                while (downloads.size() < mergeTasks.size() && downloads.size() < merged + window) {
+                    downloads.add(submitDownload(mergeTasks.get(downloads.size())));
+                }
 
-                        // 중복 시트명 처리
-                        newSheetName = getUniqueSheetName(mergedWorkbook, newSheetName);
+                MergeTask task = mergeTasks.get(merged);
+                String processId = task.processInfo.getProcessId();
+                try {
+                    Workbook sourceWorkbook = downloads.get(merged).join();
+                    logger.info("엑셀 다운로드 완료 - processId: {}, processNo: {}", processId, task.processNo);
 
-                        // 시트 복사 (DATAIN 시트 참조 치환 포함, 스타일/폰트 캐싱 적용)
-                        Sheet mergedSheet = mergedWorkbook.createSheet(newSheetName);
-                        copySheet(sourceSheet, mergedSheet, sourceWorkbook, mergedWorkbook,
-                                  oldDataInSheetName, newDataInSheetName, styleCache, fontCache);
-                        logger.info("시트 복사 완료: {} -> {}", originalSheetName, newSheetName);
+                    try {
+                        mergeProcessWorkbook(mergedWorkbook, sourceWorkbook, task, valuesNode);
+                    } finally {
+                        sourceWorkbook.close();
                     }
-
-                    sourceWorkbook.close();
-
-                    // _DATAIN 시트 생성 및 데이터 입력
-                    String dataInSheetName = getUniqueSheetName(mergedWorkbook, newDataInSheetName);
-
-                    Sheet dataInSheet = mergedWorkbook.createSheet(dataInSheetName);
-
-                    // valuesNode에서 일치하는 데이터 찾아 입력
-                    populateDataInSheetFromValues(dataInSheet, mergedWorkbook, valuesNode, processId, processNo);
-                    logger.info("DATAIN 시트 생성 완료: {}", dataInSheetName);
-
                 } catch (Exception e) {
+                    Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
                     logger.error("엑셀 처리 중 오류 - processId: {}, processNo: {}, error: {}",
-                        processId, processNo, e.getMessage());
-                    e.printStackTrace();
+                        processId, task.processNo, cause.getMessage(), cause);
                 }
             }
+        } finally {
+            // 중간에 중단된 경우 남은 다운로드 취소 및 이미 받은 워크북 닫기
+            for (int i = merged + 1; i < downloads.size(); i++) {
+                downloads.get(i).cancel(true);
+                downloads.get(i).thenAccept(this::closeQuietly);
+            }
         }
 
         // 최종 엑셀 파일 생성
@@ -228,6 +229,115 @@ public class ProcessCapaReportService {
         return reportBytes;
     }
 
+    /**
+     * 다운로드한 프로세스 엑셀을 통합 워크북에 복사하고 _DATAIN 시트 생성
+     * - 통합 워크북은 스레드 안전하지 않으므로 요청 스레드에서 순서대로 호출
+     */
+    private void mergeProcessWorkbook(Workbook mergedWorkbook, Workbook sourceWorkbook, MergeTask task, JsonNode valuesNode) {
+        String processId = task.processInfo.getProcessId();
+        String processName = task.processInfo.getProcessName();
+        String processNo = task.processNo;
+        int duplicateCount = task.processInfo.getDuplicateCount();
+
+        // 스타일/폰트 캐시: 각 소스 워크북별로 새로 생성 (서로 다른 워크북의 스타일 인덱스 충돌 방지)
+        Map<Integer, CellStyle> styleCache = new HashMap<>();
+        Map<Integer, Font> fontCache = new HashMap<>();
+
+        // 원본 DATAIN 시트명 찾기 (수식 참조 치환용)
+        String oldDataInSheetName = null;
+        for (int i = 0; i < sourceWorkbook.getNumberOfSheets(); i++) {
+            String sheetName = sourceWorkbook.getSheetAt(i).getSheetName();
+            if (sheetName.toUpperCase().contains("DATAIN")) {
+                oldDataInSheetName = sheetName;
+                break;
+            }
+        }
+
+        // 새 DATAIN 시트명 결정
+        String newDataInSheetName;
+        if (duplicateCount == 1) {
+            newDataInSheetName = processName + "_DATAIN";
+        } else {
+            newDataInSheetName = processName + "_" + processNo + "_DATAIN";
+        }
+
+        logger.info("DATAIN 시트명 치환: {} -> {}", oldDataInSheetName, newDataInSheetName);
+
+        // sheet 순회
+        for (int i = 0; i < sourceWorkbook.getNumberOfSheets(); i++) {
+            Sheet sourceSheet = sourceWorkbook.getSheetAt(i);
+            String originalSheetName = sourceSheet.getSheetName();
+
+            // "DATAIN"이 포함된 시트는 건너뛰기 (나중에 새로 생성)
+            if (originalSheetName.toUpperCase().contains("DATAIN")) {
+                continue;
+            }
+
+            String newSheetName;
+            if (duplicateCount == 1) {
+                // 조건1: duplicateCount가 1인 경우 - sheet명 그대로 유지
+                newSheetName = originalSheetName;
+            } else {
+                // 조건2: duplicateCount가 1 이상인 경우 - sheet명 뒤에 "_" + processNo 추가
+                newSheetName = originalSheetName + "_" + processNo;
+            }
+
+            // 중복 시트명 처리
+            newSheetName = getUniqueSheetName(mergedWorkbook, newSheetName);
+
+            // 시트 복사 (DATAIN 시트 참조 치환 포함, 스타일/폰트 캐싱 적용)
+            Sheet mergedSheet = mergedWorkbook.createSheet(newSheetName);
+            copySheet(sourceSheet, mergedSheet, sourceWorkbook, mergedWorkbook,
+                      oldDataInSheetName, newDataInSheetName, styleCache, fontCache);
+            logger.info("시트 복사 완료: {} -> {}", originalSheetName, newSheetName);
+        }
+
+        // _DATAIN 시트 생성 및 데이터 입력
+        String dataInSheetName = getUniqueSheetName(mergedWorkbook, newDataInSheetName);
+
+        Sheet dataInSheet = mergedWorkbook.createSheet(dataInSheetName);
+
+        // valuesNode에서 일치하는 데이터 찾아 입력
+        populateDataInSheetFromValues(dataInSheet, mergedWorkbook, valuesNode, processId, processNo);
+        logger.info("DATAIN 시트 생성 완료: {}", dataInSheetName);
+    }
+
+    /**
+     * 엑셀 다운로드/파싱을 upstreamExecutor에서 비동기 실행
+     */
+    private CompletableFuture<Workbook> submitDownload(MergeTask task) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return downloadExcelFile(task.downloadUrl);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, upstreamExecutor);
+    }
+
+    private void closeQuietly(Workbook workbook) {
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            logger.warn("워크북 close 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 통합 엑셀 병합 단위 (processId + processNo + download_url)
+     */
+    private static class MergeTask {
+        private final ProcessInfoVo processInfo;
+        private final String processNo;
+        private final String downloadUrl;
+
+        MergeTask(ProcessInfoVo processInfo, String processNo, String downloadUrl) {
+            this.processInfo = processInfo;
+            this.processNo = processNo;
+            this.downloadUrl = downloadUrl;
+        }
+    }
+
     /**
      * API를 호출하여 process_id와 process_no(process_code)가 일치하는 download_url 찾기
      */
@@ -461,14 +571,10 @@ public class ProcessCapaReportService {
     }
 
     /**
-     * Download Excel file from URL
+     * Download Excel file from URL (로컬 템플릿 캐시 사용)
      */
     private Workbook downloadExcelFile(String url) throws IOException {
-        URL fileUrl = new URL(url);
-        InputStream inputStream = fileUrl.openStream();
-        Workbook workbook = new XSSFWorkbook(inputStream);
-        inputStream.close();
-        return workbook;
+        return excelTemplateCache.openWorkbook(url);
     }
 
     /**
@@ -1,25 +1,26 @@
 package com.wai.admin.service.reports.calculate;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.RegionUtil;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,19 +29,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class RepairCalListReportService {
 
     private final ObjectMapper objectMapper;
+    private final StreamingWorkbookFactory streamingWorkbookFactory;
 
-    public RepairCalListReportService(ObjectMapper objectMapper) {
+    public RepairCalListReportService(ObjectMapper objectMapper, StreamingWorkbookFactory streamingWorkbookFactory) {
         this.objectMapper = objectMapper;
+        this.streamingWorkbookFactory = streamingWorkbookFactory;
     }
 
     /**
      * 수리계산서 엑셀 파일 생성 (원본과 동일한 17개 컬럼 구조)
      */
-    public byte[] generateRepairCalExcel() throws Exception {
-        XSSFWorkbook workbook = null;
+    public StreamingResponseBody generateRepairCalExcel() throws Exception {
+        SXSSFWorkbook workbook = streamingWorkbookFactory.create();
         try {
-            workbook = new XSSFWorkbook();
-            XSSFSheet sheet = workbook.createSheet("수리계산서");
+            Sheet sheet = workbook.createSheet("수리계산서");
 
             // 스타일 정의
             CellStyle titleStyle = createTitleStyle(workbook);
@@ -51,9 +53,9 @@ public class RepairCalListReportService {
             int rowNum = 0;
 
             // Row 1: 제목 행 "수리계산서"
-            XSSFRow titleRow = sheet.createRow(rowNum++);
+            Row titleRow = sheet.createRow(rowNum++);
             titleRow.setHeightInPoints(25);
-            XSSFCell titleCell = titleRow.createCell(0);
+            Cell titleCell = titleRow.createCell(0);
             titleCell.setCellValue("수리계산서");
             titleCell.setCellStyle(titleStyle);
             sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(0, 0, 0, 16));
@@ -62,31 +64,31 @@ public class RepairCalListReportService {
             sheet.createRow(rowNum++);
 
             // Row 3-4: 헤더 행 (2행으로 병합)
-            XSSFRow headerRow1 = sheet.createRow(rowNum++);
-            XSSFRow headerRow2 = sheet.createRow(rowNum++);
+            Row headerRow1 = sheet.createRow(rowNum++);
+            Row headerRow2 = sheet.createRow(rowNum++);
             headerRow1.setHeightInPoints(20);
             headerRow2.setHeightInPoints(20);
 
             // 헤더 1: "산출근거" (A3:H4 병합)
-            XSSFCell header1 = headerRow1.createCell(0);
+            Cell header1 = headerRow1.createCell(0);
             header1.setCellValue("산출근거");
             header1.setCellStyle(headerStyle);
             sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(2, 3, 0, 7));
 
             // 헤더 2: "L.W.L\n(일평균)" (I3:K4 병합)
-            XSSFCell header2 = headerRow1.createCell(8);
+            Cell header2 = headerRow1.createCell(8);
             header2.setCellValue("L.W.L\n(일평균)");
             header2.setCellStyle(headerStyle);
             sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(2, 3, 8, 10));
 
             // 헤더 3: "D.W.L\n(일최대)" (L3:N4 병합)
-            XSSFCell header3 = headerRow1.createCell(11);
+            Cell header3 = headerRow1.createCell(11);
             header3.setCellValue("D.W.L\n(일최대)");
             header3.setCellStyle(headerStyle);
             sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(2, 3, 11, 13));
 
             // 헤더 4: "H.W.L\n(시간최대)" (O3:Q4 병합)
-            XSSFCell header4 = headerRow1.createCell(14);
+            Cell header4 = headerRow1.createCell(14);
             header4.setCellValue("H.W.L\n(시간최대)");
             header4.setCellStyle(headerStyle);
             sheet.addMergedRegion(new org.apache.poi.ss.util.CellRangeAddress(2, 3, 14, 16));
@@ -94,9 +96,16 @@ public class RepairCalListReportService {
             // JSON 데이터 로드
             List<Map<String, Object>> repairCalList = loadRepairCalJson();
 
+            // 테두리 그리기 (flush된 행은 다시 접근할 수 없으므로 행을 만들 때 바로 적용)
+            Map<String, CellStyle> borderStyles = new HashMap<>();
+            drawHeaderBorders(sheet);
+            drawBorders(headerRow1, false, borderStyles);
+            drawBorders(headerRow2, repairCalList.isEmpty(), borderStyles);
+
             // 데이터 행 추가 (Row 5부터 시작)
-            for (Map<String, Object> item : repairCalList) {
-                XSSFRow dataRow = sheet.createRow(rowNum++);
+            for (int itemIdx = 0; itemIdx < repairCalList.size(); itemIdx++) {
+                Map<String, Object> item = repairCalList.get(itemIdx);
+                Row dataRow = sheet.createRow(rowNum++);
                 dataRow.setHeightInPoints(20);
 
                 // 17개 컬럼 처리
@@ -104,7 +113,7 @@ public class RepairCalListReportService {
                     String colKey = "Col" + col;
                     Object cellValue = item.get(colKey);
 
-                    XSSFCell cell = dataRow.createCell(col - 1);
+                    Cell cell = dataRow.createCell(col - 1);
 
                     if (cellValue != null) {
                         if (cellValue instanceof Number) {
@@ -127,6 +136,7 @@ public class RepairCalListReportService {
                         }
                     }
                 }
+                drawBorders(dataRow, itemIdx == repairCalList.size() - 1, borderStyles);
             }
 
             // 컬럼 너비 설정 (원본과 유사하게)
@@ -148,23 +158,12 @@ public class RepairCalListReportService {
             sheet.setColumnWidth(15, 1500);  // Col16
             sheet.setColumnWidth(16, 1500);  // Col17
 
-            // 테두리 그리기
-            drawBorders(sheet, rowNum);
-
-
-            // 바이트 배열로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
-            return baos.toByteArray();
-        } finally {
-            if (workbook != null) {
-                try {
-                    workbook.close();
-                } catch (IOException e) {
-                    // 로그만 기록 (무시)
-                }
-            }
+            // 모든 행을 채운 뒤 응답 스트림에 기록 (기록이 끝나면 임시 파일 삭제)
+            return streamingWorkbookFactory.stream(workbook);
+        } catch (Exception e) {
+            // 응답으로 넘기기 전 실패 시 임시 파일 정리 후 예외 전달 (컨트롤러에서 500 응답)
+            streamingWorkbookFactory.discard(workbook);
+            throw e;
         }
     }
 
@@ -198,9 +197,9 @@ public class RepairCalListReportService {
     }
 
     /**
-     * Draw borders for header and data columns
+     * Draw borders for merged header regions
      */
-    private void drawBorders(XSSFSheet sheet, int lastDataRow) {
+    private void drawHeaderBorders(Sheet sheet) {
         CellRangeAddress[] headerRanges = {
             new CellRangeAddress(2, 3, 0, 7),
             new CellRangeAddress(2, 3, 8, 10),
@@ -214,64 +213,44 @@ public class RepairCalListReportService {
             RegionUtil.setBorderLeft(BorderStyle.THIN, range, sheet);
             RegionUtil.setBorderRight(BorderStyle.THIN, range, sheet);
         }
+    }
 
-        int startRow = 2;
-        int endRow = lastDataRow;
-
-        for (int rowIdx = startRow; rowIdx < endRow; rowIdx++) {
-            XSSFRow row = sheet.getRow(rowIdx);
-            if (row == null) {
-                row = sheet.createRow(rowIdx);
+    /**
+     * Draw column borders (H, K, N, Q right border) and bottom border for the last row
+     * - 기존 셀 스타일에 테두리를 더한 스타일은 (원본 스타일, 테두리 종류)별로 한 번만 만들어 재사용
+     */
+    private void drawBorders(Row row, boolean lastRow, Map<String, CellStyle> borderStyles) {
+        Workbook workbook = row.getSheet().getWorkbook();
+        for (int colIdx = 0; colIdx <= 16; colIdx++) {
+            boolean rightBorder = colIdx == 7 || colIdx == 10 || colIdx == 13 || colIdx == 16;
+            if (!rightBorder && !lastRow) {
+                continue;
             }
 
-            XSSFCell cellH = row.getCell(7);
-            if (cellH == null) cellH = row.createCell(7);
-            CellStyle styleH = sheet.getWorkbook().createCellStyle();
-            styleH.cloneStyleFrom(cellH.getCellStyle() != null ? cellH.getCellStyle() : sheet.getWorkbook().createCellStyle());
-            styleH.setBorderRight(BorderStyle.THIN);
-            cellH.setCellStyle(styleH);
-
-            XSSFCell cellK = row.getCell(10);
-            if (cellK == null) cellK = row.createCell(10);
-            CellStyle styleK = sheet.getWorkbook().createCellStyle();
-            styleK.cloneStyleFrom(cellK.getCellStyle() != null ? cellK.getCellStyle() : sheet.getWorkbook().createCellStyle());
-            styleK.setBorderRight(BorderStyle.THIN);
-            cellK.setCellStyle(styleK);
-
-            XSSFCell cellN = row.getCell(13);
-            if (cellN == null) cellN = row.createCell(13);
-            CellStyle styleN = sheet.getWorkbook().createCellStyle();
-            styleN.cloneStyleFrom(cellN.getCellStyle() != null ? cellN.getCellStyle() : sheet.getWorkbook().createCellStyle());
-            styleN.setBorderRight(BorderStyle.THIN);
-            cellN.setCellStyle(styleN);
-
-            XSSFCell cellQ = row.getCell(16);
-            if (cellQ == null) cellQ = row.createCell(16);
-            CellStyle styleQ = sheet.getWorkbook().createCellStyle();
-            styleQ.cloneStyleFrom(cellQ.getCellStyle() != null ? cellQ.getCellStyle() : sheet.getWorkbook().createCellStyle());
-            styleQ.setBorderRight(BorderStyle.THIN);
-            cellQ.setCellStyle(styleQ);
-        }
-
-        XSSFRow lastRow = sheet.getRow(lastDataRow - 1);
-        if (lastRow != null) {
-            for (int colIdx = 0; colIdx <= 16; colIdx++) {
-                XSSFCell cell = lastRow.getCell(colIdx);
-                if (cell == null) cell = lastRow.createCell(colIdx);
-                CellStyle style = sheet.getWorkbook().createCellStyle();
-                if (cell.getCellStyle() != null) {
-                    style.cloneStyleFrom(cell.getCellStyle());
+            Cell cell = row.getCell(colIdx);
+            if (cell == null) cell = row.createCell(colIdx);
+            CellStyle baseStyle = cell.getCellStyle();
+            String key = baseStyle.getIndex() + ":" + rightBorder + ":" + lastRow;
+            CellStyle style = borderStyles.get(key);
+            if (style == null) {
+                style = workbook.createCellStyle();
+                style.cloneStyleFrom(baseStyle);
+                if (rightBorder) {
+                    style.setBorderRight(BorderStyle.THIN);
+                }
+                if (lastRow) {
+                    style.setBorderBottom(BorderStyle.THIN);
                 }
-                style.setBorderBottom(BorderStyle.THIN);
-                cell.setCellStyle(style);
+                borderStyles.put(key, style);
             }
+            cell.setCellStyle(style);
         }
     }
 
     /**
      * 제목 스타일 생성
      */
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
+    private CellStyle createTitleStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
@@ -286,7 +265,7 @@ public class RepairCalListReportService {
     /**
      * 헤더 스타일 생성 (테두리 없음)
      */
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
@@ -302,7 +281,7 @@ public class RepairCalListReportService {
     /**
      * 기본 데이터 스타일 생성 (문자열용, 테두리 없음)
      */
-    private CellStyle createDefaultStyle(XSSFWorkbook workbook) {
+    private CellStyle createDefaultStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontHeightInPoints((short) 10);
@@ -317,7 +296,7 @@ public class RepairCalListReportService {
     /**
      * 숫자 데이터 스타일 생성 (테두리 없음)
      */
-    private CellStyle createNumericStyle(XSSFWorkbook workbook) {
+    private CellStyle createNumericStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontHeightInPoints((short) 10);
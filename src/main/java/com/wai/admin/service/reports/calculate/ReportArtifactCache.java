@@ -0,0 +1,533 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wai.admin.service.user.UserIdentityService;
+import com.wai.admin.util.AuthContext;
+import com.wai.admin.util.KeyedLock;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 생성된 리포트 결과(ProcessCapa, MassBalance, MachineList) 캐시
+ * - 키: 리포트 유형 + 정규화한 파라미터 + 데이터 JSON(jsonUrl) 내용 해시 + 사용자(system_code + 사용자 ID, 토큰 갱신과 무관)
+ * - 데이터 JSON은 매 요청마다 조건부 요청(ETag/Last-Modified)으로 확인하고, 변경 시 내용 해시를 다시 계산
+ * - 생성 시 사용한 CCS 엑셀 템플릿 버전(ExcelTemplateCache 내용 해시)을 함께 기록하고 적중 시 다시 비교
+ * - 결과 파일은 로컬 디스크에 보관하고 인덱스는 메모리에 유지, 전체 크기 상한 초과 시 LRU 삭제
+ * - 추적할 수 없는 입력(CCS download_url 조회 결과, 물질수지도 이미지 등)은 max-age-minutes로 보관 기간 제한
+ * - 프로젝트(project_id) 단위 또는 전체 무효화 가능
+ * - 결과 파일은 키 락 안에서 열어 호출자에게 넘기므로 전송 중 LRU 삭제/무효화되어도 끝까지 전송됨
+ */
+@Component
+public class ReportArtifactCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportArtifactCache.class);
+
+    // 데이터 JSON 버전 정보 최대 보관 수 (오래 사용하지 않은 URL부터 제거)
+    private static final long MAX_INPUT_VERSIONS = 10_000;
+
+    @Value("${report.artifact-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${report.artifact-cache.dir:${java.io.tmpdir}/wai-report-artifacts}")
+    private String cacheDir;
+
+    @Value("${report.artifact-cache.max-bytes:268435456}")
+    private long maxBytes;
+
+    // 생성 후 이 시간이 지난 결과는 입력 버전이 같아도 다시 생성
+    @Value("${report.artifact-cache.max-age-minutes:60}")
+    private long maxAgeMinutes;
+
+    // 데이터 JSON 마지막 확인 후 이 시간 안에는 원격 확인 생략 (0이면 매 요청 확인)
+    @Value("${report.artifact-cache.revalidate-seconds:0}")
+    private long revalidateSeconds;
+
+    @Value("${report.artifact-cache.timeout-ms:30000}")
+    private int timeoutMillis;
+
+    @Autowired
+    private ExcelTemplateCache excelTemplateCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    private Path cacheRoot;
+
+    // 캐시 키 -> 결과 항목
+    private final Map<String, ArtifactEntry> entries = new ConcurrentHashMap<>();
+
+    // 동일 결과 중복 생성 방지용 키별 락 (사용 중인 키만 보관)
+    private final KeyedLock locks = new KeyedLock();
+
+    // 데이터 JSON URL(쿼리스트링 제외) -> 내용 해시 및 검증 정보 (보관 기간 동안 사용되지 않으면 제거)
+    private Cache<String, InputVersion> inputVersions;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        cacheRoot = Paths.get(cacheDir);
+        Files.createDirectories(cacheRoot);
+        inputVersions = Caffeine.newBuilder()
+                .maximumSize(MAX_INPUT_VERSIONS)
+                .expireAfterAccess(Duration.ofMinutes(Math.max(1, maxAgeMinutes)))
+                .build();
+
+        // 인덱스는 메모리에만 있으므로 이전 실행에서 남은 파일 정리
+        try (Stream<Path> files = Files.list(cacheRoot)) {
+            files.forEach(this::deleteQuietly);
+        }
+        logger.info("리포트 결과 캐시 초기화: enabled={}, dir={}, maxBytes={}, maxAge={}m",
+                enabled, cacheRoot, maxBytes, maxAgeMinutes);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("report.artifact.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("리포트 결과 캐시 적중 수")
+                .register(registry);
+        FunctionCounter.builder("report.artifact.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("리포트 결과 캐시 미적중(새로 생성) 수")
+                .register(registry);
+        FunctionCounter.builder("report.artifact.cache.evictions", evictions, AtomicLong::get)
+                .description("크기 상한/무효화로 삭제된 리포트 결과 수")
+                .register(registry);
+        Gauge.builder("report.artifact.cache.size", entries, Map::size)
+                .description("보관 중인 리포트 결과 수")
+                .register(registry);
+        Gauge.builder("report.artifact.cache.bytes", this, ReportArtifactCache::totalBytes)
+                .baseUnit("bytes")
+                .description("보관 중인 리포트 결과 전체 크기")
+                .register(registry);
+    }
+
+    /**
+     * 캐시된 결과 반환, 없거나 입력이 바뀌었으면 새로 생성하여 저장
+     * @param type 리포트 유형 (processcapa, massbalancelist, machinelist)
+     * @param params 리포트 요청 파라미터 (jsonUrl, project_id 등)
+     * @param writer 리포트 생성 (out에 결과 기록, 사용한 CCS 템플릿 URL을 templateUrls에 추가)
+     * @return 열린 결과 파일 (한 번만 읽을 수 있음, writeTo 또는 close로 반드시 닫아야 함)
+     */
+    public Artifact getOrCreate(String type, Map<String, Object> params, ArtifactWriter writer) throws Exception {
+        Map<String, Object> safeParams = params != null ? params : Collections.emptyMap();
+        String key = enabled ? cacheKey(type, safeParams) : null;
+        if (key == null) {
+            return createTransient(writer);
+        }
+
+        try (KeyedLock.Handle handle = locks.lock(key)) {
+            ArtifactEntry entry = entries.get(key);
+            if (entry != null && isValid(entry)) {
+                // 락 안에서 파일을 열어 두어 이후 LRU 삭제/무효화와 관계없이 전송 가능
+                InputStream in = openQuietly(entry.file);
+                if (in != null) {
+                    entry.lastAccess = System.currentTimeMillis();
+                    hits.incrementAndGet();
+                    logger.debug("리포트 결과 캐시 적중: type={}, size={}", type, entry.size);
+                    return new Artifact(in, entry.size, true, null);
+                }
+            }
+            if (entry != null && entries.remove(key, entry)) {
+                deleteQuietly(entry.file);
+            }
+
+            misses.incrementAndGet();
+            ArtifactEntry created = create(type, safeParams, writer);
+            InputStream in = Files.newInputStream(created.file);
+            entries.put(key, created);
+            evictIfNeeded(key);
+            return new Artifact(in, created.size, false, null);
+        }
+    }
+
+    /**
+     * 결과 무효화
+     * @param projectId 프로젝트 ID (null 또는 빈 값이면 전체)
+     * @return 삭제한 결과 수
+     */
+    public int invalidate(String projectId) {
+        boolean all = projectId == null || projectId.trim().isEmpty();
+        int removed = 0;
+        for (Map.Entry<String, ArtifactEntry> candidate : new ArrayList<>(entries.entrySet())) {
+            ArtifactEntry entry = candidate.getValue();
+            if ((all || projectId.trim().equals(entry.projectId)) && entries.remove(candidate.getKey(), entry)) {
+                deleteQuietly(entry.file);
+                evictions.incrementAndGet();
+                removed++;
+            }
+        }
+        if (all) {
+            inputVersions.invalidateAll();
+        }
+        logger.info("리포트 결과 캐시 무효화: projectId={}, removed={}", all ? "(전체)" : projectId, removed);
+        return removed;
+    }
+
+    /**
+     * 적중 항목 유효성 확인 (보관 기간, 파일 존재, 사용한 CCS 템플릿 버전)
+     */
+    private boolean isValid(ArtifactEntry entry) {
+        if (System.currentTimeMillis() - entry.createdAt > maxAgeMinutes * 60_000L || !Files.exists(entry.file)) {
+            return false;
+        }
+        for (Map.Entry<String, String> dependency : entry.templateVersions.entrySet()) {
+            try {
+                if (!dependency.getValue().equals(excelTemplateCache.getVersion(dependency.getKey()))) {
+                    logger.debug("CCS 템플릿 변경으로 리포트 결과 재생성: {}", dependency.getKey());
+                    return false;
+                }
+            } catch (IOException e) {
+                logger.warn("CCS 템플릿 버전 확인 실패, 리포트를 다시 생성합니다: {} - {}", dependency.getKey(), e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 리포트 생성 후 캐시 파일로 저장
+     */
+    private ArtifactEntry create(String type, Map<String, Object> params, ArtifactWriter writer) throws Exception {
+        Path temp = Files.createTempFile(cacheRoot, type + "-", ".tmp");
+        try {
+            Set<String> templateUrls = ConcurrentHashMap.newKeySet();
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out, templateUrls);
+            }
+
+            // 생성에 사용한 템플릿 버전 기록 (방금 사용했으므로 ExcelTemplateCache에서 재검증 없이 조회됨)
+            Map<String, String> templateVersions = new TreeMap<>();
+            for (String templateUrl : templateUrls) {
+                templateVersions.put(templateUrl, excelTemplateCache.getVersion(templateUrl));
+            }
+
+            Path target = cacheRoot.resolve(temp.getFileName().toString().replace(".tmp", ".bin"));
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            Object projectId = params.get("project_id");
+            ArtifactEntry entry = new ArtifactEntry(target, Files.size(target),
+                    projectId != null ? projectId.toString().trim() : null, templateVersions);
+            logger.info("리포트 결과 캐시 저장: type={}, size={}, templates={}", type, entry.size, templateVersions.size());
+            return entry;
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * 캐시 없이 생성 (비활성화 또는 입력 버전 확인 실패 시) - 응답 기록 후 삭제
+     */
+    private Artifact createTransient(ArtifactWriter writer) throws Exception {
+        Path temp = Files.createTempFile(cacheRoot, "transient-", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out, ConcurrentHashMap.newKeySet());
+            }
+            return new Artifact(Files.newInputStream(temp), Files.size(temp), false, temp);
+        } catch (Exception e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 캐시 키 생성
+     * @return 키 (데이터 JSON 버전을 확인할 수 없으면 null)
+     */
+    private String cacheKey(String type, Map<String, Object> params) {
+        // 서명 등 매번 바뀌는 jsonUrl 쿼리스트링은 제외 (내용은 데이터 JSON 해시로 구분)
+        Map<String, Object> normalized = new TreeMap<>(params);
+        Object jsonUrl = params.get("jsonUrl");
+        String dataVersion = "classpath";
+        if (jsonUrl != null && !jsonUrl.toString().trim().isEmpty()) {
+            String url = jsonUrl.toString().trim();
+            normalized.put("jsonUrl", stripQuery(url));
+            try {
+                dataVersion = dataVersion(url);
+            } catch (Exception e) {
+                logger.warn("데이터 JSON 버전 확인 실패, 캐시 없이 생성합니다: {} - {}", stripQuery(url), e.getMessage());
+                return null;
+            }
+        }
+
+        // 쿠키 값은 토큰 갱신마다 바뀌므로 검증된 사용자 식별자 사용
+        String identity = userIdentityService.resolve(AuthContext.current());
+        if (identity == null) {
+            logger.debug("사용자를 식별할 수 없어 캐시 없이 생성합니다");
+            return null;
+        }
+        try {
+            String canonicalParams = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsString(normalized);
+            return hash(type + '\n' + canonicalParams + '\n' + dataVersion + '\n' + identity);
+        } catch (IOException e) {
+            logger.warn("리포트 파라미터 직렬화 실패, 캐시 없이 생성합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 데이터 JSON 내용 해시 (조건부 요청으로 변경 없으면 이전 해시 사용)
+     */
+    private String dataVersion(String url) throws IOException {
+        String key = stripQuery(url);
+        InputVersion previous = inputVersions.getIfPresent(key);
+        long now = System.currentTimeMillis();
+        if (previous != null && now - previous.validatedAt < revalidateSeconds * 1000L) {
+            return previous.contentHash;
+        }
+
+        URLConnection connection = URI.create(url).toURL().openConnection();
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+        if (previous != null && connection instanceof HttpURLConnection) {
+            if (previous.etag != null) {
+                connection.setRequestProperty("If-None-Match", previous.etag);
+            }
+            if (previous.lastModified != null) {
+                connection.setRequestProperty("If-Modified-Since", previous.lastModified);
+            }
+            if (((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                ((HttpURLConnection) connection).disconnect();
+                previous.validatedAt = now;
+                return previous.contentHash;
+            }
+        }
+
+        String contentHash;
+        try (InputStream in = connection.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+            contentHash = HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        inputVersions.put(key, new InputVersion(contentHash,
+                connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"), now));
+        return contentHash;
+    }
+
+    /**
+     * 전체 크기 상한 초과 시 가장 오래 사용되지 않은 항목부터 삭제 (방금 저장한 항목 제외)
+     */
+    private void evictIfNeeded(String currentKey) {
+        long total = totalBytes();
+        if (total <= maxBytes) {
+            return;
+        }
+
+        List<Map.Entry<String, ArtifactEntry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+        for (Map.Entry<String, ArtifactEntry> candidate : candidates) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (candidate.getKey().equals(currentKey)) {
+                continue;
+            }
+            if (entries.remove(candidate.getKey(), candidate.getValue())) {
+                total -= candidate.getValue().size;
+                deleteQuietly(candidate.getValue().file);
+                evictions.incrementAndGet();
+                logger.debug("리포트 결과 캐시 제거(LRU): size={}", candidate.getValue().size);
+            }
+        }
+    }
+
+    private long totalBytes() {
+        long total = 0;
+        for (ArtifactEntry entry : entries.values()) {
+            total += entry.size;
+        }
+        return total;
+    }
+
+    private String stripQuery(String url) {
+        int queryIndex = url.indexOf('?');
+        return queryIndex >= 0 ? url.substring(0, queryIndex) : url;
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private InputStream openQuietly(Path path) {
+        try {
+            return Files.newInputStream(path);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            logger.warn("리포트 결과 캐시 파일 열기 실패: {} - {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("리포트 결과 캐시 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 리포트 생성 (기존 generate* 메서드 호출)
+     */
+    @FunctionalInterface
+    public interface ArtifactWriter {
+        /**
+         * @param out 결과 기록 스트림
+         * @param templateUrls 생성에 사용한 CCS 엑셀 download_url (버전 기록용, 없으면 그대로 둠)
+         */
+        void write(OutputStream out, Set<String> templateUrls) throws Exception;
+    }
+
+    /**
+     * 리포트 결과 (열린 파일 스트림)
+     * - 캐시 파일이 이후 삭제되어도 열린 스트림으로 끝까지 읽을 수 있음
+     */
+    public static final class Artifact implements Closeable {
+        private final InputStream in;
+        private final long size;
+        private final boolean cacheHit;
+        // 캐시 없이 만든 임시 결과 파일 (닫을 때 삭제, 캐시 항목이면 null)
+        private final Path transientFile;
+
+        private Artifact(InputStream in, long size, boolean cacheHit, Path transientFile) {
+            this.in = in;
+            this.size = size;
+            this.cacheHit = cacheHit;
+            this.transientFile = transientFile;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public boolean isCacheHit() {
+            return cacheHit;
+        }
+
+        /**
+         * 결과를 출력 스트림에 기록한 후 닫기
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            try {
+                in.transferTo(out);
+                out.flush();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * 스트림 닫기 (기록하지 않고 버리는 경우에도 호출, 캐시 없이 만든 임시 결과는 삭제)
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                in.close();
+            } finally {
+                if (transientFile != null) {
+                    Files.deleteIfExists(transientFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * 캐시 항목 (디스크 파일 + 입력 버전)
+     */
+    private static class ArtifactEntry {
+        private final Path file;
+        private final long size;
+        private final String projectId;
+        // CCS 템플릿 download_url -> 생성 당시 내용 해시
+        private final Map<String, String> templateVersions;
+        private final long createdAt;
+        private volatile long lastAccess;
+
+        ArtifactEntry(Path file, long size, String projectId, Map<String, String> templateVersions) {
+            this.file = file;
+            this.size = size;
+            this.projectId = projectId;
+            this.templateVersions = templateVersions;
+            this.createdAt = System.currentTimeMillis();
+            this.lastAccess = this.createdAt;
+        }
+    }
+
+    /**
+     * 데이터 JSON 버전 (내용 해시 + 조건부 요청용 검증 정보)
+     */
+    private static class InputVersion {
+        private final String contentHash;
+        private final String etag;
+        private final String lastModified;
+        private volatile long validatedAt;
+
+        InputVersion(String contentHash, String etag, String lastModified, long validatedAt) {
+            this.contentHash = contentHash;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.validatedAt = validatedAt;
+        }
+    }
+}
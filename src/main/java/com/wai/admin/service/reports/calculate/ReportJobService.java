@@ -0,0 +1,597 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wai.admin.service.user.UserIdentityService;
+import com.wai.admin.util.AuthContext;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 리포트 비동기 생성 작업(job) 서비스
+ * - submit: 작업을 reportJobExecutor(동시 실행 수/대기열 제한)에 등록하고 job_id를 바로 반환
+ * - status: 상태(QUEUED/RUNNING/SUCCEEDED/FAILED), 단계별 진행률, 기록한 바이트 수, 대기 순번 조회
+ * - result: 완료된 결과 파일을 로컬 디스크에서 내려받기 (완료 후 result-ttl-minutes 동안 보관)
+ * - 같은 사용자가 같은 유형/파라미터로 요청한 작업이 대기/실행 중이면 새로 만들지 않고 기존 job_id 반환
+ * - processcapa/machinelist/massbalancelist는 동기 API와 같은 리포트 결과 캐시(ReportArtifactCache) 사용
+ * - 작업 소유자는 쿠키 값이 아닌 system_code + 사용자 ID(UserIdentityService)로 구분하므로 토큰이 갱신되어도 같은 작업에 접근 가능
+ * 작업 정보는 메모리에 보관하므로 동일 서버 인스턴스로 요청되어야 함
+ *
+ * 인증 토큰 제한
+ * - 작업은 소유자의 인증 정보(액세스 토큰)로 외부 API를 호출함
+ * - 대기 중인 작업은 소유자의 상태 조회/재요청 시 최신 토큰으로 교체하고, 시작 시점에 토큰이 만료되었으면 바로 실패 처리
+ * - 실행 중에는 토큰을 교체하지 않으므로 실행 시간이 토큰 남은 유효 시간(기본 5시간)보다 길면 외부 API 호출이 401로 실패할 수 있음
+ */
+@Service
+public class ReportJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportJobService.class);
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Value("${report.jobs.dir:${java.io.tmpdir}/wai-report-jobs}")
+    private String jobDir;
+
+    // 완료(성공/실패) 후 이 시간이 지난 작업과 결과 파일은 삭제
+    @Value("${report.jobs.result-ttl-minutes:60}")
+    private long resultTtlMinutes;
+
+    @Autowired
+    @Qualifier("reportJobExecutor")
+    private ThreadPoolTaskExecutor reportJobExecutor;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReportArtifactCache reportArtifactCache;
+
+    @Autowired
+    private UserIdentityService userIdentityService;
+
+    @Autowired
+    private ProcessCapaReportService processCapaReportService;
+
+    @Autowired
+    private MaschineListReportService maschineListReportService;
+
+    @Autowired
+    private StructureListReportService structureListReportService;
+
+    @Autowired
+    private MassBalanceListReportService massBalanceListReportService;
+
+    @Autowired
+    private ValveListReportService valveListReportService;
+
+    @Autowired
+    private RepairCalListReportService repairCalListReportService;
+
+    private Path jobRoot;
+
+    // 리포트 유형 -> 생성 방법
+    private final Map<String, ReportType> reportTypes = new LinkedHashMap<>();
+
+    // job_id -> 작업
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+
+    // 중복 제거 키(유형 + 사용자 + 파라미터) -> 대기/실행 중인 작업
+    private final Map<String, ReportJob> pendingJobs = new ConcurrentHashMap<>();
+
+    // 대기 순번 계산용 등록 순서
+    private final AtomicLong sequence = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        jobRoot = Paths.get(jobDir);
+        Files.createDirectories(jobRoot);
+
+        // 작업 정보는 메모리에만 있으므로 이전 실행에서 남은 결과 파일 정리
+        try (Stream<Path> files = Files.list(jobRoot)) {
+            files.forEach(this::deleteQuietly);
+        }
+
+        registerReportType("processcapa", "processcapacity", false,
+                (params, out) -> reportArtifactCache.getOrCreate("processcapa", params, (artifactOut, templateUrls) ->
+                        artifactOut.write(processCapaReportService.generateIntegrationXlsx(params, templateUrls))).writeTo(out));
+        registerReportType("machinelist", "Machine_List", true,
+                (params, out) -> reportArtifactCache.getOrCreate("machinelist", params, (artifactOut, templateUrls) ->
+                        maschineListReportService.generateMachineListExcel(params).writeTo(artifactOut)).writeTo(out));
+        registerReportType("structurelist", "Structure_List", true,
+                (params, out) -> structureListReportService.generateStructureListExcel(params).writeTo(out));
+        registerReportType("massbalancelist", "MassBalance_List", true,
+                (params, out) -> reportArtifactCache.getOrCreate("massbalancelist", params, (artifactOut, templateUrls) ->
+                        massBalanceListReportService.generateMassBalanceListExcel(params).writeTo(artifactOut)).writeTo(out));
+        registerReportType("valvelist", "Valve_List", true,
+                (params, out) -> valveListReportService.generateValveListExcel().writeTo(out));
+        registerReportType("repaircallist", "Repair_Cal_List", true,
+                (params, out) -> repairCalListReportService.generateRepairCalExcel().writeTo(out));
+
+        logger.info("리포트 작업 초기화: dir={}, resultTtl={}m, types={}", jobRoot, resultTtlMinutes, reportTypes.keySet());
+    }
+
+    /**
+     * 리포트 생성 작업 등록
+     *
+     * @param request type(processcapa, machinelist, structurelist, massbalancelist, valvelist, repaircallist),
+     *                params(기존 동기 API의 요청 본문과 동일)
+     * @return job_id 및 작업 상태 (동일 작업이 대기/실행 중이면 해당 작업, deduplicated=true)
+     */
+    public Map<String, Object> submit(Map<String, Object> request) {
+        Map<String, Object> result = new HashMap<>();
+        purgeExpiredJobs();
+
+        String type = request != null && request.get("type") != null ? request.get("type").toString().trim() : "";
+        ReportType reportType = reportTypes.get(type);
+        if (reportType == null) {
+            return fail(result, 400, "지원하지 않는 리포트 유형입니다: " + type + " (지원 유형: " + reportTypes.keySet() + ")");
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        if (request.get("params") instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> requestParams = (Map<String, Object>) request.get("params");
+            params.putAll(requestParams);
+        }
+
+        AuthContext authContext = AuthContext.current();
+        String ownerKey = userIdentityService.resolve(authContext);
+        if (ownerKey == null) {
+            return fail(result, 401, "인증 정보가 유효하지 않습니다. 다시 로그인해 주세요.");
+        }
+        String dedupKey;
+        try {
+            // 파라미터 순서와 무관하게 같은 요청이면 같은 키가 되도록 키 정렬 후 직렬화
+            dedupKey = type + "|" + ownerKey + "|"
+                    + objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS).writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            return fail(result, 400, "params를 처리할 수 없습니다: " + e.getMessage());
+        }
+
+        ReportJob created = new ReportJob(UUID.randomUUID().toString(), sequence.incrementAndGet(),
+                reportType, params, ownerKey, dedupKey, authContext);
+        ReportJob job = pendingJobs.putIfAbsent(dedupKey, created);
+        if (job != null) {
+            refreshAuthContext(job, authContext);
+            logger.info("동일한 리포트 작업이 진행 중이므로 기존 작업 반환: jobId={}, type={}", job.jobId, type);
+            result.put("success", true);
+            result.put("status", 202);
+            result.put("message", "동일한 리포트 작업이 이미 진행 중입니다.");
+            result.put("deduplicated", true);
+            result.put("response", toResponse(job));
+            return result;
+        }
+
+        job = created;
+        jobs.put(job.jobId, job);
+        try {
+            // 실행 시점에는 작업에 보관한 최신 인증 정보(AuthContext)를 사용
+            ReportJob submitted = job;
+            reportJobExecutor.execute(() -> run(submitted));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.jobId);
+            pendingJobs.remove(dedupKey, job);
+            logger.warn("리포트 작업 대기열 초과로 등록 거부: type={}", type);
+            return fail(result, 503, "리포트 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        logger.info("리포트 작업 등록: jobId={}, type={}", job.jobId, type);
+
+        result.put("success", true);
+        result.put("status", 202);
+        result.put("message", "리포트 작업이 등록되었습니다.");
+        result.put("deduplicated", false);
+        result.put("response", toResponse(job));
+        return result;
+    }
+
+    /**
+     * 작업 상태 조회
+     *
+     * @param jobId 작업 ID
+     * @return 상태, 진행률, 결과 파일 정보
+     */
+    public Map<String, Object> getStatus(String jobId) {
+        Map<String, Object> result = new HashMap<>();
+        purgeExpiredJobs();
+
+        ReportJob job = findJob(jobId);
+        if (job == null) {
+            return fail(result, 404, "리포트 작업을 찾을 수 없습니다: " + jobId);
+        }
+        result.put("success", true);
+        result.put("status", 200);
+        result.put("message", "리포트 작업 상태 조회가 완료되었습니다.");
+        result.put("response", toResponse(job));
+        return result;
+    }
+
+    /**
+     * 완료된 작업의 결과 파일 조회
+     *
+     * @param jobId 작업 ID
+     * @return 결과 파일 (response: ResultFile)
+     */
+    public Map<String, Object> getResult(String jobId) {
+        Map<String, Object> result = new HashMap<>();
+        purgeExpiredJobs();
+
+        ReportJob job = findJob(jobId);
+        if (job == null) {
+            return fail(result, 404, "리포트 작업을 찾을 수 없습니다: " + jobId);
+        }
+        switch (job.status) {
+            case STATUS_SUCCEEDED:
+                if (!Files.exists(job.resultFile)) {
+                    return fail(result, 410, "리포트 결과 파일이 만료되었습니다. 다시 요청해 주세요.");
+                }
+                result.put("success", true);
+                result.put("status", 200);
+                result.put("message", "리포트 결과 조회가 완료되었습니다.");
+                result.put("response", new ResultFile(job.resultFile, job.fileName, job.fileSize, XLSX_CONTENT_TYPE));
+                return result;
+            case STATUS_FAILED:
+                return fail(result, 422, "리포트 생성에 실패했습니다: " + job.errorMessage);
+            default:
+                result.put("response", toResponse(job));
+                return fail(result, 409, "리포트 작업이 아직 완료되지 않았습니다.");
+        }
+    }
+
+    /**
+     * 작업 취소/삭제
+     * - 대기 중인 작업은 실행하지 않고, 실행 중인 작업은 완료 후 결과를 버림
+     *
+     * @param jobId 작업 ID
+     */
+    public Map<String, Object> cancel(String jobId) {
+        Map<String, Object> result = new HashMap<>();
+        ReportJob job = findJob(jobId);
+        if (job == null || !jobs.remove(jobId, job)) {
+            return fail(result, 404, "리포트 작업을 찾을 수 없습니다: " + jobId);
+        }
+        job.cancelled = true;
+        pendingJobs.remove(job.dedupKey, job);
+        if (job.resultFile != null) {
+            deleteQuietly(job.resultFile);
+        }
+        logger.info("리포트 작업 취소: jobId={}, status={}", jobId, job.status);
+
+        result.put("success", true);
+        result.put("status", 200);
+        result.put("message", "리포트 작업이 취소되었습니다.");
+        return result;
+    }
+
+    /**
+     * 작업 실행 (reportJobExecutor 스레드)
+     */
+    private void run(ReportJob job) {
+        if (job.cancelled) {
+            return;
+        }
+        job.status = STATUS_RUNNING;
+        job.startedAt = System.currentTimeMillis();
+        logger.info("리포트 작업 시작: jobId={}, type={}", job.jobId, job.reportType.name);
+
+        // 대기하는 동안 토큰이 만료되었으면 외부 API 호출(401) 전에 실패 처리
+        AuthContext authContext = job.authContext;
+        long tokenExpiresAt = userIdentityService.getTokenExpiresAt(authContext);
+        if (tokenExpiresAt > 0 && tokenExpiresAt <= job.startedAt) {
+            logger.warn("리포트 작업 인증 만료: jobId={}, type={}", job.jobId, job.reportType.name);
+            job.errorMessage = "작업 대기 중 인증이 만료되었습니다. 다시 요청해 주세요.";
+            job.finishedAt = System.currentTimeMillis();
+            job.status = STATUS_FAILED;
+            pendingJobs.remove(job.dedupKey, job);
+            return;
+        }
+        authContext.wrap(() -> generate(job)).run();
+    }
+
+    /**
+     * 결과 파일 생성 (작업 인증 정보가 바인딩된 상태에서 실행)
+     */
+    private void generate(ReportJob job) {
+        Path partFile = jobRoot.resolve(job.jobId + ".part");
+        try {
+            try (OutputStream out = new ProgressOutputStream(Files.newOutputStream(partFile), job)) {
+                job.reportType.writer.write(job.params, out);
+            }
+            Path resultFile = jobRoot.resolve(job.jobId + ".xlsx");
+            Files.move(partFile, resultFile, StandardCopyOption.REPLACE_EXISTING);
+
+            job.resultFile = resultFile;
+            job.fileSize = Files.size(resultFile);
+            job.fileName = job.reportType.fileName(new Date());
+            job.finishedAt = System.currentTimeMillis();
+            job.status = STATUS_SUCCEEDED;
+            logger.info("리포트 작업 완료: jobId={}, type={}, size={}, elapsed={}ms",
+                    job.jobId, job.reportType.name, job.fileSize, job.finishedAt - job.startedAt);
+        } catch (Exception e) {
+            logger.error("리포트 작업 실패: jobId={}, type={}", job.jobId, job.reportType.name, e);
+            deleteQuietly(partFile);
+            job.errorMessage = e.getMessage();
+            job.finishedAt = System.currentTimeMillis();
+            job.status = STATUS_FAILED;
+        } finally {
+            pendingJobs.remove(job.dedupKey, job);
+            // 실행 중 취소된 작업은 결과를 보관하지 않음
+            if (job.cancelled && job.resultFile != null) {
+                deleteQuietly(job.resultFile);
+            }
+        }
+    }
+
+    private ReportJob findJob(String jobId) {
+        ReportJob job = jobId != null ? jobs.get(jobId) : null;
+        if (job == null) {
+            return null;
+        }
+        // 다른 사용자(또는 유효하지 않은 토큰)의 요청에는 존재 여부도 노출하지 않음
+        AuthContext authContext = AuthContext.current();
+        if (!job.ownerKey.equals(userIdentityService.resolve(authContext))) {
+            return null;
+        }
+        refreshAuthContext(job, authContext);
+        return job;
+    }
+
+    /**
+     * 대기 중인 작업의 인증 정보를 소유자의 최신 요청 정보로 교체 (갱신된 토큰으로 실행되도록)
+     */
+    private void refreshAuthContext(ReportJob job, AuthContext authContext) {
+        if (STATUS_QUEUED.equals(job.status) && authContext.getAccessToken() != null) {
+            job.authContext = authContext;
+        }
+    }
+
+    private Map<String, Object> toResponse(ReportJob job) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        String status = job.status;
+        response.put("job_id", job.jobId);
+        response.put("type", job.reportType.name);
+        response.put("job_status", status);
+        response.put("progress", progress(job, status));
+        response.put("bytes_written", job.bytesWritten.get());
+        if (STATUS_QUEUED.equals(status)) {
+            response.put("queue_position", queuePosition(job));
+        }
+        response.put("created_at", Instant.ofEpochMilli(job.createdAt).toString());
+        if (job.startedAt > 0) {
+            response.put("started_at", Instant.ofEpochMilli(job.startedAt).toString());
+        }
+        if (job.finishedAt > 0) {
+            response.put("finished_at", Instant.ofEpochMilli(job.finishedAt).toString());
+            response.put("expires_at", Instant.ofEpochMilli(job.finishedAt + resultTtlMinutes * 60_000L).toString());
+        }
+        if (STATUS_SUCCEEDED.equals(status)) {
+            response.put("file_name", job.fileName);
+            response.put("file_size", job.fileSize);
+        }
+        if (STATUS_FAILED.equals(status)) {
+            response.put("error", job.errorMessage);
+        }
+        return response;
+    }
+
+    /**
+     * 단계별 진행률 (대기 0, 데이터 조회/생성 10, 파일 기록 60, 완료 100)
+     * - 기존 generate* 메서드는 내부 진행 상황을 알려주지 않으므로 결과 기록 시작 여부로 단계 구분
+     */
+    private int progress(ReportJob job, String status) {
+        switch (status) {
+            case STATUS_QUEUED:
+                return 0;
+            case STATUS_RUNNING:
+                return job.bytesWritten.get() > 0 ? 60 : 10;
+            default:
+                return 100;
+        }
+    }
+
+    private int queuePosition(ReportJob job) {
+        int position = 1;
+        for (ReportJob other : jobs.values()) {
+            if (STATUS_QUEUED.equals(other.status) && other.sequence < job.sequence) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * 만료된 작업 정리 (완료 후 result-ttl-minutes 경과)
+     */
+    private void purgeExpiredJobs() {
+        long expireBefore = System.currentTimeMillis() - resultTtlMinutes * 60_000L;
+        for (ReportJob job : new ArrayList<>(jobs.values())) {
+            if (job.finishedAt > 0 && job.finishedAt < expireBefore && jobs.remove(job.jobId, job)) {
+                if (job.resultFile != null) {
+                    deleteQuietly(job.resultFile);
+                }
+                logger.info("만료된 리포트 작업 삭제: jobId={}, type={}", job.jobId, job.reportType.name);
+            }
+        }
+    }
+
+    private void registerReportType(String name, String fileNamePrefix, boolean timestamped, ReportWriter writer) {
+        reportTypes.put(name, new ReportType(name, fileNamePrefix, timestamped, writer));
+    }
+
+    private Map<String, Object> fail(Map<String, Object> result, int status, String message) {
+        result.put("success", false);
+        result.put("status", status);
+        result.put("message", message);
+        return result;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("리포트 작업 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 리포트 결과 기록 (기존 generate* 메서드 호출)
+     */
+    @FunctionalInterface
+    private interface ReportWriter {
+        void write(Map<String, Object> params, OutputStream out) throws Exception;
+    }
+
+    /**
+     * 리포트 유형
+     */
+    private static final class ReportType {
+        private final String name;
+        private final String fileNamePrefix;
+        private final boolean timestamped;
+        private final ReportWriter writer;
+
+        private ReportType(String name, String fileNamePrefix, boolean timestamped, ReportWriter writer) {
+            this.name = name;
+            this.fileNamePrefix = fileNamePrefix;
+            this.timestamped = timestamped;
+            this.writer = writer;
+        }
+
+        /**
+         * 다운로드 파일명 (동기 API와 동일한 형식)
+         */
+        private String fileName(Date date) {
+            if (!timestamped) {
+                return fileNamePrefix + ".xlsx";
+            }
+            return fileNamePrefix + "_" + new SimpleDateFormat("yyyyMMdd_HHmmss").format(date) + ".xlsx";
+        }
+    }
+
+    /**
+     * 리포트 작업 (메모리 보관)
+     */
+    private static final class ReportJob {
+        private final String jobId;
+        private final long sequence;
+        private final ReportType reportType;
+        private final Map<String, Object> params;
+        // 소유자 식별자 (system_code + 사용자 ID)
+        private final String ownerKey;
+        private final String dedupKey;
+        private final long createdAt = System.currentTimeMillis();
+        private final AtomicLong bytesWritten = new AtomicLong();
+
+        private volatile String status = STATUS_QUEUED;
+        private volatile boolean cancelled;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+        private volatile Path resultFile;
+        private volatile String fileName;
+        private volatile long fileSize;
+        private volatile String errorMessage;
+        // 실행 시 사용할 인증 정보 (대기 중에는 소유자의 최신 요청 정보로 교체)
+        private volatile AuthContext authContext;
+
+        private ReportJob(String jobId, long sequence, ReportType reportType, Map<String, Object> params,
+                String ownerKey, String dedupKey, AuthContext authContext) {
+            this.jobId = jobId;
+            this.sequence = sequence;
+            this.reportType = reportType;
+            this.params = params;
+            this.ownerKey = ownerKey;
+            this.dedupKey = dedupKey;
+            this.authContext = authContext;
+        }
+    }
+
+    /**
+     * 기록한 바이트 수를 작업에 반영하는 출력 스트림 (진행 상태 조회용)
+     */
+    private static final class ProgressOutputStream extends FilterOutputStream {
+        private final ReportJob job;
+
+        private ProgressOutputStream(OutputStream out, ReportJob job) {
+            super(out);
+            this.job = job;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            job.bytesWritten.incrementAndGet();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            job.bytesWritten.addAndGet(len);
+        }
+    }
+
+    /**
+     * 완료된 리포트 결과 파일
+     */
+    public static final class ResultFile {
+        private final Path path;
+        private final String fileName;
+        private final long size;
+        private final String contentType;
+
+        private ResultFile(Path path, String fileName, long size, String contentType) {
+            this.path = path;
+            this.fileName = fileName;
+            this.size = size;
+            this.contentType = contentType;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.IOException;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 리스트 리포트(기계/구조물/물질수지/밸브/수리계산서) 엑셀 스트리밍 생성
+ * - 행 윈도우(row-window) 크기만큼만 메모리에 두고 나머지 행은 임시 파일로 내보내는 SXSSFWorkbook 사용
+ * - 완성된 xlsx는 byte[]로 모으지 않고 StreamingResponseBody로 HTTP 응답에 바로 기록
+ * - 기록이 끝나거나 실패하면 워크북을 닫고 임시 파일 삭제
+ */
+@Component
+public class StreamingWorkbookFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingWorkbookFactory.class);
+
+    // 메모리에 유지하는 행 수 (초과분은 임시 파일로 flush, 이미 flush된 행은 다시 접근 불가)
+    @Value("${report.streaming.row-window:100}")
+    private int rowWindowSize;
+
+    // 임시 시트 파일 gzip 압축 여부 (디스크 사용량 감소, CPU 사용 증가)
+    @Value("${report.streaming.compress-temp-files:true}")
+    private boolean compressTempFiles;
+
+    @PostConstruct
+    public void init() {
+        logger.info("리스트 리포트 스트리밍 설정: rowWindow={}, compressTempFiles={}", rowWindowSize, compressTempFiles);
+    }
+
+    /**
+     * 새 스트리밍 워크북 생성
+     * - 호출자는 stream()으로 응답에 넘기거나, 오류 시 discard()로 정리해야 함
+     */
+    public SXSSFWorkbook create() {
+        return new SXSSFWorkbook(null, rowWindowSize, compressTempFiles);
+    }
+
+    /**
+     * 행 채우기가 끝난 워크북을 응답 본문으로 변환
+     * - 응답 출력 스트림에 xlsx를 바로 기록하고 끝나면 임시 파일 정리
+     */
+    public StreamingResponseBody stream(SXSSFWorkbook workbook) {
+        return outputStream -> {
+            try {
+                workbook.write(outputStream);
+                outputStream.flush();
+            } catch (IOException e) {
+                // 응답 헤더가 이미 전송된 뒤이므로 상태 코드는 바꿀 수 없음 (클라이언트 연결 종료 등)
+                logger.warn("리스트 리포트 엑셀 응답 기록 실패: {}", e.getMessage());
+                throw e;
+            } finally {
+                discard(workbook);
+            }
+        };
+    }
+
+    /**
+     * 워크북 닫기 및 임시 파일 삭제 (응답에 넘기지 못한 경우 호출)
+     * - POI 5.x에서는 close()가 임시 시트 파일까지 삭제함
+     */
+    public void discard(SXSSFWorkbook workbook) {
+        if (workbook == null) {
+            return;
+        }
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            logger.warn("스트리밍 워크북 닫기(임시 파일 삭제) 실패: {}", e.getMessage());
+        }
+    }
+}
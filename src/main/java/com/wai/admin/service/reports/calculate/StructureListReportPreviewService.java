@@ -274,7 +274,7 @@ public class StructureListReportPreviewService {
             // jsonUrl이 있으면 URL에서 로드, 없으면 기본 파일에서 로드
             if (jsonUrl != null && !jsonUrl.trim().isEmpty()) {
                 // URL에서 JSON 데이터 로드
-                java.net.URL url = new java.net.URL(jsonUrl);
+                java.net.URL url = java.net.URI.create(jsonUrl).toURL();
                 inputStream = url.openStream();
                 System.out.println("inputStream :  " + inputStream);
             } else {
@@ -1,7 +1,5 @@
 package com.wai.admin.service.reports.calculate;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -13,14 +11,16 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,19 +29,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class StructureListReportService {
 
     private final ObjectMapper objectMapper;
+    private final StreamingWorkbookFactory streamingWorkbookFactory;
 
-    public StructureListReportService(ObjectMapper objectMapper) {
+    public StructureListReportService(ObjectMapper objectMapper, StreamingWorkbookFactory streamingWorkbookFactory) {
         this.objectMapper = objectMapper;
+        this.streamingWorkbookFactory = streamingWorkbookFactory;
     }
 
     /**
      * 구조물 리스트 엑셀 파일 생성 (jsonUrl 기반)
      */
-    public byte[] generateStructureListExcel(Map<String, Object> params) throws Exception {
-        XSSFWorkbook workbook = null;
+    public StreamingResponseBody generateStructureListExcel(Map<String, Object> params) throws Exception {
+        SXSSFWorkbook workbook = streamingWorkbookFactory.create();
         try {
-            workbook = new XSSFWorkbook();
-            XSSFSheet sheet = workbook.createSheet("구조물 리스트");
+            Sheet sheet = workbook.createSheet("구조물 리스트");
 
             // 스타일 정의
             CellStyle titleStyle = createTitleStyle(workbook);
@@ -55,8 +56,8 @@ public class StructureListReportService {
             int rowNum = 0;
 
             // 제목 행
-            XSSFRow titleRow = sheet.createRow(rowNum++);
-            XSSFCell titleCell = titleRow.createCell(0);
+            Row titleRow = sheet.createRow(rowNum++);
+            Cell titleCell = titleRow.createCell(0);
             titleCell.setCellValue("구조물 리스트");
             titleCell.setCellStyle(titleStyle);
             sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 9));
@@ -127,8 +128,8 @@ public class StructureListReportService {
             }
 
             // 푸터 메시지
-            XSSFRow footerRow = sheet.createRow(rowNum);
-            XSSFCell footerCell = footerRow.createCell(0);
+            Row footerRow = sheet.createRow(rowNum);
+            Cell footerCell = footerRow.createCell(0);
             footerCell.setCellValue("소요 및 적용 면적은 개략검토된 내용으로써 상세 설계를 통한 산정필요");
             footerCell.setCellStyle(noBorderStyle);
             sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, 9));
@@ -145,34 +146,27 @@ public class StructureListReportService {
             sheet.setColumnWidth(8, 3000);  // Value
             sheet.setColumnWidth(9, 3000);  // Unit
 
-            // 바이트 배열로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
-            return baos.toByteArray();
-        } finally {
-            if (workbook != null) {
-                try {
-                    workbook.close();
-                } catch (IOException e) {
-                    // 로그만 기록 (무시)
-                }
-            }
+            // 모든 행을 채운 뒤 응답 스트림에 기록 (기록이 끝나면 임시 파일 삭제)
+            return streamingWorkbookFactory.stream(workbook);
+        } catch (Exception e) {
+            // 응답으로 넘기기 전 실패 시 임시 파일 정리 후 예외 전달 (컨트롤러에서 500 응답)
+            streamingWorkbookFactory.discard(workbook);
+            throw e;
         }
     }
 
     /**
      * 구조물 섹션 생성 (code_key별)
      */
-    private int createStructureSection(XSSFSheet sheet, String sectionTitle, List<Map<String, Object>> items,
+    private int createStructureSection(Sheet sheet, String sectionTitle, List<Map<String, Object>> items,
             String codeKey, int startRow, CellStyle sectionStyle, CellStyle headerStyle, CellStyle dataStyle,
             CellStyle centerStyle, CellStyle rightAlignStyle) {
 
         int rowNum = startRow;
 
         // 섹션 헤더
-        XSSFRow sectionRow = sheet.createRow(rowNum++);
-        XSSFCell sectionCell = sectionRow.createCell(0);
+        Row sectionRow = sheet.createRow(rowNum++);
+        Cell sectionCell = sectionRow.createCell(0);
         sectionCell.setCellValue(sectionTitle);
         sectionCell.setCellStyle(sectionStyle);
 
@@ -180,14 +174,14 @@ public class StructureListReportService {
         if ("S_BUILD".equals(codeKey)) {
             // 건축 영역
             // 헤더 행 1
-            XSSFRow headerRow1 = sheet.createRow(rowNum++);
+            Row headerRow1 = sheet.createRow(rowNum++);
             createCell(headerRow1, 0, "구조물 이름", headerStyle);
             createMergedCell(headerRow1, sheet, 1, 5, "적용 구조물 내부 규격", headerStyle);
 //            createMergedCell(headerRow1, sheet, 6, 7, "Design Criteria", headerStyle);
             createCell(headerRow1, 6, "비고", headerStyle);
 
             // 헤더 행 2
-            XSSFRow headerRow2 = sheet.createRow(rowNum++);
+            Row headerRow2 = sheet.createRow(rowNum++);
             createCell(headerRow2, 0, "", headerStyle);
             createCell(headerRow2, 1, "W(m)", headerStyle);
             createCell(headerRow2, 2, "L(m)", headerStyle);
@@ -204,7 +198,7 @@ public class StructureListReportService {
 
             // 데이터 행 생성
             for (Map<String, Object> item : items) {
-                XSSFRow dataRow = sheet.createRow(rowNum++);
+                Row dataRow = sheet.createRow(rowNum++);
                 createCell(dataRow, 0, getString(item, "name"), dataStyle);
                 createCell(dataRow, 1, getNumber(item, "W"), centerStyle);
                 createCell(dataRow, 2, getNumber(item, "L"), centerStyle);
@@ -218,7 +212,7 @@ public class StructureListReportService {
         } else if("S_CONC".equals(codeKey)) {
             // 토목영역역
             // 헤더 행 1
-            XSSFRow headerRow1 = sheet.createRow(rowNum++);
+            Row headerRow1 = sheet.createRow(rowNum++);
             createCell(headerRow1, 0, "구조물 이름", headerStyle);
             createCell(headerRow1, 1, "소요 Volume (㎥)", headerStyle);
             createCell(headerRow1, 2, "적용 유효 Volume (㎥)", headerStyle);
@@ -227,7 +221,7 @@ public class StructureListReportService {
             createCell(headerRow1, 10, "비고", headerStyle);
 
             // 헤더 행 2
-            XSSFRow headerRow2 = sheet.createRow(rowNum++);
+            Row headerRow2 = sheet.createRow(rowNum++);
             createCell(headerRow2, 0, "", headerStyle);
             createCell(headerRow2, 1, "", headerStyle);
             createCell(headerRow2, 2, "", headerStyle);
@@ -248,7 +242,7 @@ public class StructureListReportService {
 
             // 데이터 행 생성
             for (Map<String, Object> item : items) {
-                XSSFRow dataRow = sheet.createRow(rowNum++);
+                Row dataRow = sheet.createRow(rowNum++);
                 createCell(dataRow, 0, getString(item, "name"), dataStyle);
                 createCell(dataRow, 1, getNumber(item, "required_capacity"), rightAlignStyle);
                 createCell(dataRow, 2, getNumber(item, "applied_capacity"), rightAlignStyle);
@@ -264,7 +258,7 @@ public class StructureListReportService {
         } else if("S_STSREC".equals(codeKey)) {
             // 각형탱크(STS) 영역역
             // 헤더 행 1
-            XSSFRow headerRow1 = sheet.createRow(rowNum++);
+            Row headerRow1 = sheet.createRow(rowNum++);
             createCell(headerRow1, 0, "구조물 이름", headerStyle);
             createCell(headerRow1, 1, "소요 Volume (㎥)", headerStyle);
             createCell(headerRow1, 2, "적용 유효 Volume (㎥)", headerStyle);
@@ -273,7 +267,7 @@ public class StructureListReportService {
             createCell(headerRow1, 10, "비고", headerStyle);
 
             // 헤더 행 2
-            XSSFRow headerRow2 = sheet.createRow(rowNum++);
+            Row headerRow2 = sheet.createRow(rowNum++);
             createCell(headerRow2, 0, "", headerStyle);
             createCell(headerRow2, 1, "", headerStyle);
             createCell(headerRow2, 2, "", headerStyle);
@@ -294,7 +288,7 @@ public class StructureListReportService {
 
             // 데이터 행 생성
             for (Map<String, Object> item : items) {
-                XSSFRow dataRow = sheet.createRow(rowNum++);
+                Row dataRow = sheet.createRow(rowNum++);
                 createCell(dataRow, 0, getString(item, "name"), dataStyle);
                 createCell(dataRow, 1, getNumber(item, "required_capacity"), rightAlignStyle);
                 createCell(dataRow, 2, getNumber(item, "applied_capacity"), rightAlignStyle);
@@ -310,7 +304,7 @@ public class StructureListReportService {
         } else if("S_STSCIR".equals(codeKey)) {
             // 원형탱크(STS) 영역
             // 헤더 행 1
-            XSSFRow headerRow1 = sheet.createRow(rowNum++);
+            Row headerRow1 = sheet.createRow(rowNum++);
             createCell(headerRow1, 0, "구조물 이름", headerStyle);
             createCell(headerRow1, 1, "소요 Volume (㎥)", headerStyle);
             createCell(headerRow1, 2, "적용 유효 Volume (㎥)", headerStyle);
@@ -319,7 +313,7 @@ public class StructureListReportService {
             createCell(headerRow1, 10, "비고", headerStyle);
 
             // 헤더 행 2
-            XSSFRow headerRow2 = sheet.createRow(rowNum++);
+            Row headerRow2 = sheet.createRow(rowNum++);
             createCell(headerRow2, 0, "", headerStyle);
             createCell(headerRow2, 1, "", headerStyle);
             createCell(headerRow2, 2, "", headerStyle);
@@ -340,7 +334,7 @@ public class StructureListReportService {
 
             // 데이터 행 생성
             for (Map<String, Object> item : items) {
-                XSSFRow dataRow = sheet.createRow(rowNum++);
+                Row dataRow = sheet.createRow(rowNum++);
                 createCell(dataRow, 0, getString(item, "name"), dataStyle);
                 createCell(dataRow, 1, getNumber(item, "required_capacity"), rightAlignStyle);
                 createCell(dataRow, 2, getNumber(item, "applied_capacity"), rightAlignStyle);
@@ -369,7 +363,7 @@ public class StructureListReportService {
             // jsonUrl이 있으면 URL에서 로드, 없으면 기본 파일에서 로드
             if (jsonUrl != null && !jsonUrl.trim().isEmpty()) {
                 // URL에서 JSON 데이터 로드
-                java.net.URL url = new java.net.URL(jsonUrl);
+                java.net.URL url = java.net.URI.create(jsonUrl).toURL();
                 inputStream = url.openStream();
                 System.out.println("URL에서 JSON 로드: " + jsonUrl);
             } else {
@@ -394,7 +388,7 @@ public class StructureListReportService {
     /**
      * 제목 스타일 생성
      */
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
+    private CellStyle createTitleStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -409,7 +403,7 @@ public class StructureListReportService {
     /**
      * 섹션 스타일 생성
      */
-    private CellStyle createSectionStyle(XSSFWorkbook workbook) {
+    private CellStyle createSectionStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -424,7 +418,7 @@ public class StructureListReportService {
     /**
      * 헤더 스타일 생성
      */
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -444,7 +438,7 @@ public class StructureListReportService {
     /**
      * 데이터 스타일 생성
      */
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
+    private CellStyle createDataStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -462,7 +456,7 @@ public class StructureListReportService {
     /**
      * 중앙 정렬 스타일 생성
      */
-    private CellStyle createCenterStyle(XSSFWorkbook workbook) {
+    private CellStyle createCenterStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -479,7 +473,7 @@ public class StructureListReportService {
     /**
      * 우측 정렬 스타일 생성
      */
-    private CellStyle createRightAlignStyle(XSSFWorkbook workbook) {
+    private CellStyle createRightAlignStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -496,7 +490,7 @@ public class StructureListReportService {
     /**
      * 테두리 없는 스타일 생성
      */
-    private CellStyle createNoBorderStyle(XSSFWorkbook workbook) {
+    private CellStyle createNoBorderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontName("맑은 고딕");
@@ -510,8 +504,8 @@ public class StructureListReportService {
     /**
      * 셀 생성 헬퍼 메서드
      */
-    private void createCell(XSSFRow row, int column, String value, CellStyle style) {
-        XSSFCell cell = row.createCell(column);
+    private void createCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
         cell.setCellValue(value != null ? value : "");
         cell.setCellStyle(style);
     }
@@ -519,14 +513,14 @@ public class StructureListReportService {
     /**
      * 병합된 셀 생성 헬퍼 메서드
      */
-    private void createMergedCell(XSSFRow row, XSSFSheet sheet, int startCol, int endCol, String value, CellStyle style) {
-        XSSFCell cell = row.createCell(startCol);
+    private void createMergedCell(Row row, Sheet sheet, int startCol, int endCol, String value, CellStyle style) {
+        Cell cell = row.createCell(startCol);
         cell.setCellValue(value != null ? value : "");
         cell.setCellStyle(style);
 
         // 병합 영역 내 모든 셀에 스타일 적용
         for (int col = startCol + 1; col <= endCol; col++) {
-            XSSFCell emptyCell = row.createCell(col);
+            Cell emptyCell = row.createCell(col);
             emptyCell.setCellStyle(style);
         }
 
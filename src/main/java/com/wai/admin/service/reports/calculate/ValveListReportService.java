@@ -1,7 +1,5 @@
 package com.wai.admin.service.reports.calculate;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
@@ -13,14 +11,16 @@ import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFCell;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,19 +29,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class ValveListReportService {
 
     private final ObjectMapper objectMapper;
+    private final StreamingWorkbookFactory streamingWorkbookFactory;
 
-    public ValveListReportService(ObjectMapper objectMapper) {
+    public ValveListReportService(ObjectMapper objectMapper, StreamingWorkbookFactory streamingWorkbookFactory) {
         this.objectMapper = objectMapper;
+        this.streamingWorkbookFactory = streamingWorkbookFactory;
     }
 
     /**
      * 밸브리스트 엑셀 파일 생성 (원본 Excel 형식 그대로)
      */
-    public byte[] generateValveListExcel() throws Exception {
-        XSSFWorkbook workbook = null;
+    public StreamingResponseBody generateValveListExcel() throws Exception {
+        SXSSFWorkbook workbook = streamingWorkbookFactory.create();
         try {
-            workbook = new XSSFWorkbook();
-            XSSFSheet sheet = workbook.createSheet("밸브리스트");
+            Sheet sheet = workbook.createSheet("밸브리스트");
 
             // 스타일 정의
             CellStyle titleStyle = createTitleStyle(workbook);
@@ -52,15 +53,15 @@ public class ValveListReportService {
             int rowNum = 0;
 
             // Row 1: 제목 행
-            XSSFRow titleRow = sheet.createRow(rowNum++);
+            Row titleRow = sheet.createRow(rowNum++);
             titleRow.setHeightInPoints(25);
-            XSSFCell titleCell = titleRow.createCell(0);
+            Cell titleCell = titleRow.createCell(0);
             titleCell.setCellValue("밸브리스트");
             titleCell.setCellStyle(titleStyle);
             sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 12));
 
             // Row 2: 헤더 행
-            XSSFRow headerRow = sheet.createRow(rowNum++);
+            Row headerRow = sheet.createRow(rowNum++);
             headerRow.setHeightInPoints(40);
             String[] headers = {
                 "Tag No.",
@@ -79,7 +80,7 @@ public class ValveListReportService {
             };
 
             for (int i = 0; i < headers.length; i++) {
-                XSSFCell cell = headerRow.createCell(i);
+                Cell cell = headerRow.createCell(i);
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
             }
@@ -89,7 +90,7 @@ public class ValveListReportService {
 
             // 데이터 행 추가
             for (Map<String, Object> valve : valveList) {
-                XSSFRow dataRow = sheet.createRow(rowNum++);
+                Row dataRow = sheet.createRow(rowNum++);
                 dataRow.setHeightInPoints(30);
 
                 // Tag No.
@@ -135,19 +136,12 @@ public class ValveListReportService {
             sheet.setColumnWidth(11, 3000);  // Loss of Air
             sheet.setColumnWidth(12, 5000);  // Comments
 
-            // 바이트 배열로 변환
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
-            return baos.toByteArray();
-        } finally {
-            if (workbook != null) {
-                try {
-                    workbook.close();
-                } catch (IOException e) {
-                    // 로그만 기록 (무시)
-                }
-            }
+            // 모든 행을 채운 뒤 응답 스트림에 기록 (기록이 끝나면 임시 파일 삭제)
+            return streamingWorkbookFactory.stream(workbook);
+        } catch (Exception e) {
+            // 응답으로 넘기기 전 실패 시 임시 파일 정리 후 예외 전달 (컨트롤러에서 500 응답)
+            streamingWorkbookFactory.discard(workbook);
+            throw e;
         }
     }
 
@@ -183,7 +177,7 @@ public class ValveListReportService {
     /**
      * 제목 스타일 생성
      */
-    private CellStyle createTitleStyle(XSSFWorkbook workbook) {
+    private CellStyle createTitleStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
@@ -197,7 +191,7 @@ public class ValveListReportService {
     /**
      * 헤더 스타일 생성
      */
-    private CellStyle createHeaderStyle(XSSFWorkbook workbook) {
+    private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setBold(true);
@@ -218,7 +212,7 @@ public class ValveListReportService {
     /**
      * 데이터 스타일 생성 (좌측 정렬)
      */
-    private CellStyle createDataStyle(XSSFWorkbook workbook) {
+    private CellStyle createDataStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontHeightInPoints((short) 10);
@@ -236,7 +230,7 @@ public class ValveListReportService {
     /**
      * 중앙 정렬 스타일 생성
      */
-    private CellStyle createCenterStyle(XSSFWorkbook workbook) {
+    private CellStyle createCenterStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
         font.setFontHeightInPoints((short) 10);
@@ -254,8 +248,8 @@ public class ValveListReportService {
     /**
      * 셀 생성 헬퍼 메서드
      */
-    private void createCell(XSSFRow row, int column, String value, CellStyle style) {
-        XSSFCell cell = row.createCell(column);
+    private void createCell(Row row, int column, String value, CellStyle style) {
+        Cell cell = row.createCell(column);
         cell.setCellValue(value != null ? value : "");
         cell.setCellStyle(style);
     }
@@ -0,0 +1,112 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * xlsx 파일의 시트명만 읽는 경량 리더
+ * - Workbook(XSSFWorkbook)을 만들지 않고 OPC 패키지의 workbook 파트(xl/workbook.xml)만 읽음
+ * - zip 중앙 디렉터리로 해당 파트만 찾아 StAX로 파싱하고 </sheets>에서 읽기를 중단
+ * - 시트 순서는 workbook.xml의 <sheet> 순서 (숨김 시트 포함, Workbook.getSheetAt 순서와 동일)
+ */
+final class XlsxSheetNameReader {
+
+    private static final String DEFAULT_WORKBOOK_PART = "xl/workbook.xml";
+    private static final String ROOT_RELS_PART = "_rels/.rels";
+    private static final String OFFICE_DOCUMENT_REL = "/officeDocument";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private XlsxSheetNameReader() {
+    }
+
+    /**
+     * 시트명 목록 읽기
+     * @param file xlsx 파일
+     * @return 시트명 목록 (workbook 순서)
+     */
+    static List<String> read(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry workbookPart = zip.getEntry(DEFAULT_WORKBOOK_PART);
+            if (workbookPart == null) {
+                // 표준 위치가 아니면 패키지 관계(_rels/.rels)에서 workbook 파트 위치 확인
+                String partName = findWorkbookPartName(zip);
+                workbookPart = partName != null ? zip.getEntry(partName) : null;
+            }
+            if (workbookPart == null) {
+                throw new IOException("xlsx 파일에서 workbook 파트를 찾을 수 없습니다: " + file);
+            }
+            try (InputStream in = zip.getInputStream(workbookPart)) {
+                return Collections.unmodifiableList(readSheetNames(in));
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("xlsx workbook 파트 파싱 실패: " + file, e);
+        }
+    }
+
+    private static List<String> readSheetNames(InputStream in) throws XMLStreamException {
+        List<String> sheetNames = new ArrayList<>();
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "sheet".equals(reader.getLocalName())) {
+                    String name = reader.getAttributeValue(null, "name");
+                    if (name != null) {
+                        sheetNames.add(name);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "sheets".equals(reader.getLocalName())) {
+                    // 시트 목록 이후(definedNames, calcPr 등)는 읽지 않음
+                    break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return sheetNames;
+    }
+
+    private static String findWorkbookPartName(ZipFile zip) throws IOException, XMLStreamException {
+        ZipEntry rels = zip.getEntry(ROOT_RELS_PART);
+        if (rels == null) {
+            return null;
+        }
+        try (InputStream in = zip.getInputStream(rels)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT
+                            && "Relationship".equals(reader.getLocalName())) {
+                        String type = reader.getAttributeValue(null, "Type");
+                        String target = reader.getAttributeValue(null, "Target");
+                        if (type != null && type.endsWith(OFFICE_DOCUMENT_REL) && target != null) {
+                            return target.startsWith("/") ? target.substring(1) : target;
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        return null;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 처리 비활성화 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -10,6 +10,9 @@ import com.wai.admin.util.HttpUtil;
 
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -23,11 +26,10 @@ public class RoleService {
     private String authServerBaseUrl;
 
     /**
-     * 권한 조회 - 외부 API 호출
+     * 권한 조회 - 외부 API 호출 (응답을 파싱하지 않고 표준 응답 형태로 감싸 바로 전달)
      */
-    public Map<String, Object> searchRoles(Map<String, Object> searchParams, HttpServletRequest request) {
+    public void searchRoles(Map<String, Object> searchParams, HttpServletRequest request, HttpServletResponse response) throws IOException {
         logger.debug("외부 인증 서버 권한 조회 시도: server={}, params={}", authServerBaseUrl, searchParams);
-        Map<String, Object> result = new HashMap<>();
         
         // 외부 인증 서버 URL 구성
         String rolesUrl = authServerBaseUrl + "/api/v1/auth/roles/search";
@@ -47,48 +49,9 @@ public class RoleService {
         String requestBody = JsonUtil.objectMapToJson(requestMap);
         logger.debug("권한 조회 요청 본문: {}", requestBody);
         
-        // HttpUtil을 사용하여 POST 요청 수행 (자동 토큰 추출)
-        HttpUtil.HttpResult httpResult = HttpUtil.post(rolesUrl, "application/json", requestBody);
-        
-        // 응답 처리
-        if (httpResult.isSuccess()) {
-            // 성공적인 응답 처리
-            String responseBody = httpResult.getBody();
-            Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-            
-            // 디버깅용: 파싱된 응답을 보기 좋게 로그 출력
-            if (parsedResponse != null) {
-                logger.debug("권한 조회 응답:\n{}", JsonUtil.mapToString(parsedResponse));
-            } else {
-                logger.warn("권한 조회 응답 파싱 실패: {}", responseBody);
-            }
-            
-            logger.debug("권한 조회 성공");
-            result.put("success", true);
-            result.put("status", httpResult.getStatus());
-            result.put("message", "messages.success.roleSearchSuccess");
-            result.put("response", parsedResponse);
-        } else {
-            // 에러 응답 처리
-            result.put("success", false);
-            result.put("status", httpResult.getStatus());
-            
-            String responseBody = httpResult.getBody();
-            Map<String, Object> parsedResponse = JsonUtil.parseJson(responseBody);
-            
-            // HttpUtil에서 추출된 에러 메시지 사용
-            String errorMessage = httpResult.getExtractedErrorMessage();
-            if (errorMessage == null || errorMessage.isEmpty()) {
-                errorMessage = "messages.error.roleSearchFail";
-            }
-            
-            result.put("message", errorMessage);
-            result.put("response", parsedResponse);
-            
-            logger.warn("외부 인증 서버 권한 조회 실패: {}", errorMessage);
-        }
-        
-        return result;
+        // HttpUtil을 사용하여 POST 요청 수행 후 응답 본문을 그대로 스트리밍 (자동 토큰 추출)
+        HttpUtil.passThrough(rolesUrl, "POST", "application/json", requestBody,
+                "messages.success.roleSearchSuccess", "messages.error.roleSearchFail", response);
     }
 
     /**
@@ -0,0 +1,190 @@
+package com.wai.admin.service.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wai.admin.util.AuthContext;
+import com.wai.admin.util.HttpUtil;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 요청 사용자 식별 (system_code + 사용자 ID)
+ * - 액세스 토큰(JWT) 클레임의 사용자 ID(user_id, 없으면 sub) 사용 → 토큰이 갱신되어도 같은 값
+ * - 서명은 이 서버에서 확인할 수 없으므로 토큰별로 한 번 외부 인증 서버(/api/v1/auth/verify)에서 검증한 후 캐시
+ * - 리포트 작업 소유자, 리포트 결과 캐시 키처럼 쿠키 값 대신 안정적인 사용자 구분이 필요한 곳에서 사용
+ */
+@Service
+public class UserIdentityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserIdentityService.class);
+
+    private static final TypeReference<Map<String, Object>> CLAIMS_TYPE = new TypeReference<>() {
+    };
+
+    @Value("${auth.server.base-url}")
+    private String authServerBaseUrl;
+
+    // 검증된 토큰 보관 시간 (토큰 만료 시각이 더 이르면 그때까지만 사용)
+    @Value("${auth.identity.cache-minutes:10}")
+    private long cacheMinutes;
+
+    @Value("${auth.identity.cache-max-size:10000}")
+    private long cacheMaxSize;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // system_code + 액세스 토큰 해시 -> 검증된 식별자
+    private Cache<String, VerifiedIdentity> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheMinutes))
+                .build();
+        logger.info("사용자 식별 캐시 초기화: maxSize={}, ttl={}m", cacheMaxSize, cacheMinutes);
+    }
+
+    /**
+     * 사용자 식별자 조회
+     * @param authContext 요청 인증 정보
+     * @return "system_code:사용자 ID" (system_code/토큰이 없거나 토큰이 유효하지 않으면 null)
+     */
+    public String resolve(AuthContext authContext) {
+        String accessToken = authContext.getAccessToken();
+        if (authContext.getSystemCode() == null || accessToken == null) {
+            // 익명 요청끼리 하나의 소유자 키를 공유하지 않도록 식별 불가로 처리
+            return null;
+        }
+
+        Map<String, Object> claims = decodeClaims(accessToken);
+        if (claims == null) {
+            logger.warn("액세스 토큰에서 사용자 정보를 읽을 수 없습니다 (JWT 형식 아님)");
+            return null;
+        }
+        long expiresAt = expiresAt(claims);
+        long now = System.currentTimeMillis();
+        if (expiresAt > 0 && expiresAt <= now) {
+            logger.debug("만료된 액세스 토큰");
+            return null;
+        }
+
+        String cacheKey = authContext.getSystemCode() + "\n" + hash(accessToken);
+        VerifiedIdentity cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && (cached.expiresAt <= 0 || cached.expiresAt > now)) {
+            return cached.identity;
+        }
+
+        Object userId = claims.get("user_id") != null ? claims.get("user_id") : claims.get("sub");
+        if (userId == null || userId.toString().trim().isEmpty()) {
+            logger.warn("액세스 토큰에 사용자 ID 클레임(user_id, sub)이 없습니다");
+            return null;
+        }
+        if (!verify(authContext)) {
+            return null;
+        }
+
+        String identity = authContext.getSystemCode() + ":" + userId.toString().trim();
+        verifiedTokens.put(cacheKey, new VerifiedIdentity(identity, expiresAt));
+        logger.debug("사용자 식별 완료: {}", identity);
+        return identity;
+    }
+
+    /**
+     * 토큰 만료 시각 (epoch millis, 클레임이 없으면 0)
+     * - 대기 중인 리포트 작업이 실행 전에 만료되는지 확인하는 용도
+     */
+    public long getTokenExpiresAt(AuthContext authContext) {
+        if (authContext.getAccessToken() == null) {
+            return 0;
+        }
+        Map<String, Object> claims = decodeClaims(authContext.getAccessToken());
+        return claims != null ? expiresAt(claims) : 0;
+    }
+
+    /**
+     * 외부 인증 서버에서 토큰 검증 (요청 인증 정보로 호출)
+     */
+    private boolean verify(AuthContext authContext) {
+        String verifyUrl = authServerBaseUrl + "/api/v1/auth/verify";
+        HttpUtil.HttpResult httpResult = authContext.wrap(
+                () -> HttpUtil.get(verifyUrl, "application/json", "")).get();
+        if (!httpResult.isSuccess()) {
+            logger.warn("액세스 토큰 검증 실패: status={}", httpResult.getStatus());
+            return false;
+        }
+        try {
+            Map<String, Object> response = objectMapper.readValue(httpResult.getBody(), CLAIMS_TYPE);
+            // 응답에 valid 값이 있으면 그 값을 따르고, 없으면 2xx 응답을 유효로 판단
+            return response == null || !Boolean.FALSE.equals(response.get("valid"));
+        } catch (Exception e) {
+            // 검증 결과를 확인할 수 없으면 유효하지 않은 것으로 처리 (fail closed)
+            logger.warn("액세스 토큰 검증 응답을 해석할 수 없습니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * JWT payload 디코딩 (서명 검증 없음)
+     * @return 클레임 (JWT 형식이 아니면 null)
+     */
+    private Map<String, Object> decodeClaims(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            return objectMapper.readValue(payload, CLAIMS_TYPE);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private long expiresAt(Map<String, Object> claims) {
+        Object exp = claims.get("exp");
+        if (exp instanceof Number) {
+            return ((Number) exp).longValue() * 1000L;
+        }
+        return 0;
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 검증된 식별자 (토큰 만료 시각까지 유효)
+     */
+    private static final class VerifiedIdentity {
+        private final String identity;
+        private final long expiresAt;
+
+        private VerifiedIdentity(String identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
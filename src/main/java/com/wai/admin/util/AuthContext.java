@@ -0,0 +1,257 @@
+package com.wai.admin.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 요청 단위 인증 정보 (system_code + 외부 API 전달용 Cookie 헤더 + 요청 헤더의 authSuper/wai_lang)
+ * - AuthContextFilter에서 요청당 한 번만 쿠키를 읽어 요청 속성에 저장
+ * - HttpUtil은 외부 API 호출마다 쿠키를 다시 탐색하지 않고 미리 구성된 Cookie 헤더를 사용
+ * - 요청 스레드 밖(비동기/병렬 호출)에서는 capture()로 캡처한 후 wrap()으로 감싸서 실행
+ * - 요청 스레드 밖에서 받은 외부 API Set-Cookie는 보관해 두었다가 요청 스레드에서 전달 (HttpUtil.forwardDeferredCookies)
+ */
+public final class AuthContext {
+
+    private static final String REQUEST_ATTRIBUTE = AuthContext.class.getName();
+
+    public static final AuthContext EMPTY = new AuthContext(null, "", null, null, null);
+
+    // wrap()으로 명시적으로 전달된 컨텍스트 (요청 속성보다 우선)
+    private static final ThreadLocal<AuthContext> BOUND = new ThreadLocal<>();
+
+    private final String systemCode;
+    private final String cookieHeader;
+    private final String accessToken;
+    // 관리자 전용 코드 포함 여부(authSuper), 응답 언어(wai_lang) - 작업 스레드에서 요청 헤더를 읽지 않도록 함께 전달
+    private final String authSuper;
+    private final String language;
+
+    // 병렬 호출 작업에서 받은 외부 API Set-Cookie 원본 값 (요청 스레드에서 꺼내 응답에 추가)
+    private final Queue<String> deferredSetCookies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger deferredCount = new AtomicInteger();
+
+    // 요청이 끝난 뒤 실행되는 작업(리포트 비동기 생성 등)에서 무한히 쌓이지 않도록 보관 수 제한
+    private static final int MAX_DEFERRED_SET_COOKIES = 32;
+
+    private AuthContext(String systemCode, String cookieHeader, String accessToken, String authSuper, String language) {
+        this.systemCode = systemCode;
+        this.cookieHeader = cookieHeader;
+        this.accessToken = accessToken;
+        this.authSuper = authSuper;
+        this.language = language;
+    }
+
+    /**
+     * 요청 헤더(system_code, authSuper, wai_lang)와 쿠키에서 인증 정보 구성 - 쿠키는 한 번만 순회
+     * @param request 서블릿 요청
+     * @return 인증 정보 (system_code가 없으면 쿠키 없이 authSuper/wai_lang만 포함, 둘 다 없으면 EMPTY)
+     */
+    public static AuthContext resolve(HttpServletRequest request) {
+        String authSuper = trimToNull(request.getHeader("authSuper"));
+        String language = trimToNull(request.getHeader("wai_lang"));
+        String systemCode = request.getHeader("system_code");
+        if (systemCode == null || systemCode.trim().isEmpty()) {
+            return (authSuper == null && language == null) ? EMPTY : new AuthContext(null, "", null, authSuper, language);
+        }
+        systemCode = systemCode.trim();
+
+        // system_code에 따른 쿠키 이름 prefix 결정
+        String cookiePrefix = "WAI_WEB_ADMIN".equals(systemCode) ? "admin_" : "webView_";
+        String accessToken = null;
+        String refreshToken = null;
+        String sessionToken = null;
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                String name = cookie.getName();
+                if (name == null || !name.startsWith(cookiePrefix)) {
+                    continue;
+                }
+                switch (name.substring(cookiePrefix.length())) {
+                    case "access":
+                        if (accessToken == null) accessToken = cookie.getValue();
+                        break;
+                    case "refresh":
+                        if (refreshToken == null) refreshToken = cookie.getValue();
+                        break;
+                    case "session":
+                        if (sessionToken == null) sessionToken = cookie.getValue();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        StringBuilder cookieBuilder = new StringBuilder();
+        if (accessToken != null && !accessToken.isEmpty()) {
+            cookieBuilder.append("wai_access=").append(accessToken);
+        }
+        if (refreshToken != null && !refreshToken.isEmpty()) {
+            if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
+            cookieBuilder.append("wai_refresh=").append(refreshToken);
+        }
+        if (sessionToken != null && !sessionToken.isEmpty()) {
+            if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
+            cookieBuilder.append("wai_session=").append(sessionToken);
+        }
+        return new AuthContext(systemCode, cookieBuilder.toString(),
+                accessToken != null && !accessToken.isEmpty() ? accessToken : null, authSuper, language);
+    }
+
+    private static String trimToNull(String value) {
+        return (value != null && !value.trim().isEmpty()) ? value.trim() : null;
+    }
+
+    /**
+     * 요청 속성에 인증 정보 저장 (AuthContextFilter에서 호출)
+     */
+    public static void bind(HttpServletRequest request, AuthContext authContext) {
+        request.setAttribute(REQUEST_ATTRIBUTE, authContext);
+    }
+
+    /**
+     * 현재 스레드의 인증 정보 반환
+     * - wrap()으로 전달된 컨텍스트 → 요청 속성 → (필터를 거치지 않은 경우) 현재 요청에서 구성 순으로 조회
+     * @return 인증 정보 (요청 컨텍스트가 없으면 EMPTY)
+     */
+    public static AuthContext current() {
+        AuthContext bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return EMPTY;
+        }
+        Object cached = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof AuthContext) {
+            return (AuthContext) cached;
+        }
+
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        AuthContext resolved = resolve(request);
+        bind(request, resolved);
+        return resolved;
+    }
+
+    /**
+     * 요청 스레드에서 인증 정보 캡처 (비동기/병렬 호출 전달용)
+     */
+    public static AuthContext capture() {
+        return current();
+    }
+
+    /**
+     * 이 인증 정보를 사용하여 작업을 실행하도록 감싸기
+     * @param task 다른 스레드에서 실행할 작업
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            AuthContext previous = BOUND.get();
+            BOUND.set(this);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 이 인증 정보를 사용하여 작업을 실행하도록 감싸기 (CompletableFuture.supplyAsync 등)
+     * @param task 다른 스레드에서 실행할 작업
+     */
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> {
+            AuthContext previous = BOUND.get();
+            BOUND.set(this);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(AuthContext previous) {
+        if (previous != null) {
+            BOUND.set(previous);
+        } else {
+            BOUND.remove();
+        }
+    }
+
+    /**
+     * 요청 스레드 밖에서 받은 외부 API Set-Cookie 보관 (system_code가 없으면 전달 대상이 없으므로 무시)
+     * @param setCookieValue 외부 API Set-Cookie 헤더 값
+     */
+    public void deferSetCookie(String setCookieValue) {
+        if (systemCode == null) {
+            return;
+        }
+        if (deferredCount.incrementAndGet() > MAX_DEFERRED_SET_COOKIES) {
+            deferredCount.decrementAndGet();
+            return;
+        }
+        deferredSetCookies.add(setCookieValue);
+    }
+
+    /**
+     * 보관된 Set-Cookie를 꺼내고 비움 (요청 스레드에서 호출)
+     */
+    public List<String> drainDeferredSetCookies() {
+        List<String> drained = new ArrayList<>();
+        String value;
+        while ((value = deferredSetCookies.poll()) != null) {
+            drained.add(value);
+        }
+        deferredCount.addAndGet(-drained.size());
+        return drained;
+    }
+
+    public String getSystemCode() {
+        return systemCode;
+    }
+
+    /**
+     * 외부 API 전달용 Cookie 헤더 (wai_access, wai_refresh, wai_session) - 토큰이 없으면 빈 문자열
+     */
+    public String getCookieHeader() {
+        return cookieHeader;
+    }
+
+    /**
+     * 액세스 토큰 (사용자 식별용, 없으면 null) - 토큰 갱신 시 바뀌므로 식별 키로 직접 사용하지 않음
+     */
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    /**
+     * 요청 헤더의 authSuper 값 (없으면 null)
+     */
+    public String getAuthSuper() {
+        return authSuper;
+    }
+
+    /**
+     * 요청 헤더의 wai_lang 값 (없으면 null)
+     */
+    public String getLanguage() {
+        return language;
+    }
+}
@@ -6,12 +6,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 
+
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 
 /**
  * 공통코드 조회를 위한 유틸리티 클래스
@@ -21,16 +31,51 @@ public class CommonCodeUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(CommonCodeUtil.class);
 
+    // 캐시 키 prefix
+    private static final String CACHE_PREFIX_SEARCH = "search|";
+    private static final String CACHE_PREFIX_DEPTH = "depth|";
+    private static final String CACHE_PREFIX_UNIT = "unit|";
+    private static final String CACHE_PREFIX_BUNDLE = "bundle|";
+
     @Value("${auth.server.base-url}")
     private String authServerBaseUrl;
 
+    @Value("${common-code.cache.max-size:1000}")
+    private long cacheMaxSize;
+
+    @Value("${common-code.cache.ttl-seconds:600}")
+    private long cacheTtlSeconds;
+
     @Autowired
-    private HttpServletRequest request;
+    private MeterRegistry meterRegistry;
+
+    // 공통코드 조회 결과 캐시 (키: 조회 종류|파라미터|언어)
+    private Cache<String, Map<String, Object>> commonCodeCache;
+
+    @PostConstruct
+    public void initCache() {
+        commonCodeCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, commonCodeCache, "commonCodes");
+        logger.info("공통코드 캐시 초기화: maxSize={}, ttl={}s", cacheMaxSize, cacheTtlSeconds);
+    }
 
     /**
-     * 공통코드 목록을 조회합니다.
+     * 공통코드 목록을 조회합니다. (캐시 사용)
      */
     public Map<String, Object> getCommonCodes(Map<String, Object> searchParams) {
+        String authSuper = AuthContext.current().getAuthSuper();
+        String cacheKey = CACHE_PREFIX_SEARCH + new TreeMap<>(searchParams) + "|authSuper=" + authSuper + "|" + getLanguage();
+        return getCached(cacheKey, () -> loadCommonCodes(searchParams));
+    }
+
+    /**
+     * 공통코드 목록을 외부 API에서 조회합니다.
+     */
+    private Map<String, Object> loadCommonCodes(Map<String, Object> searchParams) {
         logger.debug("공통코드 목록 조회: params={}", searchParams);
         Map<String, Object> result = new HashMap<>();
         
@@ -46,9 +91,9 @@ public class CommonCodeUtil {
             requestMap.put("order_by", searchParams.getOrDefault("order_by", ""));
             requestMap.put("order_direction", searchParams.getOrDefault("order_direction", "asc"));
             
-            // 헤더에서 authSuper 값 확인
-            String authSuper = request.getHeader("authSuper");
-            if (authSuper != null && "false".equalsIgnoreCase(authSuper.trim())) {
+            // 헤더에서 authSuper 값 확인 (작업 스레드에서도 읽을 수 있도록 AuthContext 사용)
+            String authSuper = AuthContext.current().getAuthSuper();
+            if ("false".equalsIgnoreCase(authSuper)) {
                 requestMap.put("is_admin_only", false);
             }
 
@@ -104,8 +149,7 @@ public class CommonCodeUtil {
     private void processLanguageOverride(List<Map<String, Object>> itemsList) {
         try {
             // 헤더에서 wai_lang 값 가져오기
-            String language = request.getHeader("wai_lang");
-            language = (language != null && !language.trim().isEmpty()) ? language.trim() : null;
+            String language = AuthContext.current().getLanguage();
             
             if ("en".equals(language)) {
                 logger.debug("영어 언어 설정 감지, code_value_en 값을 code_value에 덮어쓰기");
@@ -132,8 +176,7 @@ public class CommonCodeUtil {
     private void processLanguageOverride2(Map<String, Object> responseMap) {
         try {
             // 헤더에서 wai_lang 값 가져오기
-            String language = request.getHeader("wai_lang");
-            language = (language != null && !language.trim().isEmpty()) ? language.trim() : null;
+            String language = AuthContext.current().getLanguage();
             
             if ("en".equals(language)) {
                 logger.debug("영어 언어 설정 감지, children 배열의 code_value_en 값을 code_value에 덮어쓰기");
@@ -179,9 +222,18 @@ public class CommonCodeUtil {
     }
 
     /**
-     * 깊이별 상세 코드 조회 - 외부 API 호출 (GET 방식)
+     * 깊이별 상세 코드 조회 (캐시 사용)
      */
     public Map<String, Object> getDepthDetail(Map<String, Object> searchParams) {
+        String cacheKey = CACHE_PREFIX_DEPTH + searchParams.get("code_group") + "|" + searchParams.get("parent_key")
+                + "|" + searchParams.get("code_level") + "|" + getLanguage();
+        return getCached(cacheKey, () -> loadDepthDetail(searchParams));
+    }
+
+    /**
+     * 깊이별 상세 코드 조회 - 외부 API 호출 (GET 방식)
+     */
+    private Map<String, Object> loadDepthDetail(Map<String, Object> searchParams) {
         logger.debug("깊이별 상세 코드 조회 시도: searchParams={}", searchParams);
         Map<String, Object> result = new HashMap<>();
 
@@ -279,9 +331,16 @@ public class CommonCodeUtil {
     }
 
     /**
-     * 단위 시스템 조회 - 외부 API 호출
+     * 단위 시스템 조회 (캐시 사용)
      */
     public Map<String, Object> getUnitSystems() {
+        return getCached(CACHE_PREFIX_UNIT + getLanguage(), this::loadUnitSystems);
+    }
+
+    /**
+     * 단위 시스템 조회 - 외부 API 호출
+     */
+    private Map<String, Object> loadUnitSystems() {
         logger.debug("단위 시스템 조회 시도");
         Map<String, Object> result = new HashMap<>();
         
@@ -348,4 +407,79 @@ public class CommonCodeUtil {
         
         return result;
     }
+
+    /**
+     * 여러 공통코드를 조합한 결과(화면별 코드 묶음)를 언어별로 캐시
+     * - 공통코드 변경 시 evictCommonCodes에서 함께 제거됨
+     * @param bundleName 묶음 이름 (예: projectCommonCodes)
+     * @param loader 캐시에 없을 때 묶음을 구성하는 함수 (success=true인 결과만 캐시)
+     */
+    public Map<String, Object> getCachedBundle(String bundleName, Supplier<Map<String, Object>> loader) {
+        String cacheKey = CACHE_PREFIX_BUNDLE + bundleName + "|authSuper=" + AuthContext.current().getAuthSuper() + "|" + getLanguage();
+        return getCached(cacheKey, loader);
+    }
+
+    /**
+     * 공통코드 변경 시 영향받는 캐시 항목 제거 (CodeService 등록/수정/삭제 시 호출)
+     * - 목록 조회 결과와 코드 묶음은 어떤 코드가 포함되었는지 알 수 없으므로 모두 제거
+     * - 깊이별 조회 결과는 code_group을 알면 해당 그룹만, 모르면 모두 제거
+     * - 단위 시스템은 공통코드와 별개이므로 유지
+     * @param codeGroup 변경된 코드의 code_group (모르면 null)
+     */
+    public void evictCommonCodes(String codeGroup) {
+        String depthPrefix = (codeGroup != null && !codeGroup.trim().isEmpty())
+                ? CACHE_PREFIX_DEPTH + codeGroup.trim() + "|"
+                : CACHE_PREFIX_DEPTH;
+        commonCodeCache.asMap().keySet().removeIf(key -> key.startsWith(CACHE_PREFIX_SEARCH)
+                || key.startsWith(CACHE_PREFIX_BUNDLE) || key.startsWith(depthPrefix));
+        logger.debug("공통코드 캐시 무효화: codeGroup={}", codeGroup);
+    }
+
+    /**
+     * 캐시 조회 후 없으면 로드 - 성공 결과만 캐시하며, 호출자가 결과를 수정할 수 있도록 복사본을 반환
+     */
+    private Map<String, Object> getCached(String cacheKey, Supplier<Map<String, Object>> loader) {
+        Map<String, Object> cached = commonCodeCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            logger.debug("공통코드 캐시 적중: {}", cacheKey);
+            return deepCopy(cached);
+        }
+
+        Map<String, Object> result = loader.get();
+        if (Boolean.TRUE.equals(result.get("success"))) {
+            commonCodeCache.put(cacheKey, deepCopy(result));
+        }
+        return result;
+    }
+
+    /**
+     * Map/List 구조 깊은 복사 (문자열, 숫자 등 불변 값은 그대로 사용)
+     * - JsonUtil 파싱 결과(LinkedHashMap)의 키 순서를 유지하여 캐시 적중/미적중 응답의 직렬화 결과가 같도록 LinkedHashMap으로 복사
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T deepCopy(T value) {
+        if (value instanceof Map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                copy.put(entry.getKey(), deepCopy(entry.getValue()));
+            }
+            return (T) copy;
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : (List<Object>) value) {
+                copy.add(deepCopy(item));
+            }
+            return (T) copy;
+        }
+        return value;
+    }
+
+    /**
+     * 헤더의 wai_lang 값 (캐시 키 구분용)
+     */
+    private String getLanguage() {
+        String language = AuthContext.current().getLanguage();
+        return language != null ? language : "default";
+    }
 }
@@ -0,0 +1,137 @@
+package com.wai.admin.util;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 외부 API 요청/응답 본문 로그 (HttpUtil 전용)
+ * - 성공 응답 본문은 DEBUG 레벨에서만, 라우트별 샘플링 비율에 따라 기록
+ * - 오류 응답 본문은 WARN 레벨로 항상 기록 (샘플링 제외)
+ * - 본문은 최대 길이까지만 잘라서 기록하며, 레벨이 꺼져 있으면 문자열을 만들지 않음
+ * - 라우트: URL의 /api/v1/{그룹} 단위 (UpstreamGuard와 동일)
+ */
+public final class HttpBodyLogger {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpBodyLogger.class);
+
+    private static volatile Settings settings = new Settings(2000, 1.0, null);
+
+    private HttpBodyLogger() {
+    }
+
+    /**
+     * 설정 등록 (HttpClientConfig에서 호출)
+     */
+    public static void configure(Settings newSettings) {
+        settings = newSettings;
+        logger.info("외부 API 본문 로그 설정: {}", newSettings);
+    }
+
+    /**
+     * 응답 본문 기록
+     * @param log 기록할 로거
+     * @param url 요청 URL
+     * @param status 응답 상태 코드
+     * @param body 응답 본문
+     */
+    public static void logResponse(Logger log, String url, int status, String body) {
+        if (status >= 400 || status < 0) {
+            if (log.isWarnEnabled()) {
+                log.warn("HTTP 오류 응답 본문: {} {} -> {}", status, url, abbreviate(body));
+            }
+            return;
+        }
+        if (log.isDebugEnabled() && sampled(url)) {
+            log.debug("HTTP 응답: {} {} -> {}", status, url, abbreviate(body));
+        }
+    }
+
+    /**
+     * 요청 본문 기록 (DEBUG, 샘플링 적용)
+     */
+    public static void logRequest(Logger log, String url, String body) {
+        if (log.isDebugEnabled() && sampled(url)) {
+            log.debug("요청 본문: {} -> {}", url, abbreviate(body));
+        }
+    }
+
+    /**
+     * 최대 길이로 자른 본문 (로그 메시지 인자용)
+     */
+    public static String abbreviate(String body) {
+        if (body == null) {
+            return null;
+        }
+        int maxChars = settings.maxChars;
+        if (body.length() <= maxChars) {
+            return body;
+        }
+        return body.substring(0, maxChars) + "...(" + body.length() + "자 중 " + maxChars + "자만 기록)";
+    }
+
+    private static boolean sampled(String url) {
+        double rate = settings.sampleRate(url);
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 본문 로그 설정
+     */
+    public static final class Settings {
+        private final int maxChars;
+        private final double defaultSampleRate;
+        private final Map<String, Double> routeSampleRates;
+
+        /**
+         * @param maxChars          본문 최대 기록 길이 (문자 수)
+         * @param defaultSampleRate 성공 응답 본문 기록 비율 (0.0 ~ 1.0)
+         * @param routeSampleRates  라우트별 기록 비율 ("process=0.1,minio=0" 형식, 쉼표 구분)
+         */
+        public Settings(int maxChars, double defaultSampleRate, String routeSampleRates) {
+            this.maxChars = Math.max(0, maxChars);
+            this.defaultSampleRate = clamp(defaultSampleRate);
+            this.routeSampleRates = parseRouteSampleRates(routeSampleRates);
+        }
+
+        double sampleRate(String url) {
+            if (routeSampleRates.isEmpty()) {
+                return defaultSampleRate;
+            }
+            Double rate = routeSampleRates.get(UpstreamGuard.routeKey(url));
+            return rate != null ? rate : defaultSampleRate;
+        }
+
+        private static double clamp(double rate) {
+            return Math.max(0.0, Math.min(1.0, rate));
+        }
+
+        private static Map<String, Double> parseRouteSampleRates(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, Double> rates = new LinkedHashMap<>();
+            for (String item : value.split(",")) {
+                String[] pair = item.split("=", 2);
+                if (pair.length != 2) {
+                    continue;
+                }
+                try {
+                    rates.put(pair[0].trim(), clamp(Double.parseDouble(pair[1].trim())));
+                } catch (NumberFormatException e) {
+                    logger.warn("외부 API 본문 로그 샘플링 설정 무시: {}", item);
+                }
+            }
+            return Collections.unmodifiableMap(rates);
+        }
+
+        @Override
+        public String toString() {
+            return "maxChars=" + maxChars + ", sampleRate=" + defaultSampleRate + ", routeSampleRates=" + routeSampleRates;
+        }
+    }
+}
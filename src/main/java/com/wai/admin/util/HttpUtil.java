@@ -1,29 +1,49 @@
 package com.wai.admin.util;
 
-import java.net.ConnectException;
-import java.net.SocketTimeoutException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
 
-import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleRequestProducer;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
 import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPatch;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.entity.mime.HttpMultipartMode;
+import org.apache.hc.client5.http.entity.mime.InputStreamBody;
+import org.apache.hc.client5.http.entity.mime.MultipartEntityBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpMessage;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.http.message.BasicHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 /**
  * HTTP 호출 유틸리티 클래스 - Apache HttpClient 기반
@@ -32,130 +52,95 @@ public class HttpUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(HttpUtil.class);
 
-    // 재시도 관련 기본 설정값
-    private static final int MAX_RETRY_COUNT = 2;          // 최초 1회 + 추가 2회 재시도 = 최대 3번 시도
-    private static final long RETRY_DELAY_MILLIS = 1000L;  // 재시도 사이 대기 시간 (1초)
-    
+    // 파일 스트리밍(streamDownload) 설정
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+    private static final String[] DOWNLOAD_REQUEST_HEADERS = {
+            "Range", "If-Range", "If-None-Match", "If-Modified-Since" };
+    private static final String[] DOWNLOAD_RESPONSE_HEADERS = {
+            "Content-Range", "Accept-Ranges", "Content-Disposition", "ETag", "Last-Modified", "Cache-Control" };
+
+    // 공유 클라이언트 지연 생성용 락 (가상 스레드 pinning 방지를 위해 synchronized 대신 사용)
+    private static final ReentrantLock CLIENT_INIT_LOCK = new ReentrantLock();
+
+    // 공유 HttpClient (커넥션 풀 재사용, HttpClientConfig에서 등록)
+    private static volatile CloseableHttpClient httpClient;
+
     /**
-     * 헤더에서 system_code를 가져오는 헬퍼 메서드
+     * 공유 HttpClient 등록 (HttpClientConfig에서 호출)
+     * @param client 커넥션 풀 기반 HttpClient
      */
-    private static String getSystemCodeFromHeader() {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                String systemCode = request.getHeader("system_code");
-                if (systemCode != null && !systemCode.trim().isEmpty()) {
-                    logger.debug("헤더에서 system_code 추출: {}", systemCode);
-                    return systemCode.trim();
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("헤더에서 system_code 추출 실패: {}", e.getMessage());
-        }
-        return null;
+    public static void setHttpClient(CloseableHttpClient client) {
+        httpClient = client;
     }
 
+    // 공유 비동기 HttpClient (HttpClientConfig에서 등록)
+    private static volatile CloseableHttpAsyncClient httpAsyncClient;
+
     /**
-     * 쿠키에서 액세스 토큰을 자동으로 추출하는 메서드 (system_code 기반)
-     * @param systemCode 
+     * 공유 비동기 HttpClient 등록 (HttpClientConfig에서 호출, start()된 상태여야 함)
+     * @param client 커넥션 풀 기반 비동기 HttpClient
      */
-    private static String getAccessTokenFromCookie(String systemCode) {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                
-                // system_code에 따른 쿠키 이름 결정
-                String cookieName;
-                if ("WAI_WEB_ADMIN".equals(systemCode)) {
-                    cookieName = "admin_access";
-                } else {
-                    cookieName = "webView_access";
-                }
-                
-                Cookie[] cookies = request.getCookies();
-                if (cookies != null) {
-                    for (Cookie cookie : cookies) {
-                        if (cookieName.equals(cookie.getName())) {
-                            logger.debug("쿠키에서 액세스 토큰 자동 추출 (system_code: {}): {}", systemCode, cookie.getValue());
-                            return cookie.getValue();
-                        }
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.warn("쿠키에서 액세스 토큰 자동 추출 실패: {}", e.getMessage());
-        }
-        return null;
+    public static void setHttpAsyncClient(CloseableHttpAsyncClient client) {
+        httpAsyncClient = client;
     }
-    
+
+    // 동일 GET 요청 합치기 (HttpClientConfig에서 설정)
+    private static volatile boolean coalesceReads = true;
+    private static final SingleFlight<Exchange> READ_FLIGHTS = new SingleFlight<>();
+
     /**
-     * 쿠키에서 리프레시 토큰을 자동으로 추출하는 메서드 (system_code 기반)
-     * @param systemCode
+     * 동시에 들어온 동일 GET 요청(URL, 본문, system_code, 인증 쿠키 동일)을 외부 API 1회 호출로 합칠지 설정
+     * @param enabled 사용 여부
      */
-    private static String getRefreshTokenFromCookie(String systemCode) {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                
-                // system_code에 따른 쿠키 이름 결정
-                String cookieName;
-                if ("WAI_WEB_ADMIN".equals(systemCode)) {
-                    cookieName = "admin_refresh";
-                } else {
-                    cookieName = "webView_refresh";
-                }
-                
-                Cookie[] cookies = request.getCookies();
-                if (cookies != null) {
-                    for (Cookie cookie : cookies) {
-                        if (cookieName.equals(cookie.getName())) {
-                            logger.debug("쿠키에서 리프레시 토큰 자동 추출 (system_code: {}): {}", systemCode, cookie.getValue());
-                            return cookie.getValue();
-                        }
-                    }
+    public static void setCoalesceReads(boolean enabled) {
+        coalesceReads = enabled;
+    }
+
+    /**
+     * 공유 비동기 HttpClient 반환 - 등록되지 않은 경우 기본 클라이언트를 생성하여 시작
+     */
+    static CloseableHttpAsyncClient getHttpAsyncClient() {
+        CloseableHttpAsyncClient client = httpAsyncClient;
+        if (client == null) {
+            CLIENT_INIT_LOCK.lock();
+            try {
+                client = httpAsyncClient;
+                if (client == null) {
+                    client = HttpAsyncClients.createDefault();
+                    client.start();
+                    httpAsyncClient = client;
+                    logger.info("공유 비동기 HttpClient 미등록 상태 - 기본 클라이언트 생성");
                 }
+            } finally {
+                CLIENT_INIT_LOCK.unlock();
             }
-        } catch (Exception e) {
-            logger.warn("쿠키에서 리프레시 토큰 자동 추출 실패: {}", e.getMessage());
         }
-        return null;
+        return client;
     }
-    
+
     /**
-     * 쿠키에서 세션 토큰을 자동으로 추출하는 메서드 (system_code 기반)
-     * @param systemCode
+     * 공유 HttpClient 반환 - 스프링 컨텍스트 밖에서 호출된 경우 기본 풀 클라이언트를 생성
      */
-    private static String getSessionTokenFromCookie(String systemCode) {
-        try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes != null) {
-                HttpServletRequest request = attributes.getRequest();
-                
-                // system_code에 따른 쿠키 이름 결정
-                String cookieName;
-                if ("WAI_WEB_ADMIN".equals(systemCode)) {
-                    cookieName = "admin_session";
-                } else {
-                    cookieName = "webView_session";
-                }
-                
-                Cookie[] cookies = request.getCookies();
-                if (cookies != null) {
-                    for (Cookie cookie : cookies) {
-                        if (cookieName.equals(cookie.getName())) {
-                            logger.debug("쿠키에서 세션 토큰 자동 추출 (system_code: {}): {}", systemCode, cookie.getValue());
-                            return cookie.getValue();
-                        }
-                    }
+    static CloseableHttpClient getHttpClient() {
+        CloseableHttpClient client = httpClient;
+        if (client == null) {
+            CLIENT_INIT_LOCK.lock();
+            try {
+                client = httpClient;
+                if (client == null) {
+                    client = HttpClients.custom()
+                            .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create().build())
+                            .evictExpiredConnections()
+                            .disableAutomaticRetries()
+                            .build();
+                    httpClient = client;
+                    logger.info("공유 HttpClient 미등록 상태 - 기본 커넥션 풀 클라이언트 생성");
                 }
+            } finally {
+                CLIENT_INIT_LOCK.unlock();
             }
-        } catch (Exception e) {
-            logger.warn("쿠키에서 세션 토큰 자동 추출 실패: {}", e.getMessage());
         }
-        return null;
+        return client;
     }
     
     /**
@@ -186,7 +171,7 @@ public class HttpUtil {
      * @return HTTP 응답 결과
      */
     public static HttpResult patchMultipart(String url, Map<String, Object> formData) {
-        return executePatchMultipartRequest(url, formData);
+        return executeMultipartRequest(url, "PATCH", formData);
     }
     
     /**
@@ -197,7 +182,18 @@ public class HttpUtil {
      * @return HTTP 응답 결과
      */
     public static HttpResult get(String url, String contentType, String requestBody) {
-        return executeRequest(url, "GET", contentType, requestBody);
+        if (!coalesceReads) {
+            return executeRequest(url, "GET", contentType, requestBody);
+        }
+
+        // 동일 인증 범위의 동일 GET 요청이 진행 중이면 그 결과를 공유 (Set-Cookie는 호출자별 응답에 각각 반영)
+        AuthContext authContext = AuthContext.current();
+        String flightKey = "GET " + url + '\n' + contentType + '\n' + requestBody
+                + '\n' + authContext.getSystemCode() + '\n' + authContext.getCookieHeader();
+        Exchange exchange = READ_FLIGHTS.execute(flightKey,
+                () -> executeExchange(url, "GET", contentType, requestBody, authContext));
+        applySetCookies(exchange, authContext);
+        return exchange.result;
     }
     
     /**
@@ -232,6 +228,190 @@ public class HttpUtil {
     public static HttpResult delete(String url, String contentType, String requestBody) {
         return executeRequest(url, "DELETE", contentType, requestBody);
     }
+
+    /**
+     * 비동기 HTTP POST 요청 수행 (자동 토큰 추출)
+     * - 쿠키/system_code는 호출 스레드에서 미리 추출하므로 요청 스레드에서 호출해야 함
+     * @param url 요청 URL
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @return HTTP 응답 결과 Future
+     */
+    public static CompletableFuture<HttpResult> postAsync(String url, String contentType, String requestBody) {
+        return executeRequestAsync(url, "POST", contentType, requestBody);
+    }
+
+    /**
+     * 비동기 HTTP GET 요청 수행 (자동 토큰 추출)
+     * @param url 요청 URL
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @return HTTP 응답 결과 Future
+     */
+    public static CompletableFuture<HttpResult> getAsync(String url, String contentType, String requestBody) {
+        return executeRequestAsync(url, "GET", contentType, requestBody);
+    }
+
+    /**
+     * 비동기 HTTP PUT 요청 수행 (자동 토큰 추출)
+     * @param url 요청 URL
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @return HTTP 응답 결과 Future
+     */
+    public static CompletableFuture<HttpResult> putAsync(String url, String contentType, String requestBody) {
+        return executeRequestAsync(url, "PUT", contentType, requestBody);
+    }
+
+    /**
+     * 비동기 HTTP PATCH 요청 수행 (자동 토큰 추출)
+     * @param url 요청 URL
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @return HTTP 응답 결과 Future
+     */
+    public static CompletableFuture<HttpResult> patchAsync(String url, String contentType, String requestBody) {
+        return executeRequestAsync(url, "PATCH", contentType, requestBody);
+    }
+
+    /**
+     * 비동기 HTTP DELETE 요청 수행 (자동 토큰 추출)
+     * @param url 요청 URL
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @return HTTP 응답 결과 Future
+     */
+    public static CompletableFuture<HttpResult> deleteAsync(String url, String contentType, String requestBody) {
+        return executeRequestAsync(url, "DELETE", contentType, requestBody);
+    }
+
+    /**
+     * 비동기 HTTP 요청 실행 - Apache HttpAsyncClient 기반
+     * - 인증 정보(AuthContext)는 호출 스레드에서 캡처하여 I/O 스레드로 전달
+     * - 외부 API Set-Cookie는 AuthContext에 보관되므로 결과를 기다린 요청 스레드에서 forwardDeferredCookies() 호출
+     * - 실패 시 동기 방식과 동일하게 HttpResult(-1, null, message)로 완료됨 (예외로 완료되지 않음)
+     * - 호출 스레드를 막지 않음: 서킷 OPEN/동시 호출 한도 초과 시 슬롯을 기다리지 않고 거부 결과로 즉시 완료
+     */
+    private static CompletableFuture<HttpResult> executeRequestAsync(String url, String method, String contentType, String requestBody) {
+        AuthContext authContext = AuthContext.current();
+        String cookieHeader = authContext.getCookieHeader();
+
+        SimpleRequestBuilder builder;
+        switch (method.toUpperCase()) {
+            case "GET":
+                builder = SimpleRequestBuilder.get(url);
+                break;
+            case "POST":
+                builder = SimpleRequestBuilder.post(url);
+                break;
+            case "PUT":
+                builder = SimpleRequestBuilder.put(url);
+                break;
+            case "PATCH":
+                builder = SimpleRequestBuilder.patch(url);
+                break;
+            case "DELETE":
+                builder = SimpleRequestBuilder.delete(url);
+                break;
+            default:
+                return CompletableFuture.completedFuture(new HttpResult(-1, null, "Unsupported HTTP method: " + method));
+        }
+
+        builder.setHeader("Accept", "application/json");
+        if (contentType != null && !contentType.isEmpty()) {
+            builder.setHeader("Content-Type", contentType);
+        }
+        if (cookieHeader.length() > 0) {
+            builder.setHeader("Cookie", cookieHeader);
+        }
+        if (requestBody != null && !requestBody.isEmpty() && !"GET".equals(method) && !"DELETE".equals(method)) {
+            builder.setBody(requestBody, ContentType.APPLICATION_JSON);
+        }
+        SimpleHttpRequest request = builder.build();
+
+        CompletableFuture<HttpResult> result = new CompletableFuture<>();
+        sendAsync(request, method, url, authContext, RetryPolicy.begin(method), 1, result);
+        return result;
+    }
+
+    /**
+     * 비동기 요청 전송 및 재시도 처리 - 재시도는 스레드를 점유하지 않도록 RetryPolicy 타이머에서 예약 실행
+     */
+    private static void sendAsync(SimpleHttpRequest request, String method, String url, AuthContext authContext,
+            RetryPolicy.Budget retryBudget, int attempt,
+            CompletableFuture<HttpResult> result) {
+        logger.debug("Apache HttpAsyncClient HTTP 요청 시작 (시도 {}): {} {}", attempt, method, url);
+
+        // 호출 스레드/재시도 타이머 스레드를 막지 않도록 동시 호출 한도 초과 시 대기 없이 즉시 실패
+        UpstreamGuard.Permit permit = UpstreamGuard.tryAcquireNow(url);
+        if (!permit.isAllowed()) {
+            result.complete(new HttpResult(-1, null, permit.getRejectReason()));
+            return;
+        }
+
+        getHttpAsyncClient().execute(SimpleRequestProducer.create(request), SimpleResponseConsumer.create(), new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                int status = response.getCode();
+                permit.release(!UpstreamGuard.isFailureStatus(status));
+
+                long retryDelay = retryBudget.nextDelay(status, getHeaderValue(response, "Retry-After"));
+                if (retryDelay >= 0) {
+                    logger.warn("비동기 HTTP 응답 {} (시도 {}), {}ms 후 재시도: {} {}", status, attempt, retryDelay, method, url);
+                    RetryPolicy.delayedExecutor(retryDelay).execute(
+                            () -> sendAsync(request, method, url, authContext, retryBudget, attempt + 1, result));
+                    return;
+                }
+                try {
+                    byte[] bodyBytes = response.getBodyBytes();
+                    String responseBody = bodyBytes != null ? new String(bodyBytes, StandardCharsets.UTF_8) : "";
+
+                    Header[] setCookieHeaders = response.getHeaders("Set-Cookie");
+                    if (setCookieHeaders != null) {
+                        // I/O 스레드에서는 요청 응답에 직접 쓰지 않고 보관 (결과를 기다린 요청 스레드에서 forwardDeferredCookies()로 전달)
+                        for (Header header : setCookieHeaders) {
+                            authContext.deferSetCookie(header.getValue());
+                        }
+                    }
+
+                    logger.info("HTTP 응답 코드 (비동기): {} {} -> {}", method, url, status);
+                    HttpBodyLogger.logResponse(logger, url, status, responseBody);
+                    result.complete(new HttpResult(status, responseBody, null));
+                } catch (Exception e) {
+                    logger.error("비동기 응답 처리 중 오류 발생: {}", e.getMessage(), e);
+                    result.complete(new HttpResult(-1, null, e.getMessage()));
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                permit.release(false);
+                long retryDelay = retryBudget.nextDelay(e);
+                if (retryDelay >= 0) {
+                    logger.warn("비동기 HTTP 요청 실패(시도 {}), {}ms 후 재시도: {} - {}", attempt, retryDelay, e.getClass().getSimpleName(), e.getMessage());
+                    RetryPolicy.delayedExecutor(retryDelay).execute(
+                            () -> sendAsync(request, method, url, authContext, retryBudget, attempt + 1, result));
+                    return;
+                }
+                logger.error("Apache HttpAsyncClient 요청 중 오류 발생 (최종 실패, 시도 {}): {}", attempt, e.getMessage(), e);
+                result.complete(new HttpResult(-1, null, e.getMessage()));
+            }
+
+            @Override
+            public void cancelled() {
+                permit.release(true);
+                result.complete(new HttpResult(-1, null, "요청이 취소되었습니다."));
+            }
+        });
+    }
+
+    /**
+     * 현재 요청 스레드의 서블릿 응답 반환 (요청 컨텍스트가 없으면 null)
+     */
+    private static HttpServletResponse getCurrentServletResponse() {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        return attributes != null ? attributes.getResponse() : null;
+    }
     
     /**
      * HTTP 요청 실행 - Apache HttpClient 기반
@@ -242,86 +422,71 @@ public class HttpUtil {
      * @return HTTP 응답 결과
      */
     private static HttpResult executeRequest(String url, String method, String contentType, String requestBody) {
-        int attempt = 0;
-        while (true) {
-            attempt++;
-            try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-                logger.debug("Apache HttpClient HTTP 요청 시작 (시도 {}): {} {}", attempt, method, url);
-
-                // HTTP 메서드에 따른 요청 객체 생성
-                ClassicHttpRequest request;
-                switch (method.toUpperCase()) {
-                    case "GET":
-                        request = new HttpGet(url);
-                        break;
-                    case "POST":
-                        request = new HttpPost(url);
-                        break;
-                    case "PUT":
-                        request = new HttpPut(url);
-                        break;
-                    case "PATCH":
-                        request = new HttpPatch(url);
-                        break;
-                    case "DELETE":
-                        request = new HttpDelete(url);
-                        break;
-                    default:
-                        throw new IllegalArgumentException("Unsupported HTTP method: " + method);
-                }
+        AuthContext authContext = AuthContext.current();
+        Exchange exchange = executeExchange(url, method, contentType, requestBody, authContext);
+        applySetCookies(exchange, authContext);
+        return exchange.result;
+    }
 
-                // 헤더 설정
-                request.setHeader("Accept", "application/json");
-                if (contentType != null && !contentType.isEmpty()) {
-                    request.setHeader("Content-Type", contentType);
-                }
+    /**
+     * 외부 API Set-Cookie를 현재 요청의 응답으로 전달
+     */
+    private static void applySetCookies(Exchange exchange, AuthContext authContext) {
+        if (exchange.setCookieHeaders.length > 0 && authContext.getSystemCode() != null) {
+            processCookiesFromExternalApi(exchange.setCookieHeaders, authContext.getSystemCode());
+        }
+    }
 
-                // 헤더에서 system_code 확인하여 쿠키 이름 결정
-                String systemCode = getSystemCodeFromHeader();
-
-                // Cookie 헤더 자동 설정 (system_code 기반 쿠키에서 토큰 추출)
-                String accessToken = "";
-                String refreshToken = "";
-                String sessionToken = "";
-                if (systemCode != null) {
-                    accessToken = getAccessTokenFromCookie(systemCode);
-                    refreshToken = getRefreshTokenFromCookie(systemCode);
-                    sessionToken = getSessionTokenFromCookie(systemCode);
+    /**
+     * HTTP 요청 실행 (재시도 포함) - 응답 결과와 Set-Cookie 헤더를 함께 반환
+     * @param authContext 요청 단위 인증 정보 (system_code, Cookie 헤더)
+     */
+    private static Exchange executeExchange(String url, String method, String contentType, String requestBody,
+            AuthContext authContext) {
+        // GET 응답 캐시: 신선한 항목은 외부 API 호출 없이 반환, 신선도가 지난 항목은 조건부 요청으로 재검증
+        String cacheKey = null;
+        UpstreamResponseCache.Entry cached = null;
+        if ("GET".equals(method) && UpstreamResponseCache.isEnabled()) {
+            cacheKey = UpstreamResponseCache.key(url, contentType, requestBody, authContext);
+            cached = UpstreamResponseCache.lookup(cacheKey);
+            if (cached != null && cached.isFresh()) {
+                String cachedBody = cached.readBody();
+                if (cachedBody != null) {
+                    logger.debug("외부 API 응답 캐시 적중: {}", url);
+                    return new Exchange(new HttpResult(200, cachedBody, null), null);
                 }
+                UpstreamResponseCache.invalidate(cacheKey);
+                cached = null;
+            }
+        }
 
-                StringBuilder cookieBuilder = new StringBuilder();
-                if (accessToken != null && !accessToken.isEmpty()) {
-                    cookieBuilder.append("wai_access=").append(accessToken);
-                }
-                if (refreshToken != null && !refreshToken.isEmpty()) {
-                    if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
-                    cookieBuilder.append("wai_refresh=").append(refreshToken);
-                }
-                if (sessionToken != null && !sessionToken.isEmpty()) {
-                    if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
-                    cookieBuilder.append("wai_session=").append(sessionToken);
-                }
+        RetryPolicy.Budget retryBudget = RetryPolicy.begin(method);
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            long retryDelay;
+            try {
+                logger.debug("Apache HttpClient HTTP 요청 시작 (시도 {}): {} {}", attempt, method, url);
 
-                if (cookieBuilder.length() > 0) {
-                    request.setHeader("Cookie", cookieBuilder.toString());
-                    logger.debug("Cookie 헤더 자동 설정: {}", cookieBuilder.toString());
+                ClassicHttpRequest request = buildRequest(url, method, contentType, requestBody, authContext);
+                if (cached != null) {
+                    if (cached.getEtag() != null) {
+                        request.setHeader("If-None-Match", cached.getEtag());
+                    }
+                    if (cached.getLastModified() != null) {
+                        request.setHeader("If-Modified-Since", cached.getLastModified());
+                    }
                 }
 
-                // 요청 본문 설정
-                if (requestBody != null && !requestBody.isEmpty() && !"GET".equals(method) && !"DELETE".equals(method)) {
-                    StringEntity entity = new StringEntity(requestBody, ContentType.APPLICATION_JSON);
-                    if (request instanceof HttpPost) {
-                        ((HttpPost) request).setEntity(entity);
-                    } else if (request instanceof HttpPut) {
-                        ((HttpPut) request).setEntity(entity);
-                    } else if (request instanceof HttpPatch) {
-                        ((HttpPatch) request).setEntity(entity);
-                    }
-                    logger.debug("요청 본문: {}", requestBody);
+                // 라우트별 서킷 브레이커/동시 호출 제한 확인 (차단 시 재시도 없이 즉시 실패)
+                UpstreamGuard.Permit permit = UpstreamGuard.tryAcquire(url);
+                if (!permit.isAllowed()) {
+                    return new Exchange(new HttpResult(-1, null, permit.getRejectReason()), null);
                 }
 
                 // 요청 실행
-                try (ClassicHttpResponse response = httpClient.execute(request)) {
+                boolean succeeded = false;
+                try (ClassicHttpResponse response = getHttpClient().executeOpen(null, request, null)) {
                     int status = response.getCode();
                     String responseBody = "";
 
@@ -330,79 +495,436 @@ public class HttpUtil {
                         responseBody = EntityUtils.toString(response.getEntity(), "UTF-8");
                     }
 
-                    // 외부 API의 Set-Cookie를 파싱하고 system_code에 맞게 변환하여 브라우저로 전달
-                    org.apache.hc.core5.http.Header[] setCookieHeaders = response.getHeaders("Set-Cookie");
-                    if (setCookieHeaders != null && setCookieHeaders.length > 0 && systemCode != null) {
-                        processCookiesFromExternalApi(setCookieHeaders, systemCode);
+                    if (status == 304 && cached != null) {
+                        // 변경 없음 - 저장된 본문 사용
+                        String cachedBody = cached.readBody();
+                        if (cachedBody != null) {
+                            UpstreamResponseCache.revalidated(cached, url, response);
+                            logger.debug("외부 API 응답 캐시 재검증 완료(변경 없음): {}", url);
+                            status = 200;
+                            responseBody = cachedBody;
+                        } else {
+                            // 저장된 본문 파일이 없으면(디스크 정리 등) 304를 호출자에게 넘기지 않고 조건부 헤더 없이 다시 요청
+                            UpstreamResponseCache.invalidate(cacheKey);
+                            cached = null;
+                            succeeded = true;
+                            logger.debug("외부 API 응답 캐시 본문 없음, 조건부 헤더 없이 다시 요청: {}", url);
+                            continue;
+                        }
+                    } else if (status == 200 && cacheKey != null) {
+                        UpstreamResponseCache.store(cacheKey, url, response, responseBody);
                     }
 
                     logger.info("HTTP 응답 코드: {}", status);
-                    logger.info("HTTP 응답: {}", responseBody);
+                    HttpBodyLogger.logResponse(logger, url, status, responseBody);
 
-                    return new HttpResult(status, responseBody, null);
+                    succeeded = !UpstreamGuard.isFailureStatus(status);
+                    retryDelay = retryBudget.nextDelay(status, getHeaderValue(response, "Retry-After"));
+                    if (retryDelay < 0) {
+                        // 외부 API의 Set-Cookie는 호출자가 system_code에 맞게 변환하여 브라우저로 전달
+                        return new Exchange(new HttpResult(status, responseBody, null), response.getHeaders("Set-Cookie"));
+                    }
+                    logger.warn("HTTP 응답 {} (시도 {}), {}ms 후 재시도: {} {}", status, attempt, retryDelay, method, url);
+                } finally {
+                    permit.release(succeeded);
                 }
 
             } catch (Exception e) {
-                boolean retryable = isRetryableNetworkException(e);
-                if (retryable && attempt <= MAX_RETRY_COUNT + 1) {
-                    if (attempt <= MAX_RETRY_COUNT + 0) { // 남은 재시도가 있을 때만 로그 및 대기
-                        logger.warn("HTTP 요청 실패(시도 {}), 재시도 예정: {} - {}", attempt, e.getClass().getSimpleName(), e.getMessage());
-                    }
-                    if (attempt <= MAX_RETRY_COUNT) {
-                        try {
-                            Thread.sleep(RETRY_DELAY_MILLIS);
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                            logger.error("재시도 대기 중 인터럽트 발생", ie);
-                            return new HttpResult(-1, null, e.getMessage());
-                        }
-                        continue;
-                    }
+                retryDelay = retryBudget.nextDelay(e);
+                if (retryDelay < 0) {
+                    logger.error("Apache HttpClient 요청 중 오류 발생 (최종 실패, 시도 {}): {}", attempt, e.getMessage(), e);
+                    return new Exchange(new HttpResult(-1, null, e.getMessage()), null);
                 }
+                logger.warn("HTTP 요청 실패(시도 {}), {}ms 후 재시도: {} - {}", attempt, retryDelay, e.getClass().getSimpleName(), e.getMessage());
+            }
 
-                logger.error("Apache HttpClient 요청 중 오류 발생 (최종 실패, 시도 {}): {}", attempt, e.getMessage(), e);
-                return new HttpResult(-1, null, e.getMessage());
+            if (!waitForRetry(retryDelay)) {
+                return new Exchange(new HttpResult(-1, null, "재시도 대기 중 인터럽트가 발생했습니다."), null);
             }
         }
     }
 
     /**
-     * 재시도 대상 네트워크 예외인지 여부 판단
+     * 동기 재시도 대기 (동기 API이므로 호출 스레드가 대기, 가상 스레드 모드에서는 carrier 스레드를 점유하지 않음)
+     * @return 인터럽트된 경우 false
      */
-    private static boolean isRetryableNetworkException(Throwable e) {
-        Throwable cause = e;
-        while (cause != null) {
-            if (cause instanceof ConnectException ||
-                cause instanceof SocketTimeoutException ||
-                cause instanceof ConnectTimeoutException) {
-                return true;
+    private static boolean waitForRetry(long delayMillis) {
+        if (delayMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.error("재시도 대기 중 인터럽트 발생", ie);
+            return false;
+        }
+    }
+
+    private static String getHeaderValue(HttpMessage message, String name) {
+        Header header = message.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    /**
+     * 외부 API JSON 응답을 파싱 없이 표준 응답 형태로 감싸 서블릿 응답에 바로 스트리밍 (pass-through 모드)
+     * - 성공(2xx, JSON): {"success":true,"status":...,"message":...,"response":<외부 API 본문 그대로>} 를 200으로 전송
+     * - 실패/비JSON 응답: 기존 서비스와 동일하게 본문을 파싱하여 {"success":false,...} 를 400으로 전송
+     * @param url 요청 URL
+     * @param method HTTP 메서드
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @param successMessage 성공 시 message 값
+     * @param failMessage 실패 시 기본 message 값 (외부 API 에러 메시지가 없을 때)
+     * @param servletResponse 결과를 기록할 서블릿 응답
+     */
+    public static void passThrough(String url, String method, String contentType, String requestBody,
+            String successMessage, String failMessage, HttpServletResponse servletResponse) throws IOException {
+        AuthContext authContext = AuthContext.current();
+        String systemCode = authContext.getSystemCode();
+        ClassicHttpRequest request = buildRequest(url, method, contentType, requestBody, authContext);
+
+        OpenResponse response;
+        try {
+            response = executeOpenWithRetry(request, method, url);
+        } catch (Exception e) {
+            logger.error("pass-through 요청 중 오류 발생 (최종 실패): {}", e.getMessage(), e);
+            writeEnvelope(servletResponse, new HttpResult(-1, null, e.getMessage()), failMessage);
+            return;
+        }
+
+        try (OpenResponse opened = response) {
+            ClassicHttpResponse upstream = opened.response;
+            int status = upstream.getCode();
+
+            Header[] setCookieHeaders = upstream.getHeaders("Set-Cookie");
+            if (setCookieHeaders != null && setCookieHeaders.length > 0 && systemCode != null) {
+                processCookiesFromExternalApi(setCookieHeaders, systemCode);
             }
-            cause = cause.getCause();
+            logger.info("HTTP 응답 코드 (pass-through): {}", status);
+
+            HttpEntity entity = upstream.getEntity();
+            boolean isJson = entity != null && entity.getContentType() != null
+                    && entity.getContentType().toLowerCase().contains("json");
+            if (status < 200 || status >= 300 || !isJson) {
+                // 에러/비JSON 응답은 크기가 작으므로 기존 방식대로 본문을 읽어 처리
+                String responseBody = entity != null ? new String(EntityUtils.toByteArray(entity), StandardCharsets.UTF_8) : "";
+                writeEnvelope(servletResponse, new HttpResult(status, responseBody, null), status >= 200 && status < 300 ? successMessage : failMessage);
+                return;
+            }
+
+            servletResponse.setStatus(200);
+            servletResponse.setContentType("application/json;charset=UTF-8");
+            OutputStream out = servletResponse.getOutputStream();
+            out.write(("{\"success\":true,\"status\":" + status
+                    + ",\"message\":" + JsonUtil.stringToJson(successMessage)
+                    + ",\"response\":").getBytes(StandardCharsets.UTF_8));
+
+            // 외부 API 본문을 그대로 복사 (본문이 비어 있으면 null)
+            try (InputStream in = entity.getContent()) {
+                if (in.transferTo(out) == 0) {
+                    out.write("null".getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            out.write('}');
+            out.flush();
         }
-        return false;
     }
+
+    /**
+     * 응답 본문을 읽지 않은 상태로 요청 실행 (네트워크 오류 시 재시도)
+     * - 호출자가 반환된 응답을 close 해야 함 (본문 스트리밍이 끝날 때까지 동시 호출 제한 슬롯을 유지하고 close 시 반환)
+     */
+    private static OpenResponse executeOpenWithRetry(ClassicHttpRequest request, String method, String url) throws Exception {
+        RetryPolicy.Budget retryBudget = RetryPolicy.begin(method);
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            UpstreamGuard.Permit permit = UpstreamGuard.tryAcquire(url);
+            if (!permit.isAllowed()) {
+                throw new IOException(permit.getRejectReason());
+            }
+            long retryDelay;
+            try {
+                logger.debug("Apache HttpClient 스트리밍 요청 시작 (시도 {}): {} {}", attempt, method, url);
+                ClassicHttpResponse response = getHttpClient().executeOpen(null, request, null);
+                // 성공/실패 기록은 응답 상태 코드 기준 (본문 스트리밍은 호출자가 처리)
+                boolean succeeded = !UpstreamGuard.isFailureStatus(response.getCode());
+
+                retryDelay = retryBudget.nextDelay(response.getCode(), getHeaderValue(response, "Retry-After"));
+                if (retryDelay < 0) {
+                    return new OpenResponse(response, permit, succeeded);
+                }
+                logger.warn("스트리밍 응답 {} (시도 {}), {}ms 후 재시도: {} {}", response.getCode(), attempt, retryDelay, method, url);
+                response.close();
+                permit.release(succeeded);
+            } catch (Exception e) {
+                permit.release(false);
+                retryDelay = retryBudget.nextDelay(e);
+                if (retryDelay < 0) {
+                    throw e;
+                }
+                logger.warn("스트리밍 요청 실패(시도 {}), {}ms 후 재시도: {} - {}", attempt, retryDelay, e.getClass().getSimpleName(), e.getMessage());
+            }
+            if (!waitForRetry(retryDelay)) {
+                throw new InterruptedIOException("재시도 대기 중 인터럽트가 발생했습니다.");
+            }
+        }
+    }
+
+    /**
+     * 본문을 읽지 않은 외부 API 응답 - close 시 연결을 닫은 후 동시 호출 제한 슬롯 반환
+     */
+    private static final class OpenResponse implements AutoCloseable {
+        private final ClassicHttpResponse response;
+        private final UpstreamGuard.Permit permit;
+        private final boolean succeeded;
+
+        private OpenResponse(ClassicHttpResponse response, UpstreamGuard.Permit permit, boolean succeeded) {
+            this.response = response;
+            this.permit = permit;
+            this.succeeded = succeeded;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                response.close();
+            } finally {
+                permit.release(succeeded);
+            }
+        }
+    }
+
+    /**
+     * 외부 API 파일(바이너리) 응답을 메모리에 올리지 않고 서블릿 응답으로 그대로 스트리밍
+     * - 클라이언트의 Range/If-Range/If-None-Match/If-Modified-Since 헤더를 외부 API로 전달 (이어받기, 부분 다운로드)
+     * - 상태 코드(200/206/304/416)와 Content-Type, Content-Length, Content-Range, Content-Disposition 등 헤더 전달
+     * - 외부 API가 실패하거나 JSON을 반환하면 기존과 동일한 표준 응답 형태({success,status,message,response})로 기록
+     * @param url 요청 URL
+     * @param successMessage 외부 API가 파일 대신 JSON(2xx)을 반환한 경우 message 값
+     * @param failMessage 실패 시 기본 message 값 (외부 API 에러 메시지가 없을 때)
+     * @param clientRequest 클라이언트 요청 (Range 등 헤더 전달용)
+     * @param servletResponse 파일을 기록할 서블릿 응답
+     */
+    public static void streamDownload(String url, String successMessage, String failMessage, HttpServletRequest clientRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        AuthContext authContext = AuthContext.current();
+        String systemCode = authContext.getSystemCode();
+        ClassicHttpRequest request = buildRequest(url, "GET", null, null, authContext);
+        request.setHeader("Accept", "*/*");
+        // 압축 해제로 Content-Length/Content-Range가 달라지지 않도록 원본 그대로 요청
+        request.setHeader("Accept-Encoding", "identity");
+        for (String headerName : DOWNLOAD_REQUEST_HEADERS) {
+            String value = clientRequest != null ? clientRequest.getHeader(headerName) : null;
+            if (value != null && !value.isEmpty()) {
+                request.setHeader(headerName, value);
+            }
+        }
+
+        OpenResponse response;
+        try {
+            response = executeOpenWithRetry(request, "GET", url);
+        } catch (Exception e) {
+            logger.error("파일 스트리밍 요청 중 오류 발생 (최종 실패): {}", e.getMessage(), e);
+            writeEnvelope(servletResponse, new HttpResult(-1, null, e.getMessage()), failMessage);
+            return;
+        }
+
+        try (OpenResponse opened = response) {
+            ClassicHttpResponse upstream = opened.response;
+            int status = upstream.getCode();
+
+            Header[] setCookieHeaders = upstream.getHeaders("Set-Cookie");
+            if (setCookieHeaders != null && setCookieHeaders.length > 0 && systemCode != null) {
+                processCookiesFromExternalApi(setCookieHeaders, systemCode, servletResponse);
+            }
+            logger.info("HTTP 응답 코드 (파일 스트리밍): {} {}", status, url);
+
+            HttpEntity entity = upstream.getEntity();
+            boolean isJson = entity != null && entity.getContentType() != null
+                    && entity.getContentType().toLowerCase().contains("json");
+            boolean streamable = (status >= 200 && status < 300) || status == 304 || status == 416;
+            if (!streamable || isJson) {
+                // 에러/JSON 응답은 크기가 작으므로 본문을 읽어 표준 응답 형태로 처리
+                String responseBody = entity != null ? new String(EntityUtils.toByteArray(entity), StandardCharsets.UTF_8) : "";
+                writeEnvelope(servletResponse, new HttpResult(status, responseBody, null), status >= 200 && status < 300 ? successMessage : failMessage);
+                return;
+            }
+
+            servletResponse.setStatus(status);
+            for (String headerName : DOWNLOAD_RESPONSE_HEADERS) {
+                Header header = upstream.getFirstHeader(headerName);
+                if (header != null) {
+                    servletResponse.setHeader(headerName, header.getValue());
+                }
+            }
+            if (entity == null) {
+                return;
+            }
+            if (entity.getContentType() != null) {
+                servletResponse.setContentType(entity.getContentType());
+            }
+            if (entity.getContentLength() >= 0) {
+                servletResponse.setContentLengthLong(entity.getContentLength());
+            }
+
+            // 고정 크기 버퍼로 복사 (파일 전체를 메모리에 올리지 않음)
+            long copied = 0;
+            try (InputStream in = entity.getContent()) {
+                OutputStream out = servletResponse.getOutputStream();
+                byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    out.write(buffer, 0, read);
+                    copied += read;
+                }
+                out.flush();
+            } catch (IOException e) {
+                // 클라이언트 연결 종료(다운로드 취소 등) 시 외부 연결도 닫고 종료
+                logger.debug("파일 스트리밍 중단: {} ({} bytes 전송) - {}", url, copied, e.getMessage());
+                return;
+            }
+            logger.debug("파일 스트리밍 완료: {} ({} bytes)", url, copied);
+        }
+    }
+
+    /**
+     * 버퍼링된 HttpResult를 표준 응답 형태({success,status,message,response})로 기록 (pass-through 폴백)
+     */
+    private static void writeEnvelope(HttpServletResponse servletResponse, HttpResult httpResult, String message) throws IOException {
+        Map<String, Object> result = new java.util.LinkedHashMap<>();
+        result.put("success", httpResult.isSuccess());
+        result.put("status", httpResult.getStatus());
+        String errorMessage = httpResult.isSuccess() ? null : httpResult.getExtractedErrorMessage();
+        result.put("message", errorMessage != null && !errorMessage.isEmpty() ? errorMessage : message);
+        Object parsedResponse = JsonUtil.parseJson(httpResult.getBody());
+        if (parsedResponse == null) {
+            parsedResponse = JsonUtil.parseJsonToList(httpResult.getBody());
+        }
+        result.put("response", parsedResponse);
+
+        servletResponse.setStatus(httpResult.isSuccess() ? 200 : 400);
+        servletResponse.setContentType("application/json;charset=UTF-8");
+        servletResponse.getOutputStream().write(JsonUtil.objectMapToJson(result).getBytes(StandardCharsets.UTF_8));
+        servletResponse.getOutputStream().flush();
+    }
+
+    /**
+     * 동기 요청 객체 생성 - 메서드, Accept/Content-Type, system_code 기반 Cookie 헤더, JSON 본문 설정
+     * @param url 요청 URL
+     * @param method HTTP 메서드
+     * @param contentType Content-Type 헤더
+     * @param requestBody 요청 본문
+     * @param authContext 요청 단위 인증 정보 (Cookie 헤더)
+     * @return 요청 객체
+     */
+    private static ClassicHttpRequest buildRequest(String url, String method, String contentType, String requestBody, AuthContext authContext) {
+        // HTTP 메서드에 따른 요청 객체 생성
+        ClassicHttpRequest request;
+        switch (method.toUpperCase()) {
+            case "GET":
+                request = new HttpGet(url);
+                break;
+            case "POST":
+                request = new HttpPost(url);
+                break;
+            case "PUT":
+                request = new HttpPut(url);
+                break;
+            case "PATCH":
+                request = new HttpPatch(url);
+                break;
+            case "DELETE":
+                request = new HttpDelete(url);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+        }
+
+        // 헤더 설정
+        request.setHeader("Accept", "application/json");
+        if (contentType != null && !contentType.isEmpty()) {
+            request.setHeader("Content-Type", contentType);
+        }
+
+        // Cookie 헤더 자동 설정 (요청 단위 인증 정보에서 미리 구성된 값 사용)
+        String cookieHeader = authContext.getCookieHeader();
+        if (cookieHeader.length() > 0) {
+            request.setHeader("Cookie", cookieHeader);
+            logger.debug("Cookie 헤더 자동 설정: {}", cookieHeader);
+        }
+
+        // 요청 본문 설정
+        if (requestBody != null && !requestBody.isEmpty() && !"GET".equals(method) && !"DELETE".equals(method)) {
+            request.setEntity(new StringEntity(requestBody, ContentType.APPLICATION_JSON));
+            HttpBodyLogger.logRequest(logger, url, requestBody);
+        }
+        return request;
+    }
+
     
     /**
      * 외부 API의 Set-Cookie 헤더를 파싱하고 system_code에 맞게 변환하여 브라우저로 전달
      * @param setCookieHeaders Set-Cookie 헤더 배열
      * @param systemCode 시스템 코드
      */
-    private static void processCookiesFromExternalApi(org.apache.hc.core5.http.Header[] setCookieHeaders, String systemCode) {
+    private static void processCookiesFromExternalApi(Header[] setCookieHeaders, String systemCode) {
+        HttpServletResponse servletResponse = getCurrentServletResponse();
+        if (servletResponse == null) {
+            // 요청 스레드 밖(병렬 호출 작업): 요청 스레드에서 forwardDeferredCookies()로 전달하도록 보관
+            AuthContext authContext = AuthContext.current();
+            for (Header header : setCookieHeaders) {
+                authContext.deferSetCookie(header.getValue());
+            }
+            return;
+        }
+        processCookiesFromExternalApi(setCookieHeaders, systemCode, servletResponse);
+    }
+
+    /**
+     * 병렬 호출 작업(upstreamExecutor 등)에서 받은 외부 API Set-Cookie를 현재 요청의 응답으로 전달
+     * - 병렬 호출 결과를 기다린 요청 스레드에서 응답 본문을 쓰기 전에 호출
+     * - 요청 스레드가 아니면(요청 컨텍스트 없음) 보관된 값을 그대로 두고 아무 것도 하지 않음
+     */
+    public static void forwardDeferredCookies() {
+        HttpServletResponse servletResponse = getCurrentServletResponse();
+        if (servletResponse == null) {
+            return;
+        }
+        AuthContext authContext = AuthContext.current();
+        java.util.List<String> setCookieValues = authContext.drainDeferredSetCookies();
+        if (setCookieValues.isEmpty()) {
+            return;
+        }
+        Header[] setCookieHeaders = setCookieValues.stream()
+                .map(value -> new BasicHeader("Set-Cookie", value))
+                .toArray(Header[]::new);
+        processCookiesFromExternalApi(setCookieHeaders, authContext.getSystemCode(), servletResponse);
+    }
+
+    /**
+     * 외부 API의 Set-Cookie 헤더를 변환하여 지정된 서블릿 응답으로 전달 (비동기 호출 시 캡처된 응답 사용)
+     * @param setCookieHeaders Set-Cookie 헤더 배열
+     * @param systemCode 시스템 코드
+     * @param servletResponse 쿠키를 전달할 서블릿 응답
+     */
+    private static void processCookiesFromExternalApi(Header[] setCookieHeaders, String systemCode,
+            HttpServletResponse servletResponse) {
         try {
-            ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-            if (attributes == null) {
+            if (servletResponse == null) {
                 return;
             }
-            
-            jakarta.servlet.http.HttpServletResponse servletResponse = attributes.getResponse();
-            if (servletResponse == null) {
+            if (servletResponse.isCommitted()) {
+                logger.warn("응답이 이미 커밋되어 외부 API Set-Cookie를 전달할 수 없습니다.");
                 return;
             }
             
             // system_code에 따른 쿠키 이름 prefix 결정
             String cookiePrefix = "WAI_WEB_ADMIN".equals(systemCode) ? "admin" : "webView";
             
-            for (org.apache.hc.core5.http.Header header : setCookieHeaders) {
+            for (Header header : setCookieHeaders) {
                 String setCookieValue = header.getValue();
                 logger.debug("외부 API의 Set-Cookie 처리: {}", setCookieValue);
                 
@@ -449,241 +971,113 @@ public class HttpUtil {
     }
     
     /**
-     * HTTP multipart 요청 실행 - Apache HttpClient 기반
+     * HTTP multipart 요청 실행 - 공유 Apache HttpClient 기반
+     * - MultipartFile은 getBytes() 대신 입력 스트림(서블릿 임시 파일)에서 바로 전송하여 메모리 사용을 버퍼 크기로 제한
+     * - 파일 스트림은 다시 읽을 수 없으므로 재시도하지 않음
      * @param url 요청 URL
-     * @param method HTTP 메서드
+     * @param method HTTP 메서드 (POST, PATCH)
      * @param formData multipart 데이터
      * @return HTTP 응답 결과
      */
     private static HttpResult executeMultipartRequest(String url, String method, Map<String, Object> formData) {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+        if (formData == null || formData.isEmpty()) {
+            return new HttpResult(400, null, "Multipart 데이터가 없습니다.");
+        }
+
+        try {
             logger.debug("Apache HttpClient Multipart HTTP 요청 시작: {} {}", method, url);
-            
-            // HTTP 메서드에 따른 요청 객체 생성
+
             ClassicHttpRequest request;
             switch (method.toUpperCase()) {
                 case "POST":
                     request = new HttpPost(url);
                     break;
+                case "PATCH":
+                    request = new HttpPatch(url);
+                    break;
                 default:
-                    throw new IllegalArgumentException("Multipart requests only support POST method");
+                    throw new IllegalArgumentException("Multipart requests only support POST, PATCH method");
             }
-            
+
             // 헤더 설정
             request.setHeader("Accept", "application/json");
 
-            // 헤더에서 system_code 확인하여 쿠키 이름 결정
-            String systemCode = getSystemCodeFromHeader();
-            
-            // Cookie 헤더 자동 설정 (system_code 기반 쿠키에서 토큰 추출)
-            String accessToken = "";
-            String refreshToken = "";
-            String sessionToken = "";
-            if (systemCode != null) {
-                accessToken = getAccessTokenFromCookie(systemCode);
-                refreshToken = getRefreshTokenFromCookie(systemCode);
-                sessionToken = getSessionTokenFromCookie(systemCode);
+            // Cookie 헤더 자동 설정 (요청 단위 인증 정보 사용)
+            AuthContext authContext = AuthContext.current();
+            String systemCode = authContext.getSystemCode();
+            String cookieHeader = authContext.getCookieHeader();
+            if (cookieHeader.length() > 0) {
+                request.setHeader("Cookie", cookieHeader);
+                logger.debug("Cookie 헤더 자동 설정: {}", cookieHeader);
             }
-            
-            StringBuilder cookieBuilder = new StringBuilder();
-            if (accessToken != null && !accessToken.isEmpty()) {
-                cookieBuilder.append("wai_access=").append(accessToken);
-            }
-            if (refreshToken != null && !refreshToken.isEmpty()) {
-                if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
-                cookieBuilder.append("wai_refresh=").append(refreshToken);
+
+            // Multipart 데이터 구성 (한글 파일명 유지를 위해 UTF-8 사용)
+            MultipartEntityBuilder builder = MultipartEntityBuilder.create()
+                    .setMode(HttpMultipartMode.EXTENDED)
+                    .setCharset(StandardCharsets.UTF_8);
+            for (Map.Entry<String, Object> entry : formData.entrySet()) {
+                String key = entry.getKey();
+                Object value = entry.getValue();
+
+                if (value instanceof org.springframework.web.multipart.MultipartFile) {
+                    org.springframework.web.multipart.MultipartFile file = (org.springframework.web.multipart.MultipartFile) value;
+                    if (!file.isEmpty()) {
+                        ContentType fileContentType = file.getContentType() != null
+                                ? ContentType.parseLenient(file.getContentType()) : ContentType.APPLICATION_OCTET_STREAM;
+                        // 전송 시점에 스트림을 읽고 닫음 (크기를 알려주어 Content-Length 지정)
+                        builder.addPart(key, new InputStreamBody(file.getInputStream(), fileContentType,
+                                file.getOriginalFilename(), file.getSize()));
+                        logger.debug("파일 추가: key={}, fileName={}, size={}", key, file.getOriginalFilename(), file.getSize());
+                    }
+                } else if (value != null) {
+                    // 일반 텍스트 데이터
+                    builder.addTextBody(key, value.toString(), ContentType.TEXT_PLAIN.withCharset(StandardCharsets.UTF_8));
+                    logger.debug("텍스트 데이터 추가: key={}, value={}", key, value);
+                }
             }
-            if (sessionToken != null && !sessionToken.isEmpty()) {
-                if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
-                cookieBuilder.append("wai_session=").append(sessionToken);
+            request.setEntity(builder.build());
+
+            UpstreamGuard.Permit permit = UpstreamGuard.tryAcquireUpload(url);
+            if (!permit.isAllowed()) {
+                return new HttpResult(-1, null, permit.getRejectReason());
             }
-            
-            if (cookieBuilder.length() > 0) {
-                request.setHeader("Cookie", cookieBuilder.toString());
-                logger.debug("Cookie 헤더 자동 설정: {}", cookieBuilder.toString());
+
+            ClassicHttpResponse openedResponse;
+            try {
+                openedResponse = getHttpClient().executeOpen(null, request, null);
+            } catch (Exception e) {
+                permit.release(false);
+                throw e;
             }
-            
-            // Multipart 데이터 설정
-            if (formData != null && !formData.isEmpty()) {
-                try {
-                    // Spring의 RestTemplate을 사용하여 multipart 전송
-                    org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate();
-                    org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-                    headers.setContentType(org.springframework.http.MediaType.MULTIPART_FORM_DATA);
-                    
-                    // 모든 쿠키를 RestTemplate 헤더에 설정
-                    if (cookieBuilder.length() > 0) {
-                        headers.add("Cookie", cookieBuilder.toString());
-                        logger.debug("RestTemplate에 쿠키 헤더 설정: {}", cookieBuilder.toString());
-                    }
-                    
-                    // Multipart 데이터 구성
-                    org.springframework.util.LinkedMultiValueMap<String, Object> body = new org.springframework.util.LinkedMultiValueMap<>();
-                    
-                    for (Map.Entry<String, Object> entry : formData.entrySet()) {
-                        String key = entry.getKey();
-                        Object value = entry.getValue();
-                        
-                        if (value instanceof org.springframework.web.multipart.MultipartFile) {
-                            org.springframework.web.multipart.MultipartFile file = (org.springframework.web.multipart.MultipartFile) value;
-                            if (file != null && !file.isEmpty()) {
-                                try {
-                                    org.springframework.core.io.ByteArrayResource fileResource = new org.springframework.core.io.ByteArrayResource(file.getBytes()) {
-                                        @Override
-                                        public String getFilename() {
-                                            return file.getOriginalFilename();
-                                        }
-                                    };
-                                    body.add(key, fileResource);
-                                    logger.debug("파일 추가: key={}, fileName={}, size={}", key, file.getOriginalFilename(), file.getSize());
-                                } catch (Exception e) {
-                                    logger.warn("파일 처리 중 오류: key={}, error={}", key, e.getMessage());
-                                }
-                            }
-                        } else if (value != null) {
-                            // 일반 텍스트 데이터
-                            body.add(key, value.toString());
-                            logger.debug("텍스트 데이터 추가: key={}, value={}", key, value);
-                        }
-                    }
-                    
-                    org.springframework.http.HttpEntity<org.springframework.util.LinkedMultiValueMap<String, Object>> requestEntity = 
-                        new org.springframework.http.HttpEntity<>(body, headers);
-                    
-                    org.springframework.http.ResponseEntity<String> response = restTemplate.postForEntity(url, requestEntity, String.class);
-                    
-                    if (response.getStatusCode().is2xxSuccessful()) {
-                        String responseBody = response.getBody();
-                        return new HttpResult(response.getStatusCodeValue(), responseBody, null);
-                    } else {
-                        String responseBody = response.getBody();
-                        return new HttpResult(response.getStatusCodeValue(), responseBody, "HTTP " + response.getStatusCodeValue());
-                    }
-                    
-                } catch (Exception e) {
-                    logger.error("RestTemplate을 사용한 multipart 전송 중 오류 발생: {}", e.getMessage(), e);
-                    return new HttpResult(-1, null, "Multipart 전송 중 오류가 발생했습니다: " + e.getMessage());
+            // 본문 전송 후 응답 헤더 수신까지를 한 번의 호출로 기록 (응답 본문 읽기 동안에는 슬롯을 점유하지 않음)
+            permit.release(!UpstreamGuard.isFailureStatus(openedResponse.getCode()));
+
+            try (ClassicHttpResponse response = openedResponse) {
+                int status = response.getCode();
+                String responseBody = response.getEntity() != null
+                        ? new String(EntityUtils.toByteArray(response.getEntity()), StandardCharsets.UTF_8) : "";
+
+                Header[] setCookieHeaders = response.getHeaders("Set-Cookie");
+                if (setCookieHeaders != null && setCookieHeaders.length > 0 && systemCode != null) {
+                    processCookiesFromExternalApi(setCookieHeaders, systemCode);
                 }
+
+                if (status >= 200 && status < 300) {
+                    logger.debug("{} Multipart 응답 성공: statusCode={}", method, status);
+                    return new HttpResult(status, responseBody, null);
+                }
+                logger.error("{} Multipart 응답 실패: statusCode={}, body={}", method, status, HttpBodyLogger.abbreviate(responseBody));
+                return new HttpResult(status, responseBody, "HTTP " + status);
             }
-            
-            // 데이터가 없는 경우 빈 응답
-            return new HttpResult(400, null, "Multipart 데이터가 없습니다.");
-            
+
         } catch (Exception e) {
-            logger.error("Apache HttpClient Multipart 요청 중 오류 발생: {}", e.getMessage(), e);
-            return new HttpResult(-1, null, e.getMessage());
-        }
-     }
-     
-     /**
-      * HTTP PATCH multipart 요청 실행 - RestTemplate 기반
-      * @param url 요청 URL
-      * @param formData multipart 데이터
-      * @return HTTP 응답 결과
-      */
-     private static HttpResult executePatchMultipartRequest(String url, Map<String, Object> formData) {
-         try {
-             logger.debug("RestTemplate PATCH Multipart HTTP 요청 시작: {}", url);
-             
-             // Spring의 RestTemplate을 사용하여 PATCH multipart 전송
-             org.springframework.web.client.RestTemplate restTemplate = new org.springframework.web.client.RestTemplate();
-             
-             // Apache HttpClient를 사용하여 PATCH 메서드 지원 활성화
-             org.springframework.http.client.HttpComponentsClientHttpRequestFactory factory = 
-                 new org.springframework.http.client.HttpComponentsClientHttpRequestFactory();
-             restTemplate.setRequestFactory(factory);
-             org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
-             headers.setContentType(org.springframework.http.MediaType.MULTIPART_FORM_DATA);
-             
-             // 헤더에서 system_code 확인하여 쿠키 이름 결정
-             String systemCode = getSystemCodeFromHeader();
-             
-             // Cookie 헤더 자동 설정 (system_code 기반 쿠키에서 토큰 추출)
-             String accessToken = "";
-             String refreshToken = "";
-             String sessionToken = "";
-             if (systemCode != null) {
-                 accessToken = getAccessTokenFromCookie(systemCode);
-                 refreshToken = getRefreshTokenFromCookie(systemCode);
-                 sessionToken = getSessionTokenFromCookie(systemCode);
-             }
-             
-             StringBuilder cookieBuilder = new StringBuilder();
-             if (accessToken != null && !accessToken.isEmpty()) {
-                 cookieBuilder.append("wai_access=").append(accessToken);
-             }
-             if (refreshToken != null && !refreshToken.isEmpty()) {
-                 if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
-                 cookieBuilder.append("wai_refresh=").append(refreshToken);
-             }
-             if (sessionToken != null && !sessionToken.isEmpty()) {
-                 if (cookieBuilder.length() > 0) cookieBuilder.append("; ");
-                 cookieBuilder.append("wai_session=").append(sessionToken);
-             }
-             
-             // 모든 쿠키를 RestTemplate 헤더에 설정
-             if (cookieBuilder.length() > 0) {
-                 headers.add("Cookie", cookieBuilder.toString());
-                 logger.debug("RestTemplate에 쿠키 헤더 설정: {}", cookieBuilder.toString());
-             }
-             
-             // Multipart 데이터 구성
-             org.springframework.util.LinkedMultiValueMap<String, Object> body = new org.springframework.util.LinkedMultiValueMap<>();
-             
-             if (formData != null && !formData.isEmpty()) {
-                 for (Map.Entry<String, Object> entry : formData.entrySet()) {
-                     String key = entry.getKey();
-                     Object value = entry.getValue();
-                     
-                     if (value instanceof org.springframework.web.multipart.MultipartFile) {
-                         org.springframework.web.multipart.MultipartFile file = (org.springframework.web.multipart.MultipartFile) value;
-                         if (file != null && !file.isEmpty()) {
-                             try {
-                                 org.springframework.core.io.ByteArrayResource fileResource = new org.springframework.core.io.ByteArrayResource(file.getBytes()) {
-                                     @Override
-                                     public String getFilename() {
-                                         return file.getOriginalFilename();
-                                     }
-                                 };
-                                 body.add(key, fileResource);
-                                 logger.debug("파일 추가: key={}, fileName={}, size={}", key, file.getOriginalFilename(), file.getSize());
-                             } catch (Exception e) {
-                                 logger.warn("파일 처리 중 오류: key={}, error={}", key, e.getMessage());
-                             }
-                         }
-                     } else if (value != null) {
-                         // 일반 텍스트 데이터
-                         body.add(key, value.toString());
-                         logger.debug("텍스트 데이터 추가: key={}, value={}", key, value);
-                     }
-                 }
-             }
-             
-             org.springframework.http.HttpEntity<org.springframework.util.LinkedMultiValueMap<String, Object>> requestEntity = 
-                 new org.springframework.http.HttpEntity<>(body, headers);
-             
-             // RestTemplate을 사용하여 PATCH 요청 수행
-             org.springframework.http.ResponseEntity<String> response = restTemplate.exchange(
-                 url, org.springframework.http.HttpMethod.PATCH, requestEntity, String.class);
-             
-             if (response.getStatusCode().is2xxSuccessful()) {
-                 String responseBody = response.getBody();
-                 logger.debug("PATCH Multipart 응답 성공: statusCode={}", response.getStatusCodeValue());
-                 return new HttpResult(response.getStatusCodeValue(), responseBody, null);
-             } else {
-                 String responseBody = response.getBody();
-                 logger.error("PATCH Multipart 응답 실패: statusCode={}, body={}", response.getStatusCodeValue(), responseBody);
-                 return new HttpResult(response.getStatusCodeValue(), responseBody, "HTTP " + response.getStatusCodeValue());
-             }
-             
-         } catch (Exception e) {
-             logger.error("PATCH Multipart 요청 중 오류 발생: {}", e.getMessage(), e);
-             return new HttpResult(-1, null, "PATCH Multipart 전송 중 오류가 발생했습니다: " + e.getMessage());
-         }
-     }
-     
-     /**
-      * HTTP 응답에서 에러 메시지를 추출하는 메서드
+            logger.error("{} Multipart 요청 중 오류 발생: {}", method, e.getMessage(), e);
+            return new HttpResult(-1, null, "Multipart 전송 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * HTTP 응답에서 에러 메시지를 추출하는 메서드
      * @param responseBody 응답 본문
      * @return 추출된 에러 메시지
      */
@@ -728,6 +1122,21 @@ public class HttpUtil {
         return null;
     }
     
+    /**
+     * 외부 API 호출 결과 + 브라우저로 전달할 Set-Cookie 헤더 (요청 합치기 시 호출자별로 쿠키 반영)
+     */
+    private static final class Exchange {
+        private static final Header[] NO_HEADERS = new Header[0];
+
+        private final HttpResult result;
+        private final Header[] setCookieHeaders;
+
+        Exchange(HttpResult result, Header[] setCookieHeaders) {
+            this.result = result;
+            this.setCookieHeaders = setCookieHeaders != null ? setCookieHeaders : NO_HEADERS;
+        }
+    }
+
     /**
      * HTTP 응답 결과를 담는 클래스
      */
@@ -735,13 +1144,14 @@ public class HttpUtil {
         private final int status;
         private final String body;
         private final String errorMessage;
-        private final String extractedErrorMessage;
+        // 응답 본문에서 추출한 에러 메시지 - 처음 조회할 때 한 번만 추출 (성공 응답은 대부분 조회하지 않음)
+        private volatile boolean errorMessageExtracted;
+        private volatile String extractedErrorMessage;
         
         public HttpResult(int status, String body, String errorMessage) {
             this.status = status;
             this.body = body;
             this.errorMessage = errorMessage;
-            this.extractedErrorMessage = extractErrorMessage(body);
         }
         
         public int getStatus() {
@@ -761,6 +1171,11 @@ public class HttpUtil {
          * @return 추출된 에러 메시지 (없으면 null)
          */
         public String getExtractedErrorMessage() {
+            if (!errorMessageExtracted) {
+                // 동시에 조회되어도 같은 값이므로 중복 추출만 허용
+                extractedErrorMessage = extractErrorMessage(body);
+                errorMessageExtracted = true;
+            }
             return extractedErrorMessage;
         }
         
@@ -2,11 +2,18 @@ package com.wai.admin.util;
 
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 /**
  * JSON 변환 유틸리티 클래스
  */
 public class JsonUtil {
     
+    // 파싱용 Jackson 스트리밍 팩토리 (thread-safe, 재사용)
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
     /**
      * Map을 JSON 문자열로 변환
      * @param map 변환할 Map
@@ -99,6 +106,15 @@ public class JsonUtil {
         }
     }
     
+    /**
+     * 문자열을 JSON 문자열 값(따옴표 포함)으로 변환
+     * @param value 변환할 문자열 (null이면 "null")
+     * @return JSON 문자열 값
+     */
+    public static String stringToJson(String value) {
+        return valueToJson(value);
+    }
+    
     /**
      * JSON 문자열에서 특수 문자 이스케이프 처리
      * @param str 원본 문자열
@@ -191,235 +207,108 @@ public class JsonUtil {
             return null;
         }
         
-        try {
-            Map<String, Object> result = new java.util.HashMap<>();
-            json = json.trim();
-            
-            // 최상위 객체가 {}로 감싸져 있는지 확인
-            if (!json.startsWith("{") || !json.endsWith("}")) {
-                return null;
-            }
-            
-            // 중괄호 제거
-            json = json.substring(1, json.length() - 1).trim();
-            
-            if (json.isEmpty()) {
-                return result;
-            }
-            
-            // 쉼표로 분리하여 각 키-값 쌍 처리
-            String[] pairs = splitByComma(json);
-            
-            for (String pair : pairs) {
-                String[] keyValue = splitKeyValue(pair.trim());
-                if (keyValue != null && keyValue.length == 2) {
-                    String key = keyValue[0].trim();
-                    String value = keyValue[1].trim();
-                    
-                    // 키에서 따옴표 제거
-                    if (key.startsWith("\"") && key.endsWith("\"")) {
-                        key = key.substring(1, key.length() - 1);
-                    }
-                    
-                    // 값 파싱
-                    Object parsedValue = parseValue(value);
-                    result.put(key, parsedValue);
-                }
-            }
-            
-            return result;
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return readRootObject(parser);
         } catch (Exception e) {
             return null;
         }
     }
     
     /**
-     * JSON 값을 파싱 (문자열, 숫자, 불린, null, 객체, 배열)
-     * @param value JSON 값 문자열
-     * @return 파싱된 값
+     * JSON 배열 문자열을 List로 파싱 (public 메서드)
+     * @param json JSON 배열 문자열
+     * @return 파싱된 List (실패 시 null)
      */
-    private static Object parseValue(String value) {
-        if (value == null || value.isEmpty()) {
+    public static java.util.List<Object> parseJsonToList(String json) {
+        if (json == null || json.isEmpty()) {
             return null;
         }
         
-        value = value.trim();
-        
-        // null 체크
-        if ("null".equals(value)) {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return readRootArray(parser);
+        } catch (Exception e) {
             return null;
         }
-        
-        // 불린 체크
-        if ("true".equals(value)) {
-            return true;
-        }
-        if ("false".equals(value)) {
-            return false;
-        }
-        
-        // 숫자 체크
-        if (value.matches("-?\\d+(\\.\\d+)?")) {
-            try {
-                if (value.contains(".")) {
-                    return Double.parseDouble(value);
-                } else {
-                    return Long.parseLong(value);
-                }
-            } catch (NumberFormatException e) {
-                // 숫자 파싱 실패 시 문자열로 처리
-            }
-        }
-        
-        // 문자열 체크
-        if (value.startsWith("\"") && value.endsWith("\"")) {
-            return value.substring(1, value.length() - 1);
-        }
-        
-        // 객체 체크
-        if (value.startsWith("{") && value.endsWith("}")) {
-            return parseJson(value);
-        }
-        
-        // 배열 체크 (간단한 구현)
-        if (value.startsWith("[") && value.endsWith("]")) {
-            return parseArray(value);
-        }
-        
-        // 기본적으로 문자열로 처리
-        return value;
     }
     
     /**
-     * JSON 배열을 파싱 (간단한 구현)
-     * @param arrayStr 배열 문자열
-     * @return 파싱된 배열 (List)
+     * 최상위 객체 파싱 - 최상위가 객체가 아니거나 뒤에 다른 토큰이 있으면 null
      */
-    private static java.util.List<Object> parseArray(String arrayStr) {
-        java.util.List<Object> result = new java.util.ArrayList<>();
-        
-        try {
-            // 대괄호 제거
-            String content = arrayStr.substring(1, arrayStr.length() - 1).trim();
-            
-            if (content.isEmpty()) {
-                return result;
-            }
-            
-            // 쉼표로 분리하여 각 요소 처리
-            String[] elements = splitByComma(content);
-            
-            for (String element : elements) {
-                Object parsedElement = parseValue(element.trim());
-                result.add(parsedElement);
-            }
-            
-            return result;
-        } catch (Exception e) {
-            return result;
+    private static Map<String, Object> readRootObject(JsonParser parser) throws java.io.IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
         }
+        Map<String, Object> result = readObject(parser);
+        return parser.nextToken() == null ? result : null;
     }
     
     /**
-     * JSON 배열 문자열을 List로 파싱 (public 메서드)
-     * @param json JSON 배열 문자열
-     * @return 파싱된 List (실패 시 null)
+     * 최상위 배열 파싱 - 최상위가 배열이 아니거나 뒤에 다른 토큰이 있으면 null
      */
-    public static java.util.List<Object> parseJsonToList(String json) {
-        if (json == null || json.isEmpty()) {
-            return null;
-        }
-        
-        try {
-            json = json.trim();
-            
-            // 배열 체크
-            if (!json.startsWith("[") || !json.endsWith("]")) {
-                return null;
-            }
-            
-            return parseArray(json);
-        } catch (Exception e) {
+    private static java.util.List<Object> readRootArray(JsonParser parser) throws java.io.IOException {
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
             return null;
         }
+        java.util.List<Object> result = readArray(parser);
+        return parser.nextToken() == null ? result : null;
     }
     
     /**
-     * 쉼표로 분리 (중첩된 객체/배열 내의 쉼표는 무시)
-     * @param json JSON 문자열
-     * @return 분리된 문자열 배열
+     * 현재 토큰(START_OBJECT)부터 객체를 읽어 Map으로 변환
      */
-    private static String[] splitByComma(String json) {
-        java.util.List<String> parts = new java.util.ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        int braceCount = 0;
-        int bracketCount = 0;
-        boolean inString = false;
-        char lastChar = 0;
-        
-        for (int i = 0; i < json.length(); i++) {
-            char c = json.charAt(i);
-            
-            if (c == '"' && lastChar != '\\') {
-                inString = !inString;
-            } else if (!inString) {
-                if (c == '{') {
-                    braceCount++;
-                } else if (c == '}') {
-                    braceCount--;
-                } else if (c == '[') {
-                    bracketCount++;
-                } else if (c == ']') {
-                    bracketCount--;
-                } else if (c == ',' && braceCount == 0 && bracketCount == 0) {
-                    parts.add(current.toString());
-                    current = new StringBuilder();
-                    continue;
-                }
-            }
-            
-            current.append(c);
-            lastChar = c;
-        }
-        
-        if (current.length() > 0) {
-            parts.add(current.toString());
-        }
-        
-        return parts.toArray(new String[0]);
+    private static Map<String, Object> readObject(JsonParser parser) throws java.io.IOException {
+        Map<String, Object> result = new java.util.LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            result.put(key, readValue(parser));
+        }
+        return result;
     }
     
     /**
-     * 키-값 쌍을 분리
-     * @param pair 키-값 쌍 문자열
-     * @return [키, 값] 배열
+     * 현재 토큰(START_ARRAY)부터 배열을 읽어 List로 변환
      */
-    private static String[] splitKeyValue(String pair) {
-        int colonIndex = -1;
-        boolean inString = false;
-        char lastChar = 0;
-        
-        for (int i = 0; i < pair.length(); i++) {
-            char c = pair.charAt(i);
-            
-            if (c == '"' && lastChar != '\\') {
-                inString = !inString;
-            } else if (!inString && c == ':') {
-                colonIndex = i;
-                break;
-            }
-            
-            lastChar = c;
+    private static java.util.List<Object> readArray(JsonParser parser) throws java.io.IOException {
+        java.util.List<Object> result = new java.util.ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            result.add(readValue(parser));
         }
-        
-        if (colonIndex == -1) {
-            return null;
+        return result;
+    }
+    
+    /**
+     * 현재 토큰의 값을 변환 (문자열, 숫자, 불린, null, 객체, 배열)
+     * - 정수: Long (Long 범위를 넘으면 문자열), 실수/지수 표기: Double
+     */
+    private static Object readValue(JsonParser parser) throws java.io.IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            throw new java.io.EOFException("JSON 입력이 예기치 않게 끝났습니다.");
+        }
+        switch (token) {
+            case START_OBJECT:
+                return readObject(parser);
+            case START_ARRAY:
+                return readArray(parser);
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    return parser.getText();
+                }
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return true;
+            case VALUE_FALSE:
+                return false;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new java.io.IOException("예상하지 못한 JSON 토큰: " + token);
         }
-        
-        return new String[]{
-            pair.substring(0, colonIndex),
-            pair.substring(colonIndex + 1)
-        };
     }
     
     /**
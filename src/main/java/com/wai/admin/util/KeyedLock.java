@@ -0,0 +1,85 @@
+package com.wai.admin.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 락 (동일 키 작업 직렬화)
+ * - 락을 사용 중인(대기 포함) 호출자 수를 세어 마지막 호출자가 해제할 때 맵에서 제거
+ * - 키가 계속 바뀌어도(URL, 캐시 키 등) 락 맵이 커지지 않음
+ * - 사용 예: try (KeyedLock.Handle handle = keyedLock.lock(key)) { ... }
+ */
+public final class KeyedLock {
+
+    private final Map<String, Holder> locks = new ConcurrentHashMap<>();
+
+    /**
+     * 키 락 획득 (다른 호출자가 사용 중이면 대기)
+     * @param key 락 키
+     * @return 해제용 핸들 (close 시 해제)
+     */
+    public Handle lock(String key) {
+        // 사용자 수 증가와 맵 등록을 원자적으로 처리하여 해제 중인 락이 제거되는 것과 경합하지 않도록 함
+        Holder holder = locks.compute(key, (k, existing) -> {
+            Holder h = existing != null ? existing : new Holder();
+            h.users++;
+            return h;
+        });
+        try {
+            holder.lock.lock();
+        } catch (RuntimeException | Error e) {
+            release(key, holder, false);
+            throw e;
+        }
+        return new Handle(key, holder);
+    }
+
+    /**
+     * 사용 중인 키 수 (모니터링/테스트용)
+     */
+    public int size() {
+        return locks.size();
+    }
+
+    private void release(String key, Holder holder, boolean locked) {
+        if (locked) {
+            holder.lock.unlock();
+        }
+        locks.computeIfPresent(key, (k, existing) -> {
+            if (existing != holder) {
+                return existing;
+            }
+            return --existing.users == 0 ? null : existing;
+        });
+    }
+
+    private static final class Holder {
+        private final ReentrantLock lock = new ReentrantLock();
+        // compute 안에서만 변경
+        private int users;
+    }
+
+    /**
+     * 획득한 키 락 (한 번만 해제)
+     */
+    public final class Handle implements AutoCloseable {
+        private final String key;
+        private final Holder holder;
+        private boolean released;
+
+        private Handle(String key, Holder holder) {
+            this.key = key;
+            this.holder = holder;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(key, holder, true);
+        }
+    }
+}
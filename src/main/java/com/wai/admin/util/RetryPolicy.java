@@ -0,0 +1,231 @@
+package com.wai.admin.util;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.ConnectTimeoutException;
+import org.apache.hc.core5.http.NoHttpResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 외부 API 재시도 정책 (HttpUtil 전용)
+ * - 지수 백오프 + full jitter: 0 ~ min(maxDelay, baseDelay * 2^(재시도 횟수-1)) 사이 임의 대기
+ * - 요청 단위 재시도 예산: 최초 시도부터 budget 시간을 넘기는 재시도는 하지 않음
+ * - 429/503 응답의 Retry-After 헤더(초 또는 HTTP 날짜) 지원
+ * - 멱등 메서드(GET, PUT, DELETE)와 비멱등 메서드(POST, PATCH)의 재시도 횟수/조건을 분리
+ *   (비멱등 메서드는 요청이 전송되지 않은 연결 실패, 또는 Retry-After가 있는 응답만 재시도)
+ * - 비동기 호출의 재시도는 공용 타이머 스레드에서 예약 실행
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryPolicy.class);
+
+    private static volatile Settings settings = new Settings(2, 1, 200, 2000, 5000, Set.of(429, 503));
+
+    // 비동기 재시도 예약용 타이머 (예약된 작업은 요청 전송만 하므로 단일 스레드로 충분)
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "http-retry-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private RetryPolicy() {
+    }
+
+    /**
+     * 설정 등록 (HttpClientConfig에서 호출)
+     */
+    public static void configure(Settings newSettings) {
+        settings = newSettings;
+        logger.info("외부 API 재시도 정책 설정: {}", newSettings);
+    }
+
+    /**
+     * 요청 단위 재시도 예산 생성 (논리적 요청 1건당 1개)
+     * @param method HTTP 메서드
+     */
+    public static Budget begin(String method) {
+        return new Budget(settings, isIdempotent(method));
+    }
+
+    /**
+     * 지정 시간 후 타이머에서 실행하는 Executor (비동기 재시도용)
+     */
+    public static Executor delayedExecutor(long delayMillis) {
+        return task -> TIMER.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 멱등 메서드 여부
+     */
+    public static boolean isIdempotent(String method) {
+        switch (method.toUpperCase()) {
+            case "GET":
+            case "HEAD":
+            case "PUT":
+            case "DELETE":
+            case "OPTIONS":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 요청 단위 재시도 예산
+     */
+    public static final class Budget {
+        private final Settings settings;
+        private final boolean idempotent;
+        private final int maxRetries;
+        private final long startedAt = System.currentTimeMillis();
+        private int retries;
+
+        private Budget(Settings settings, boolean idempotent) {
+            this(settings, idempotent, idempotent ? settings.idempotentMaxRetries : settings.nonIdempotentMaxRetries);
+        }
+
+        private Budget(Settings settings, boolean idempotent, int maxRetries) {
+            this.settings = settings;
+            this.idempotent = idempotent;
+            this.maxRetries = maxRetries;
+        }
+
+        /**
+         * 예외 발생 시 다음 재시도까지 대기 시간
+         * @return 대기 시간(밀리초), 재시도하지 않으면 -1
+         */
+        public long nextDelay(Throwable error) {
+            if (!isRetryable(error)) {
+                return -1;
+            }
+            return reserve(backoff());
+        }
+
+        /**
+         * 응답 상태 코드 기준 다음 재시도까지 대기 시간
+         * @param status 응답 상태 코드
+         * @param retryAfter Retry-After 헤더 값 (없으면 null)
+         * @return 대기 시간(밀리초), 재시도하지 않으면 -1
+         */
+        public long nextDelay(int status, String retryAfter) {
+            if (!settings.retryStatuses.contains(status)) {
+                return -1;
+            }
+            long retryAfterMillis = parseRetryAfter(retryAfter);
+            // 비멱등 요청은 서버가 Retry-After로 재시도를 허용한 경우에만 재전송
+            if (!idempotent && retryAfterMillis < 0) {
+                return -1;
+            }
+            return reserve(retryAfterMillis >= 0 ? retryAfterMillis : backoff());
+        }
+
+        public int getRetries() {
+            return retries;
+        }
+
+        private boolean isRetryable(Throwable error) {
+            Throwable cause = error;
+            while (cause != null) {
+                // 연결 단계 실패는 요청이 전송되지 않았으므로 모든 메서드 재시도 가능
+                if (cause instanceof ConnectException || cause instanceof ConnectTimeoutException) {
+                    return true;
+                }
+                // 응답 대기 중 실패는 서버가 처리했을 수 있으므로 멱등 메서드만 재시도
+                if (idempotent && (cause instanceof SocketTimeoutException || cause instanceof NoHttpResponseException)) {
+                    return true;
+                }
+                cause = cause.getCause();
+            }
+            return false;
+        }
+
+        private long backoff() {
+            long ceiling = Math.min(settings.maxDelayMillis, settings.baseDelayMillis << Math.min(retries, 20));
+            return ThreadLocalRandom.current().nextLong(ceiling + 1);
+        }
+
+        private long reserve(long delayMillis) {
+            if (retries >= maxRetries) {
+                return -1;
+            }
+            long elapsed = System.currentTimeMillis() - startedAt;
+            if (elapsed + delayMillis > settings.budgetMillis) {
+                logger.debug("재시도 예산 초과로 재시도 생략: elapsed={}ms, delay={}ms, budget={}ms", elapsed, delayMillis, settings.budgetMillis);
+                return -1;
+            }
+            retries++;
+            return delayMillis;
+        }
+    }
+
+    /**
+     * Retry-After 헤더 파싱 (초 또는 HTTP 날짜)
+     * @return 대기 시간(밀리초), 없거나 잘못된 값이면 -1
+     */
+    static long parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000L);
+        } catch (NumberFormatException e) {
+            // HTTP 날짜 형식
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 재시도 정책 설정
+     */
+    public static final class Settings {
+        private final int idempotentMaxRetries;
+        private final int nonIdempotentMaxRetries;
+        private final long baseDelayMillis;
+        private final long maxDelayMillis;
+        private final long budgetMillis;
+        private final Set<Integer> retryStatuses;
+
+        /**
+         * @param idempotentMaxRetries    멱등 메서드 최대 재시도 횟수
+         * @param nonIdempotentMaxRetries 비멱등 메서드 최대 재시도 횟수
+         * @param baseDelayMillis         백오프 기본 대기 시간
+         * @param maxDelayMillis          백오프 최대 대기 시간
+         * @param budgetMillis            요청 단위 재시도 예산 (최초 시도부터 경과 시간)
+         * @param retryStatuses           재시도 대상 응답 상태 코드
+         */
+        public Settings(int idempotentMaxRetries, int nonIdempotentMaxRetries, long baseDelayMillis, long maxDelayMillis,
+                long budgetMillis, Set<Integer> retryStatuses) {
+            this.idempotentMaxRetries = Math.max(0, idempotentMaxRetries);
+            this.nonIdempotentMaxRetries = Math.max(0, nonIdempotentMaxRetries);
+            this.baseDelayMillis = Math.max(1, baseDelayMillis);
+            this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+            this.budgetMillis = Math.max(0, budgetMillis);
+            this.retryStatuses = Set.copyOf(retryStatuses);
+        }
+
+        @Override
+        public String toString() {
+            return "idempotentMaxRetries=" + idempotentMaxRetries + ", nonIdempotentMaxRetries=" + nonIdempotentMaxRetries
+                    + ", baseDelay=" + baseDelayMillis + "ms, maxDelay=" + maxDelayMillis + "ms, budget=" + budgetMillis
+                    + "ms, retryStatuses=" + retryStatuses;
+        }
+    }
+}
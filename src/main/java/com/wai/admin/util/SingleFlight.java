@@ -0,0 +1,58 @@
+package com.wai.admin.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 동일 키의 동시 호출 합치기 (single-flight)
+ * - 같은 키로 진행 중인 호출이 있으면 새로 호출하지 않고 그 결과를 기다려 공유
+ * - 최초 호출자(leader)가 자신의 스레드에서 직접 실행하므로 별도 스레드를 사용하지 않음
+ * - 결과는 캐시하지 않음: 호출이 끝나면 즉시 키를 제거하여 다음 호출은 새로 실행
+ * - 공유되는 결과는 호출자들이 수정하지 않는 불변 객체여야 함
+ */
+public final class SingleFlight<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final Map<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 호출 실행 또는 진행 중인 동일 호출 결과 대기
+     * @param key 호출 식별 키 (키에 인증 정보가 포함될 수 있으므로 로그에 남기지 않음)
+     * @param loader 실제 호출
+     * @return 호출 결과
+     */
+    public T execute(String key, Supplier<T> loader) {
+        CompletableFuture<T> flight = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            logger.debug("진행 중인 동일 요청 결과 공유 (진행 중 요청 수: {})", inFlight.size());
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.wai.admin.util;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 외부 API 라우트별 서킷 브레이커 + 벌크헤드 (HttpUtil 전용)
+ * - 라우트: URL의 /api/v1/{그룹} 단위 (예: process, equipment, minio)
+ * - 최근 호출 window에서 실패율이 임계값을 넘으면 OPEN → 일정 시간 동안 즉시 실패 처리
+ * - OPEN 시간이 지나면 HALF_OPEN으로 일부 호출만 허용하여 복구 여부 확인
+ * - 라우트별 동시 호출 수를 제한하여 한 외부 서브시스템 지연이 서블릿 스레드 전체를 점유하지 않도록 함
+ * - 파일 업로드(multipart)는 요청 본문 전송 동안 슬롯을 점유하므로 별도 라우트({그룹}:upload)로 분리
+ */
+public final class UpstreamGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamGuard.class);
+
+    private static volatile Settings settings = new Settings(true, 20, 10, 50, 30, 3, 50, 1000);
+
+    private static final Map<String, Route> routes = new ConcurrentHashMap<>();
+
+    private UpstreamGuard() {
+    }
+
+    /**
+     * 설정 등록 (HttpClientConfig에서 호출) - 기존 라우트 상태는 초기화
+     */
+    public static void configure(Settings newSettings) {
+        settings = newSettings;
+        routes.clear();
+        logger.info("외부 API 서킷 브레이커 설정: {}", newSettings);
+    }
+
+    /**
+     * 호출 허가 요청
+     * @param url 요청 URL
+     * @return 허가 결과 (거부된 경우 isAllowed() == false, 허가된 경우 호출 후 반드시 release)
+     */
+    public static Permit tryAcquire(String url) {
+        return tryAcquire(routeKey(url), url, settings.bulkheadMaxWaitMillis);
+    }
+
+    /**
+     * 대기 없는 호출 허가 요청 - 동시 호출 한도에 도달했으면 즉시 거부
+     * (비동기 호출처럼 호출 스레드나 재시도 타이머 스레드를 막으면 안 되는 경우)
+     * @param url 요청 URL
+     * @return 허가 결과 (거부된 경우 isAllowed() == false, 허가된 경우 호출 후 반드시 release)
+     */
+    public static Permit tryAcquireNow(String url) {
+        return tryAcquire(routeKey(url), url, 0);
+    }
+
+    /**
+     * 파일 업로드 호출 허가 요청 - 업로드는 {그룹}:upload 라우트로 제한
+     * (대용량 본문 전송이 같은 그룹의 조회/다운로드 슬롯을 점유하지 않도록 함)
+     * @param url 요청 URL
+     * @return 허가 결과 (거부된 경우 isAllowed() == false, 허가된 경우 호출 후 반드시 release)
+     */
+    public static Permit tryAcquireUpload(String url) {
+        return tryAcquire(routeKey(url) + ":upload", url, settings.bulkheadMaxWaitMillis);
+    }
+
+    private static Permit tryAcquire(String routeKey, String url, long maxWaitMillis) {
+        Settings current = settings;
+        if (!current.enabled) {
+            return Permit.UNGUARDED;
+        }
+
+        Route route = routes.computeIfAbsent(routeKey, key -> new Route(key, current));
+
+        if (!route.breaker.allowRequest()) {
+            logger.warn("외부 API 서킷 OPEN 상태로 요청 차단: route={}, url={}", routeKey, url);
+            return Permit.rejected("외부 API(" + routeKey + ")가 일시적으로 응답하지 않아 요청을 차단했습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        boolean acquired;
+        if (maxWaitMillis <= 0) {
+            acquired = route.bulkhead.tryAcquire();
+        } else {
+            try {
+                acquired = route.bulkhead.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+        }
+        if (!acquired) {
+            // 허가받은 HALF_OPEN 시험 호출 수 반환
+            route.breaker.cancelProbe();
+            logger.warn("외부 API 동시 호출 한도 초과로 요청 거부: route={}, maxConcurrent={}", routeKey, current.bulkheadMaxConcurrent);
+            return Permit.rejected("외부 API(" + routeKey + ") 동시 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return new Permit(route, null);
+    }
+
+    /**
+     * 응답 상태로 실패 여부 판단 (네트워크 오류 또는 5xx)
+     */
+    public static boolean isFailureStatus(int status) {
+        return status < 0 || status >= 500;
+    }
+
+    /**
+     * URL에서 라우트 키 추출 - /api/v1/{그룹}/... 이면 그룹, 아니면 호스트
+     */
+    static String routeKey(String url) {
+        try {
+            URI uri = URI.create(url);
+            String path = uri.getPath();
+            if (path != null) {
+                int apiIndex = path.indexOf("/api/v1/");
+                if (apiIndex >= 0) {
+                    String rest = path.substring(apiIndex + "/api/v1/".length());
+                    int slash = rest.indexOf('/');
+                    String group = slash >= 0 ? rest.substring(0, slash) : rest;
+                    if (!group.isEmpty()) {
+                        return group;
+                    }
+                }
+            }
+            return uri.getHost() != null ? uri.getHost() : "default";
+        } catch (IllegalArgumentException e) {
+            return "default";
+        }
+    }
+
+    /**
+     * 호출 허가 - 호출 결과와 함께 release 해야 함
+     */
+    public static final class Permit {
+
+        static final Permit UNGUARDED = new Permit(null, null);
+
+        private final Route route;
+        private final String rejectReason;
+        private boolean released;
+
+        private Permit(Route route, String rejectReason) {
+            this.route = route;
+            this.rejectReason = rejectReason;
+        }
+
+        static Permit rejected(String reason) {
+            return new Permit(null, reason);
+        }
+
+        public boolean isAllowed() {
+            return rejectReason == null;
+        }
+
+        public String getRejectReason() {
+            return rejectReason;
+        }
+
+        /**
+         * 호출 결과 기록 및 동시 호출 슬롯 반환 (여러 번 호출해도 한 번만 반영)
+         * @param success 성공 여부 (네트워크 오류/5xx면 false)
+         */
+        public void release(boolean success) {
+            if (route == null || released) {
+                return;
+            }
+            released = true;
+            route.bulkhead.release();
+            route.breaker.record(success);
+        }
+    }
+
+    /**
+     * 라우트별 상태 (서킷 브레이커 + 벌크헤드)
+     */
+    private static final class Route {
+        private final CircuitBreaker breaker;
+        private final Semaphore bulkhead;
+
+        Route(String key, Settings settings) {
+            this.breaker = new CircuitBreaker(key, settings);
+            this.bulkhead = new Semaphore(settings.bulkheadMaxConcurrent);
+        }
+    }
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * 호출 수 기반 sliding window 서킷 브레이커
+     */
+    private static final class CircuitBreaker {
+        private final String key;
+        private final Settings settings;
+        private final boolean[] window;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private State state = State.CLOSED;
+        private int windowIndex;
+        private int recordedCount;
+        private int failureCount;
+        private long openedAt;
+        private int probesInFlight;
+        private int probeSuccesses;
+
+        CircuitBreaker(String key, Settings settings) {
+            this.key = key;
+            this.settings = settings;
+            this.window = new boolean[settings.windowSize];
+        }
+
+        boolean allowRequest() {
+            lock.lock();
+            try {
+                if (state == State.OPEN) {
+                    if (System.currentTimeMillis() - openedAt < settings.openSeconds * 1000L) {
+                        return false;
+                    }
+                    transition(State.HALF_OPEN);
+                }
+                if (state == State.HALF_OPEN) {
+                    if (probesInFlight >= settings.halfOpenCalls) {
+                        return false;
+                    }
+                    probesInFlight++;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void cancelProbe() {
+            lock.lock();
+            try {
+                if (state == State.HALF_OPEN && probesInFlight > 0) {
+                    probesInFlight--;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void record(boolean success) {
+            lock.lock();
+            try {
+                if (state == State.HALF_OPEN) {
+                    probesInFlight = Math.max(0, probesInFlight - 1);
+                    if (!success) {
+                        transition(State.OPEN);
+                    } else if (++probeSuccesses >= settings.halfOpenCalls) {
+                        transition(State.CLOSED);
+                    }
+                    return;
+                }
+                if (state == State.OPEN) {
+                    return;
+                }
+
+                // window의 가장 오래된 결과를 새 결과로 교체
+                if (recordedCount == window.length) {
+                    if (window[windowIndex]) {
+                        failureCount--;
+                    }
+                } else {
+                    recordedCount++;
+                }
+                window[windowIndex] = !success;
+                if (!success) {
+                    failureCount++;
+                }
+                windowIndex = (windowIndex + 1) % window.length;
+
+                if (recordedCount >= settings.minimumCalls
+                        && failureCount * 100 >= settings.failureRateThreshold * recordedCount) {
+                    logger.warn("외부 API 실패율 임계값 초과: route={}, failures={}/{}", key, failureCount, recordedCount);
+                    transition(State.OPEN);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void transition(State next) {
+            logger.warn("외부 API 서킷 상태 변경: route={}, {} -> {}", key, state, next);
+            state = next;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            if (next == State.OPEN) {
+                openedAt = System.currentTimeMillis();
+            }
+            if (next == State.CLOSED) {
+                windowIndex = 0;
+                recordedCount = 0;
+                failureCount = 0;
+            }
+        }
+    }
+
+    /**
+     * 서킷 브레이커/벌크헤드 설정
+     */
+    public static final class Settings {
+        private final boolean enabled;
+        private final int windowSize;
+        private final int minimumCalls;
+        private final int failureRateThreshold;
+        private final long openSeconds;
+        private final int halfOpenCalls;
+        private final int bulkheadMaxConcurrent;
+        private final long bulkheadMaxWaitMillis;
+
+        /**
+         * @param enabled               사용 여부
+         * @param windowSize            실패율 계산에 사용하는 최근 호출 수
+         * @param minimumCalls          실패율 계산을 시작하는 최소 호출 수
+         * @param failureRateThreshold  OPEN 전환 실패율 (%)
+         * @param openSeconds           OPEN 유지 시간 (초)
+         * @param halfOpenCalls         HALF_OPEN 상태에서 허용하는 시험 호출 수
+         * @param bulkheadMaxConcurrent 라우트별 최대 동시 호출 수
+         * @param bulkheadMaxWaitMillis 동시 호출 슬롯 대기 시간 (밀리초)
+         */
+        public Settings(boolean enabled, int windowSize, int minimumCalls, int failureRateThreshold, long openSeconds,
+                int halfOpenCalls, int bulkheadMaxConcurrent, long bulkheadMaxWaitMillis) {
+            this.enabled = enabled;
+            this.windowSize = Math.max(1, windowSize);
+            this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+            this.failureRateThreshold = failureRateThreshold;
+            this.openSeconds = openSeconds;
+            this.halfOpenCalls = Math.max(1, halfOpenCalls);
+            this.bulkheadMaxConcurrent = Math.max(1, bulkheadMaxConcurrent);
+            this.bulkheadMaxWaitMillis = Math.max(0, bulkheadMaxWaitMillis);
+        }
+
+        @Override
+        public String toString() {
+            return "enabled=" + enabled + ", window=" + windowSize + ", minimumCalls=" + minimumCalls
+                    + ", failureRate=" + failureRateThreshold + "%, open=" + openSeconds + "s, halfOpenCalls=" + halfOpenCalls
+                    + ", maxConcurrent=" + bulkheadMaxConcurrent + ", maxWait=" + bulkheadMaxWaitMillis + "ms";
+        }
+    }
+}
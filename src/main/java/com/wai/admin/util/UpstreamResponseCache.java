@@ -0,0 +1,372 @@
+package com.wai.admin.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 외부 API GET 응답 private 캐시 (HttpUtil 전용)
+ * - 키: URL + 요청 본문 + 인증 범위(system_code, Cookie 헤더) → 사용자 간 응답 공유 없음
+ * - 신선한 동안(Cache-Control max-age 또는 경로별 TTL)은 외부 API 호출 없이 저장된 본문 반환
+ * - 신선도가 지나면 If-None-Match/If-Modified-Since로 재검증하고 304면 저장된 본문 사용
+ * - Cache-Control: no-store 응답은 저장하지 않고, no-cache 응답은 매번 재검증
+ * - 저장소: heap(기본) 또는 disk(로컬 디렉터리), 전체 본문 크기 상한을 넘으면 오래 사용하지 않은 항목부터 제거
+ */
+public final class UpstreamResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamResponseCache.class);
+
+    private static volatile Settings settings = Settings.disabled();
+    private static volatile Cache<String, Entry> cache;
+
+    private UpstreamResponseCache() {
+    }
+
+    /**
+     * 설정 등록 (HttpClientConfig에서 호출) - 기존 캐시 항목은 폐기
+     */
+    public static void configure(Settings newSettings) {
+        Cache<String, Entry> previous = cache;
+        settings = newSettings;
+        cache = newSettings.enabled ? buildCache(newSettings) : null;
+        if (previous != null) {
+            previous.invalidateAll();
+        }
+        logger.info("외부 API 응답 캐시 설정: {}", newSettings);
+    }
+
+    /**
+     * Micrometer 캐시 지표 등록용 binder (configure 이후 사용)
+     */
+    public static MeterBinder metrics() {
+        return registry -> {
+            Cache<String, Entry> current = cache;
+            if (current != null) {
+                CaffeineCacheMetrics.monitor(registry, current, "upstreamResponses");
+            }
+        };
+    }
+
+    public static boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 캐시 키 생성 (인증 정보가 포함되므로 로그에 남기지 않음)
+     */
+    public static String key(String url, String contentType, String requestBody, AuthContext authContext) {
+        return url + '\n' + contentType + '\n' + requestBody + '\n' + authContext.getSystemCode() + '\n'
+                + authContext.getCookieHeader();
+    }
+
+    /**
+     * 캐시 항목 조회
+     * @return 캐시 항목 (없으면 null)
+     */
+    public static Entry lookup(String key) {
+        Cache<String, Entry> current = cache;
+        return current != null ? current.getIfPresent(key) : null;
+    }
+
+    /**
+     * 200 응답 저장 - 저장 조건(no-store 아님, 검증자 또는 TTL 존재)을 만족하지 않으면 무시
+     * @param key 캐시 키
+     * @param url 요청 URL (경로별 TTL 적용)
+     * @param response 응답 헤더
+     * @param body 응답 본문
+     */
+    public static void store(String key, String url, HttpMessage response, String body) {
+        Cache<String, Entry> current = cache;
+        if (current == null || body == null) {
+            return;
+        }
+        Settings config = settings;
+        String cacheControl = headerValue(response, "Cache-Control");
+        if (hasDirective(cacheControl, "no-store")) {
+            return;
+        }
+        String etag = headerValue(response, "ETag");
+        String lastModified = headerValue(response, "Last-Modified");
+        long ttlMillis = config.ttlMillis(url, cacheControl);
+        if (etag == null && lastModified == null && ttlMillis <= 0) {
+            return;
+        }
+        long bodyBytes = body.getBytes(StandardCharsets.UTF_8).length;
+        if (bodyBytes > config.maxEntryBytes) {
+            return;
+        }
+
+        Path file = null;
+        if (config.diskDir != null) {
+            try {
+                file = config.diskDir.resolve(UUID.randomUUID().toString());
+                Files.writeString(file, body, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                logger.warn("외부 API 응답 캐시 파일 저장 실패: {}", e.getMessage());
+                return;
+            }
+        }
+        current.put(key, new Entry(file == null ? body : null, file, bodyBytes, etag, lastModified,
+                System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 304 응답으로 재검증 완료 - 신선도 갱신 (응답에 새 검증자가 있으면 반영)
+     */
+    public static void revalidated(Entry entry, String url, HttpMessage response) {
+        String cacheControl = headerValue(response, "Cache-Control");
+        String etag = headerValue(response, "ETag");
+        String lastModified = headerValue(response, "Last-Modified");
+        if (etag != null) {
+            entry.etag = etag;
+        }
+        if (lastModified != null) {
+            entry.lastModified = lastModified;
+        }
+        entry.freshUntil = System.currentTimeMillis() + settings.ttlMillis(url, cacheControl);
+    }
+
+    /**
+     * 캐시 항목 제거 (본문을 읽을 수 없는 경우 등)
+     */
+    public static void invalidate(String key) {
+        Cache<String, Entry> current = cache;
+        if (current != null) {
+            current.invalidate(key);
+        }
+    }
+
+    private static Cache<String, Entry> buildCache(Settings config) {
+        if (config.diskDir != null) {
+            try {
+                Files.createDirectories(config.diskDir);
+                // 인덱스는 메모리에만 있으므로 이전 실행에서 남은 파일 정리
+                try (Stream<Path> files = Files.list(config.diskDir)) {
+                    files.forEach(UpstreamResponseCache::deleteQuietly);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("외부 API 응답 캐시 디렉터리를 준비할 수 없습니다: " + config.diskDir, e);
+            }
+        }
+        return Caffeine.newBuilder()
+                .maximumWeight(config.maxBytes)
+                .weigher((String key, Entry entry) -> (int) Math.min(Integer.MAX_VALUE, entry.bodyBytes))
+                .expireAfterAccess(java.time.Duration.ofSeconds(config.idleSeconds))
+                .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (entry != null && entry.file != null) {
+                        deleteQuietly(entry.file);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("외부 API 응답 캐시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    private static String headerValue(HttpMessage message, String name) {
+        Header header = message.getFirstHeader(name);
+        return header != null ? header.getValue() : null;
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String part : cacheControl.split(",")) {
+            if (part.trim().toLowerCase().startsWith(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cache-Control max-age 값 (초), 없으면 -1
+     */
+    private static long maxAgeSeconds(String cacheControl) {
+        if (cacheControl == null) {
+            return -1;
+        }
+        for (String part : cacheControl.split(",")) {
+            String directive = part.trim().toLowerCase();
+            if (directive.startsWith("max-age=")) {
+                try {
+                    return Long.parseLong(directive.substring("max-age=".length()).replace("\"", ""));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 캐시 항목 - 본문은 heap(body) 또는 disk(file) 중 한 곳에 보관
+     */
+    public static final class Entry {
+        private final String body;
+        private final Path file;
+        private final long bodyBytes;
+        private volatile String etag;
+        private volatile String lastModified;
+        private volatile long freshUntil;
+
+        private Entry(String body, Path file, long bodyBytes, String etag, String lastModified, long freshUntil) {
+            this.body = body;
+            this.file = file;
+            this.bodyBytes = bodyBytes;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.freshUntil = freshUntil;
+        }
+
+        /**
+         * 재검증 없이 사용 가능한지 여부
+         */
+        public boolean isFresh() {
+            return System.currentTimeMillis() < freshUntil;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * 저장된 본문 (disk 저장소에서 파일이 삭제된 경우 null)
+         */
+        public String readBody() {
+            if (file == null) {
+                return body;
+            }
+            try {
+                return Files.readString(file, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                logger.warn("외부 API 응답 캐시 파일 읽기 실패: {}", e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 응답 캐시 설정
+     */
+    public static final class Settings {
+        private final boolean enabled;
+        private final Path diskDir;
+        private final long maxBytes;
+        private final long maxEntryBytes;
+        private final long idleSeconds;
+        private final long defaultTtlSeconds;
+        private final Map<String, Long> ttlOverrides;
+
+        /**
+         * @param enabled           사용 여부
+         * @param storage           저장소 (heap 또는 disk)
+         * @param diskDir           disk 저장소 디렉터리
+         * @param maxBytes          전체 본문 크기 상한 (바이트)
+         * @param maxEntryBytes     항목당 본문 크기 상한 (바이트, 초과 시 저장하지 않음)
+         * @param idleSeconds       사용되지 않은 항목 유지 시간 (초)
+         * @param defaultTtlSeconds 기본 신선도 유지 시간 (초, 0이면 응답의 max-age가 없을 때 매번 재검증)
+         * @param ttlOverrides      경로 prefix별 신선도 유지 시간 ("/api/v1/common/water_flow_types=300" 형식, 쉼표 구분)
+         */
+        public Settings(boolean enabled, String storage, String diskDir, long maxBytes, long maxEntryBytes,
+                long idleSeconds, long defaultTtlSeconds, String ttlOverrides) {
+            this.enabled = enabled;
+            this.diskDir = "disk".equalsIgnoreCase(storage) ? Paths.get(diskDir) : null;
+            this.maxBytes = Math.max(0, maxBytes);
+            this.maxEntryBytes = Math.max(0, Math.min(maxEntryBytes, this.maxBytes));
+            this.idleSeconds = Math.max(1, idleSeconds);
+            this.defaultTtlSeconds = Math.max(0, defaultTtlSeconds);
+            this.ttlOverrides = parseTtlOverrides(ttlOverrides);
+        }
+
+        static Settings disabled() {
+            return new Settings(false, "heap", null, 0, 0, 1, 0, null);
+        }
+
+        /**
+         * 신선도 유지 시간 - 경로별 TTL > 응답 max-age(no-cache면 0) > 기본 TTL
+         */
+        long ttlMillis(String url, String cacheControl) {
+            String path = pathOf(url);
+            String matched = null;
+            for (String prefix : ttlOverrides.keySet()) {
+                if (path.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                    matched = prefix;
+                }
+            }
+            if (matched != null) {
+                return ttlOverrides.get(matched) * 1000L;
+            }
+            if (hasDirective(cacheControl, "no-cache")) {
+                return 0;
+            }
+            long maxAge = maxAgeSeconds(cacheControl);
+            return (maxAge >= 0 ? maxAge : defaultTtlSeconds) * 1000L;
+        }
+
+        private static String pathOf(String url) {
+            try {
+                String path = java.net.URI.create(url).getPath();
+                return path != null ? path : "";
+            } catch (IllegalArgumentException e) {
+                return url;
+            }
+        }
+
+        private static Map<String, Long> parseTtlOverrides(String value) {
+            if (value == null || value.trim().isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, Long> overrides = new LinkedHashMap<>();
+            for (String item : value.split(",")) {
+                String[] pair = item.split("=", 2);
+                if (pair.length != 2) {
+                    continue;
+                }
+                try {
+                    overrides.put(pair[0].trim(), Math.max(0, Long.parseLong(pair[1].trim())));
+                } catch (NumberFormatException e) {
+                    logger.warn("외부 API 응답 캐시 TTL 설정 무시: {}", item);
+                }
+            }
+            return Collections.unmodifiableMap(overrides);
+        }
+
+        @Override
+        public String toString() {
+            return "enabled=" + enabled + ", storage=" + (diskDir != null ? "disk(" + diskDir + ")" : "heap")
+                    + ", maxBytes=" + maxBytes + ", maxEntryBytes=" + maxEntryBytes + ", idle=" + idleSeconds
+                    + "s, defaultTtl=" + defaultTtlSeconds + "s, ttlOverrides=" + ttlOverrides;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.wai.admin.service.machine;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.wai.admin.service.user.UserIdentityService;
+import com.wai.admin.util.AuthContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class ChunkedUploadServiceTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.UTF_8);
+    private static final int CHUNK_SIZE = 10;
+
+    @TempDir
+    Path uploadDir;
+
+    private ChunkedUploadService chunkedUploadService;
+    private Asset3DService asset3DService;
+    private UserIdentityService userIdentityService;
+    private final AtomicReference<byte[]> uploadedBytes = new AtomicReference<>();
+    private final AtomicReference<String> uploadedName = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        asset3DService = Mockito.mock(Asset3DService.class);
+        Mockito.when(asset3DService.uploadLibraryModel(any(MultipartFile.class), eq("LIB-1"))).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(0);
+            uploadedBytes.set(file.getBytes());
+            uploadedName.set(file.getOriginalFilename());
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("status", 200);
+            return result;
+        });
+
+        userIdentityService = Mockito.mock(UserIdentityService.class);
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn("SYS:user1");
+
+        chunkedUploadService = new ChunkedUploadService();
+        ReflectionTestUtils.setField(chunkedUploadService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(chunkedUploadService, "defaultChunkBytes", 8L);
+        ReflectionTestUtils.setField(chunkedUploadService, "maxChunkBytes", 64L);
+        ReflectionTestUtils.setField(chunkedUploadService, "maxFileBytes", 1024L);
+        ReflectionTestUtils.setField(chunkedUploadService, "expireMinutes", 60L);
+        ReflectionTestUtils.setField(chunkedUploadService, "asset3DService", asset3DService);
+        ReflectionTestUtils.setField(chunkedUploadService, "userIdentityService", userIdentityService);
+        chunkedUploadService.init();
+    }
+
+    @Test
+    void completeUpload_ShouldAssembleChunksReceivedOutOfOrder() throws Exception {
+        String uploadId = startUpload();
+
+        for (int index : new int[] {3, 1, 0, 2}) {
+            Map<String, Object> result = putChunk(uploadId, index, sha256(chunk(index)), chunk(index));
+            assertEquals(true, result.get("success"), String.valueOf(result.get("message")));
+        }
+        Map<String, Object> result = chunkedUploadService.completeUpload(uploadId);
+
+        assertEquals(true, result.get("success"));
+        assertArrayEquals(CONTENT, uploadedBytes.get());
+        assertEquals("model.glb", uploadedName.get());
+        assertEquals(404, chunkedUploadService.getStatus(uploadId).get("status"));
+        assertEquals(0, countFiles(uploadDir));
+    }
+
+    @Test
+    void getStatus_ShouldListMissingChunks() {
+        String uploadId = startUpload();
+        putChunk(uploadId, 2, null, chunk(2));
+
+        Map<String, Object> status = chunkedUploadService.getStatus(uploadId);
+
+        assertEquals(List.of(0, 1, 3), response(status).get("missing_chunks"));
+        assertEquals(4, response(status).get("total_chunks"));
+    }
+
+    @Test
+    void completeUpload_ShouldRejectWhenChunksAreMissing() {
+        String uploadId = startUpload();
+        putChunk(uploadId, 0, null, chunk(0));
+
+        Map<String, Object> result = chunkedUploadService.completeUpload(uploadId);
+
+        assertEquals(409, result.get("status"));
+        assertEquals(Map.of("missing_chunks", List.of(1, 2, 3)), result.get("response"));
+        Mockito.verifyNoInteractions(asset3DService);
+
+        // 세션이 유지되어 누락된 조각만 이어 올린 후 완료 가능
+        Map<String, Object> status = chunkedUploadService.getStatus(uploadId);
+        assertEquals(200, status.get("status"));
+        assertEquals(List.of(1, 2, 3), response(status).get("missing_chunks"));
+        for (int index = 1; index < 4; index++) {
+            assertEquals(true, putChunk(uploadId, index, null, chunk(index)).get("success"));
+        }
+        Map<String, Object> completed = chunkedUploadService.completeUpload(uploadId);
+        assertEquals(true, completed.get("success"));
+        assertArrayEquals(CONTENT, uploadedBytes.get());
+    }
+
+    @Test
+    void completeUpload_ShouldCleanUpWhenForwardFails() throws Exception {
+        Mockito.when(asset3DService.uploadLibraryModel(any(MultipartFile.class), eq("LIB-1")))
+                .thenThrow(new IllegalStateException("upstream down"));
+        String uploadId = startUpload();
+        for (int index = 0; index < 4; index++) {
+            putChunk(uploadId, index, null, chunk(index));
+        }
+
+        assertThrows(IllegalStateException.class, () -> chunkedUploadService.completeUpload(uploadId));
+
+        assertEquals(404, chunkedUploadService.getStatus(uploadId).get("status"));
+        assertEquals(0, countFiles(uploadDir));
+    }
+
+    @Test
+    void initUpload_ShouldRejectWhenUserCannotBeIdentified() throws Exception {
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn(null);
+
+        Map<String, Object> result = chunkedUploadService.initUpload(uploadParams());
+
+        assertEquals(401, result.get("status"));
+        assertEquals(0, countFiles(uploadDir));
+    }
+
+    @Test
+    void session_ShouldBeHiddenFromOtherUsers() {
+        String uploadId = startUpload();
+        putChunk(uploadId, 0, null, chunk(0));
+
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn("SYS:user2");
+        assertEquals(404, putChunk(uploadId, 1, null, chunk(1)).get("status"));
+        assertEquals(404, chunkedUploadService.getStatus(uploadId).get("status"));
+        assertEquals(404, chunkedUploadService.completeUpload(uploadId).get("status"));
+        assertEquals(404, chunkedUploadService.abortUpload(uploadId).get("status"));
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn(null);
+        assertEquals(404, chunkedUploadService.getStatus(uploadId).get("status"));
+
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn("SYS:user1");
+        assertEquals(List.of(1, 2, 3), response(chunkedUploadService.getStatus(uploadId)).get("missing_chunks"));
+    }
+
+    @Test
+    void putChunk_ShouldKeepAcceptedChunkWhenResendFailsChecksum() throws Exception {
+        String uploadId = startUpload();
+        for (int index = 0; index < 4; index++) {
+            putChunk(uploadId, index, null, chunk(index));
+        }
+
+        byte[] corrupted = "XXXXXXXXXX".getBytes(StandardCharsets.UTF_8);
+        Map<String, Object> resend = putChunk(uploadId, 1, sha256(chunk(1)), corrupted);
+        Map<String, Object> status = chunkedUploadService.getStatus(uploadId);
+        Map<String, Object> result = chunkedUploadService.completeUpload(uploadId);
+
+        assertEquals(422, resend.get("status"));
+        assertEquals(List.of(), response(status).get("missing_chunks"));
+        assertEquals(true, result.get("success"));
+        assertArrayEquals(CONTENT, uploadedBytes.get());
+    }
+
+    @Test
+    void putChunk_ShouldRejectWrongSizeAndOffset() {
+        String uploadId = startUpload();
+
+        Map<String, Object> tooLong = chunkedUploadService.putChunk(uploadId, 0, null, -1,
+                new ByteArrayInputStream(Arrays.copyOf(CONTENT, CHUNK_SIZE + 1)));
+        Map<String, Object> declaredShort = chunkedUploadService.putChunk(uploadId, 30, null, CHUNK_SIZE,
+                new ByteArrayInputStream(chunk(3)));
+        Map<String, Object> accepted = putChunk(uploadId, 0, null, chunk(0));
+        Map<String, Object> badOffset = chunkedUploadService.putChunk(uploadId, 5, null, -1,
+                new ByteArrayInputStream(chunk(0)));
+
+        assertEquals(400, tooLong.get("status"));
+        assertEquals(400, declaredShort.get("status"));
+        assertEquals(true, accepted.get("success"));
+        assertEquals(400, badOffset.get("status"));
+        assertEquals(List.of(1, 2, 3), response(chunkedUploadService.getStatus(uploadId)).get("missing_chunks"));
+    }
+
+    @Test
+    void abortUpload_ShouldRemoveSessionAndFiles() throws Exception {
+        String uploadId = startUpload();
+        putChunk(uploadId, 0, null, chunk(0));
+
+        Map<String, Object> result = chunkedUploadService.abortUpload(uploadId);
+
+        assertEquals(true, result.get("success"));
+        assertEquals(404, putChunk(uploadId, 1, null, chunk(1)).get("status"));
+        assertEquals(404, chunkedUploadService.abortUpload(uploadId).get("status"));
+        assertEquals(0, countFiles(uploadDir));
+    }
+
+    private String startUpload() {
+        Map<String, Object> result = chunkedUploadService.initUpload(uploadParams());
+        assertEquals(true, result.get("success"), String.valueOf(result.get("message")));
+        return response(result).get("upload_id").toString();
+    }
+
+    private static Map<String, Object> uploadParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("file_name", "model.glb");
+        params.put("file_size", CONTENT.length);
+        params.put("chunk_size", CHUNK_SIZE);
+        params.put("target", "library_model");
+        params.put("library_id", "LIB-1");
+        return params;
+    }
+
+    private Map<String, Object> putChunk(String uploadId, int index, String checksum, byte[] data) {
+        return chunkedUploadService.putChunk(uploadId, (long) index * CHUNK_SIZE, checksum, data.length,
+                new ByteArrayInputStream(data));
+    }
+
+    private static byte[] chunk(int index) {
+        int from = index * CHUNK_SIZE;
+        return Arrays.copyOfRange(CONTENT, from, Math.min(CONTENT.length, from + CHUNK_SIZE));
+    }
+
+    private static String sha256(byte[] data) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> response(Map<String, Object> result) {
+        return (Map<String, Object>) result.get("response");
+    }
+
+    private static long countFiles(Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
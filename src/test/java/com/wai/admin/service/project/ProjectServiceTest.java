@@ -0,0 +1,120 @@
+package com.wai.admin.service.project;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wai.admin.config.UpstreamExecutorConfig;
+import com.wai.admin.util.CommonCodeUtil;
+import com.wai.admin.util.JsonUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProjectServiceTest {
+
+    private HttpServer server;
+    private ThreadPoolTaskExecutor upstreamExecutor;
+    private ProjectService projectService;
+    private final List<Map<String, Object>> codeSearchBodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        startServer();
+
+        CommonCodeUtil commonCodeUtil = new CommonCodeUtil();
+        ReflectionTestUtils.setField(commonCodeUtil, "authServerBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(commonCodeUtil, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(commonCodeUtil, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(commonCodeUtil, "cacheTtlSeconds", 600L);
+        commonCodeUtil.initCache();
+
+        // 운영과 같은 설정(TaskDecorator 포함)의 실제 스레드 풀 사용
+        UpstreamExecutorConfig executorConfig = new UpstreamExecutorConfig();
+        ReflectionTestUtils.setField(executorConfig, "corePoolSize", 6);
+        ReflectionTestUtils.setField(executorConfig, "maxPoolSize", 6);
+        ReflectionTestUtils.setField(executorConfig, "queueCapacity", 10);
+        upstreamExecutor = executorConfig.upstreamExecutor();
+
+        projectService = new ProjectService();
+        ReflectionTestUtils.setField(projectService, "commonCodeUtil", commonCodeUtil);
+        ReflectionTestUtils.setField(projectService, "upstreamExecutor", upstreamExecutor);
+        ReflectionTestUtils.setField(projectService, "commonCodeTimeoutMillis", 5000L);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("authSuper", "false");
+        request.addHeader("wai_lang", "en");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        upstreamExecutor.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void getProjectCommonCodes_ShouldUseRequestHeadersOnWorkerThreadsWithoutBoundRequest() throws Exception {
+        assertNull(upstreamExecutor.submit(RequestContextHolder::getRequestAttributes).get(5, TimeUnit.SECONDS));
+
+        Map<String, Object> result = projectService.getProjectCommonCodes();
+
+        assertEquals(true, result.get("success"), String.valueOf(result));
+        assertEquals(200, result.get("status"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> response = (Map<String, Object>) result.get("response");
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> bizTypeCodes = (List<Map<String, Object>>) response.get("bizTypeCodes");
+        assertEquals("Business", bizTypeCodes.get(0).get("code_value"));
+        assertNotNull(response.get("unitCodes"));
+
+        // 작업 스레드의 공통코드 조회에도 요청 헤더의 authSuper가 반영됨
+        assertEquals(5, codeSearchBodies.size());
+        for (Map<String, Object> body : codeSearchBodies) {
+            assertEquals(false, body.get("is_admin_only"));
+        }
+    }
+
+    /**
+     * 인증 서버 대역 - 공통코드 검색과 단위 시스템 검색 응답
+     */
+    private void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/common/common_codes/search", exchange -> {
+            String requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            codeSearchBodies.add(JsonUtil.parseJson(requestBody));
+            respond(exchange, "{\"items\":[{\"code_value\":\"비즈니스\",\"code_value_en\":\"Business\"}]}");
+        });
+        server.createContext("/api/v1/common/unit_systems/search",
+                exchange -> respond(exchange, "{\"items\":[{\"system_code\":\"SI\"}]}"));
+        server.start();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.wai.admin.service.user.UserIdentityService;
+import com.wai.admin.util.AuthContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class ReportArtifactCacheTest {
+
+    private static final String TEMPLATE_URL = "http://minio/templates/ccs.xlsx?X-Amz-Signature=abc";
+
+    @TempDir
+    Path cacheDir;
+
+    private ReportArtifactCache reportArtifactCache;
+    private ExcelTemplateCache excelTemplateCache;
+    private UserIdentityService userIdentityService;
+    private final AtomicInteger writes = new AtomicInteger();
+
+    private HttpServer server;
+    private final AtomicReference<String> dataJson = new AtomicReference<>("{\"rows\":[1]}");
+    private final List<String> dataRequests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        excelTemplateCache = Mockito.mock(ExcelTemplateCache.class);
+        userIdentityService = Mockito.mock(UserIdentityService.class);
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn("SYS:user1");
+
+        reportArtifactCache = new ReportArtifactCache();
+        ReflectionTestUtils.setField(reportArtifactCache, "enabled", true);
+        ReflectionTestUtils.setField(reportArtifactCache, "cacheDir", cacheDir.toString());
+        ReflectionTestUtils.setField(reportArtifactCache, "maxBytes", 1024L);
+        ReflectionTestUtils.setField(reportArtifactCache, "maxAgeMinutes", 60L);
+        ReflectionTestUtils.setField(reportArtifactCache, "revalidateSeconds", 0L);
+        ReflectionTestUtils.setField(reportArtifactCache, "timeoutMillis", 5000);
+        ReflectionTestUtils.setField(reportArtifactCache, "excelTemplateCache", excelTemplateCache);
+        ReflectionTestUtils.setField(reportArtifactCache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(reportArtifactCache, "userIdentityService", userIdentityService);
+        reportArtifactCache.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void getOrCreate_ShouldReuseArtifactForSameParameters() throws Exception {
+        String first = read(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("report")));
+        ReportArtifactCache.Artifact second = reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("other"));
+
+        assertTrue(second.isCacheHit());
+        assertEquals(6, second.getSize());
+        assertEquals(first, read(second));
+        assertEquals(1, writes.get());
+    }
+
+    @Test
+    void getOrCreate_ShouldSeparateByTypeParametersAndUser() throws Exception {
+        read(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("a")));
+        ReportArtifactCache.Artifact otherType = reportArtifactCache.getOrCreate("processcapa", params("P1"), writer("b"));
+        ReportArtifactCache.Artifact otherProject = reportArtifactCache.getOrCreate("machinelist", params("P2"), writer("c"));
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn("SYS:user2");
+        ReportArtifactCache.Artifact otherUser = reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("d"));
+
+        assertFalse(otherType.isCacheHit());
+        assertFalse(otherProject.isCacheHit());
+        assertFalse(otherUser.isCacheHit());
+        assertEquals("d", read(otherUser));
+        otherType.close();
+        otherProject.close();
+    }
+
+    @Test
+    void getOrCreate_ShouldNotCacheWhenUserCannotBeIdentified() throws Exception {
+        Mockito.when(userIdentityService.resolve(any(AuthContext.class))).thenReturn(null);
+
+        assertEquals("a", read(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("a"))));
+        ReportArtifactCache.Artifact second = reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("b"));
+
+        assertFalse(second.isCacheHit());
+        assertEquals("b", read(second));
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void getOrCreate_ShouldKeyOnDataJsonContentIgnoringQueryString() throws Exception {
+        startDataServer();
+        Map<String, Object> params = params("P1");
+
+        params.put("jsonUrl", dataUrl("sig=1"));
+        read(reportArtifactCache.getOrCreate("massbalancelist", params, writer("v1")));
+        params.put("jsonUrl", dataUrl("sig=2"));
+        ReportArtifactCache.Artifact sameContent = reportArtifactCache.getOrCreate("massbalancelist", params, writer("x"));
+        dataJson.set("{\"rows\":[2]}");
+        ReportArtifactCache.Artifact changedContent = reportArtifactCache.getOrCreate("massbalancelist", params, writer("v2"));
+
+        assertTrue(sameContent.isCacheHit());
+        assertEquals("v1", read(sameContent));
+        assertFalse(changedContent.isCacheHit());
+        assertEquals("v2", read(changedContent));
+        // 두 번째 요청부터는 이전 ETag로 조건부 요청
+        String firstEtag = etag("{\"rows\":[1]}");
+        assertEquals(List.of("", firstEtag, firstEtag), dataRequests);
+    }
+
+    @Test
+    void getOrCreate_ShouldRegenerateWhenTemplateVersionChanges() throws Exception {
+        Mockito.when(excelTemplateCache.getVersion(anyString())).thenReturn("hash-1");
+        ReportArtifactCache.ArtifactWriter templateWriter = (out, templateUrls) -> {
+            templateUrls.add(TEMPLATE_URL);
+            out.write(("run" + writes.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+        };
+
+        read(reportArtifactCache.getOrCreate("processcapa", params("P1"), templateWriter));
+        ReportArtifactCache.Artifact unchanged = reportArtifactCache.getOrCreate("processcapa", params("P1"), templateWriter);
+        Mockito.when(excelTemplateCache.getVersion(anyString())).thenReturn("hash-2");
+        ReportArtifactCache.Artifact changed = reportArtifactCache.getOrCreate("processcapa", params("P1"), templateWriter);
+
+        assertTrue(unchanged.isCacheHit());
+        assertEquals("run1", read(unchanged));
+        assertFalse(changed.isCacheHit());
+        assertEquals("run2", read(changed));
+    }
+
+    @Test
+    void invalidate_ShouldRemoveOnlyMatchingProject() throws Exception {
+        read(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("a")));
+        read(reportArtifactCache.getOrCreate("machinelist", params("P2"), writer("b")));
+
+        assertEquals(1, reportArtifactCache.invalidate(" P1 "));
+        assertFalse(isCacheHit(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("c"))));
+        assertTrue(isCacheHit(reportArtifactCache.getOrCreate("machinelist", params("P2"), writer("d"))));
+        assertEquals(2, reportArtifactCache.invalidate(null));
+    }
+
+    @Test
+    void getOrCreate_ShouldEvictLeastRecentlyUsedWhenOverLimit() throws Exception {
+        ReflectionTestUtils.setField(reportArtifactCache, "maxBytes", 10L);
+
+        read(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("11111")));
+        Thread.sleep(5);
+        read(reportArtifactCache.getOrCreate("machinelist", params("P2"), writer("22222")));
+        Thread.sleep(5);
+        // P1을 다시 사용하여 P2가 가장 오래 사용되지 않은 항목이 됨
+        assertTrue(isCacheHit(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("x"))));
+        Thread.sleep(5);
+        read(reportArtifactCache.getOrCreate("machinelist", params("P3"), writer("33333")));
+
+        ReportArtifactCache.Artifact p1 = reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("x"));
+        assertTrue(p1.isCacheHit());
+        p1.close();
+        assertFalse(isCacheHit(reportArtifactCache.getOrCreate("machinelist", params("P2"), writer("x"))));
+    }
+
+    @Test
+    void artifact_ShouldStayReadableAfterInvalidation() throws Exception {
+        read(reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("cached report")));
+        ReportArtifactCache.Artifact hit = reportArtifactCache.getOrCreate("machinelist", params("P1"), writer("x"));
+
+        reportArtifactCache.invalidate(null);
+
+        assertTrue(hit.isCacheHit());
+        assertEquals("cached report", read(hit));
+    }
+
+    private Map<String, Object> params(String projectId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("project_id", projectId);
+        params.put("lang", "ko");
+        return params;
+    }
+
+    private ReportArtifactCache.ArtifactWriter writer(String content) {
+        return (out, templateUrls) -> {
+            writes.incrementAndGet();
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private static boolean isCacheHit(ReportArtifactCache.Artifact artifact) throws Exception {
+        try (artifact) {
+            return artifact.isCacheHit();
+        }
+    }
+
+    private static String read(ReportArtifactCache.Artifact artifact) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        artifact.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * 데이터 JSON 대역 - 내용의 hashCode를 ETag로 사용하고 If-None-Match가 같으면 304 응답
+     */
+    private void startDataServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            dataRequests.add(ifNoneMatch != null ? ifNoneMatch : "");
+            byte[] body = dataJson.get().getBytes(StandardCharsets.UTF_8);
+            String etag = etag(dataJson.get());
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+    }
+
+    private static String etag(String content) {
+        return "\"" + Integer.toHexString(content.hashCode()) + "\"";
+    }
+
+    private String dataUrl(String query) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/reports/data.json?" + query;
+    }
+}
@@ -0,0 +1,96 @@
+package com.wai.admin.service.reports.calculate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XlsxSheetNameReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void read_ShouldReturnSheetNamesInWorkbookOrder() throws Exception {
+        Path file = tempDir.resolve("report.xlsx");
+        List<String> expected = new ArrayList<>();
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            workbook.createSheet("표지");
+            workbook.createSheet("Data & Calc");
+            workbook.createSheet("숨김");
+            workbook.createSheet("Summary");
+            workbook.setSheetHidden(2, true);
+            workbook.setSheetOrder("Summary", 1);
+            workbook.write(out);
+            for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+                expected.add(workbook.getSheetAt(i).getSheetName());
+            }
+        }
+
+        List<String> sheetNames = XlsxSheetNameReader.read(file);
+
+        assertEquals(List.of("표지", "Summary", "Data & Calc", "숨김"), expected);
+        assertEquals(expected, sheetNames);
+        assertThrows(UnsupportedOperationException.class, () -> sheetNames.add("x"));
+    }
+
+    @Test
+    void read_ShouldLocateWorkbookPartFromPackageRelationships() throws Exception {
+        Path file = tempDir.resolve("custom.xlsx");
+        writeZip(file,
+                "_rels/.rels", "<?xml version=\"1.0\"?>"
+                        + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                        + "<Relationship Id=\"rId1\" Type=\"http://schemas.openxmlformats.org/package/2006/relationships/metadata/core-properties\" Target=\"docProps/core.xml\"/>"
+                        + "<Relationship Id=\"rId2\" Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\" Target=\"/custom/book.xml\"/>"
+                        + "</Relationships>",
+                "custom/book.xml", "<?xml version=\"1.0\"?>"
+                        + "<workbook xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\">"
+                        + "<sheets><sheet name=\"A\" sheetId=\"1\"/><sheet name=\"B\" sheetId=\"2\"/></sheets>"
+                        + "<definedNames><definedName name=\"sheet\">A!$A$1</definedName></definedNames>"
+                        + "</workbook>");
+
+        assertEquals(List.of("A", "B"), XlsxSheetNameReader.read(file));
+    }
+
+    @Test
+    void read_ShouldFailWhenWorkbookPartIsMissing() throws Exception {
+        Path noWorkbook = tempDir.resolve("empty.xlsx");
+        writeZip(noWorkbook, "docProps/core.xml", "<coreProperties/>");
+        Path notZip = tempDir.resolve("text.xlsx");
+        Files.writeString(notZip, "not a zip file");
+
+        assertThrows(IOException.class, () -> XlsxSheetNameReader.read(noWorkbook));
+        assertThrows(IOException.class, () -> XlsxSheetNameReader.read(notZip));
+    }
+
+    @Test
+    void read_ShouldRejectDoctypeDeclaration() throws Exception {
+        Path file = tempDir.resolve("xxe.xlsx");
+        writeZip(file, "xl/workbook.xml", "<?xml version=\"1.0\"?>"
+                + "<!DOCTYPE workbook [<!ENTITY xxe SYSTEM \"file:///etc/hostname\">]>"
+                + "<workbook><sheets><sheet name=\"&xxe;\"/></sheets></workbook>");
+
+        assertThrows(IOException.class, () -> XlsxSheetNameReader.read(file));
+    }
+
+    private static void writeZip(Path file, String... entries) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                zip.write(entries[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+    }
+}
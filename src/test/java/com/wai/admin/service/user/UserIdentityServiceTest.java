@@ -0,0 +1,102 @@
+package com.wai.admin.service.user;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.wai.admin.util.AuthContext;
+
+import jakarta.servlet.http.Cookie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserIdentityServiceTest {
+
+    private HttpServer server;
+    private UserIdentityService userIdentityService;
+    private final AtomicReference<String> verifyBody = new AtomicReference<>("{\"valid\":true}");
+    private final AtomicInteger verifyCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/v1/auth/verify", exchange -> {
+            verifyCalls.incrementAndGet();
+            byte[] body = verifyBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        userIdentityService = new UserIdentityService();
+        ReflectionTestUtils.setField(userIdentityService, "authServerBaseUrl", "http://127.0.0.1:" + server.getAddress().getPort());
+        ReflectionTestUtils.setField(userIdentityService, "cacheMinutes", 10L);
+        ReflectionTestUtils.setField(userIdentityService, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(userIdentityService, "objectMapper", new ObjectMapper());
+        userIdentityService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void resolve_ShouldReturnVerifiedUserAndCacheVerification() {
+        AuthContext authContext = authContext("user1");
+
+        assertEquals("WAI_WEB_VIEW:user1", userIdentityService.resolve(authContext));
+        assertEquals("WAI_WEB_VIEW:user1", userIdentityService.resolve(authContext));
+        assertEquals(1, verifyCalls.get());
+    }
+
+    @Test
+    void resolve_ShouldRejectWhenVerificationSaysInvalid() {
+        verifyBody.set("{\"valid\":false}");
+
+        assertNull(userIdentityService.resolve(authContext("user1")));
+    }
+
+    @Test
+    void resolve_ShouldFailClosedWhenVerificationResponseIsUnreadable() {
+        verifyBody.set("<html>gateway</html>");
+
+        assertNull(userIdentityService.resolve(authContext("user1")));
+    }
+
+    @Test
+    void resolve_ShouldReturnNullWithoutSystemCodeOrToken() {
+        MockHttpServletRequest noSystemCode = new MockHttpServletRequest();
+        noSystemCode.setCookies(new Cookie("webView_access", "header.payload.signature"));
+        MockHttpServletRequest noToken = new MockHttpServletRequest();
+        noToken.addHeader("system_code", "WAI_WEB_VIEW");
+
+        assertNull(userIdentityService.resolve(AuthContext.EMPTY));
+        assertNull(userIdentityService.resolve(AuthContext.resolve(noSystemCode)));
+        assertNull(userIdentityService.resolve(AuthContext.resolve(noToken)));
+        assertEquals(0, verifyCalls.get());
+    }
+
+    private static AuthContext authContext(String userId) {
+        String payload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("{\"user_id\":\"" + userId + "\"}").getBytes(StandardCharsets.UTF_8));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("system_code", "WAI_WEB_VIEW");
+        request.setCookies(new Cookie("webView_access", "header." + payload + ".signature"));
+        return AuthContext.resolve(request);
+    }
+}
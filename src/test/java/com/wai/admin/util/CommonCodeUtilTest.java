@@ -0,0 +1,165 @@
+package com.wai.admin.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommonCodeUtilTest {
+
+    private CommonCodeUtil commonCodeUtil;
+
+    @BeforeEach
+    void setUp() {
+        commonCodeUtil = new CommonCodeUtil();
+        ReflectionTestUtils.setField(commonCodeUtil, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(commonCodeUtil, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(commonCodeUtil, "cacheTtlSeconds", 600L);
+        commonCodeUtil.initCache();
+    }
+
+    @Test
+    void getCachedBundle_ShouldLoadOnceAndReturnIndependentCopies() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Map<String, Object>> loader = () -> {
+            loads.incrementAndGet();
+            return successResult(new ArrayList<>(List.of("A", "B")));
+        };
+
+        Map<String, Object> first = commonCodeUtil.getCachedBundle("projectCommonCodes", loader);
+        @SuppressWarnings("unchecked")
+        List<Object> firstData = (List<Object>) first.get("data");
+        firstData.add("modified");
+        first.put("extra", true);
+
+        Map<String, Object> second = commonCodeUtil.getCachedBundle("projectCommonCodes", loader);
+        Map<String, Object> third = commonCodeUtil.getCachedBundle("projectCommonCodes", loader);
+        @SuppressWarnings("unchecked")
+        List<Object> secondData = (List<Object>) second.get("data");
+        secondData.clear();
+
+        assertEquals(1, loads.get());
+        assertFalse(second.containsKey("extra"));
+        assertEquals(List.of("A", "B"), third.get("data"));
+        assertNotSame(second, third);
+    }
+
+    @Test
+    void getCachedBundle_ShouldKeepKeyOrderOnCacheHit() {
+        Supplier<Map<String, Object>> loader = () -> successResult(List.of());
+        List<String> loadedOrder = List.copyOf(commonCodeUtil.getCachedBundle("ordered", loader).keySet());
+
+        Map<String, Object> cached = commonCodeUtil.getCachedBundle("ordered", loader);
+
+        assertInstanceOf(LinkedHashMap.class, cached);
+        assertEquals(loadedOrder, List.copyOf(cached.keySet()));
+    }
+
+    @Test
+    void getCachedBundle_ShouldNotCacheFailedResult() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Map<String, Object>> loader = () -> {
+            loads.incrementAndGet();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("success", false);
+            result.put("status", 500);
+            return result;
+        };
+
+        commonCodeUtil.getCachedBundle("failing", loader);
+        commonCodeUtil.getCachedBundle("failing", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getCachedBundle_ShouldSeparateEntriesByLanguageAndAuthSuper() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Map<String, Object>> loader = () -> successResult(List.of(loads.incrementAndGet()));
+
+        Supplier<Map<String, Object>> bundle = () -> commonCodeUtil.getCachedBundle("bundle", loader);
+
+        bundle.get();
+        headers("wai_lang", "en").wrap(bundle).get();
+        headers("wai_lang", "en", "authSuper", "false").wrap(bundle).get();
+        headers("wai_lang", " en ", "authSuper", "false").wrap(bundle).get();
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictCommonCodes_ShouldRemoveOnlyMatchingDepthGroupAndKeepUnitSystems() {
+        Cache<String, Map<String, Object>> cache = cache();
+        cache.put("search|{}|authSuper=null|default", successResult(List.of()));
+        cache.put("bundle|projectCommonCodes|authSuper=null|default", successResult(List.of()));
+        cache.put("depth|GROUP_A|ROOT|1|default", successResult(List.of()));
+        cache.put("depth|GROUP_AB|ROOT|1|default", successResult(List.of()));
+        cache.put("unit|default", successResult(List.of()));
+
+        commonCodeUtil.evictCommonCodes(" GROUP_A ");
+
+        assertEquals(Arrays.asList("depth|GROUP_AB|ROOT|1|default", "unit|default"),
+                cache.asMap().keySet().stream().sorted().toList());
+    }
+
+    @Test
+    void evictCommonCodes_ShouldRemoveAllDepthEntriesWhenGroupUnknown() {
+        Cache<String, Map<String, Object>> cache = cache();
+        cache.put("search|{}|authSuper=null|default", successResult(List.of()));
+        cache.put("depth|GROUP_A|ROOT|1|default", successResult(List.of()));
+        cache.put("depth|GROUP_B|ROOT|2|en", successResult(List.of()));
+        cache.put("unit|en", successResult(List.of()));
+
+        commonCodeUtil.evictCommonCodes(null);
+
+        assertEquals(List.of("unit|en"), List.copyOf(cache.asMap().keySet()));
+    }
+
+    @Test
+    void evictCommonCodes_ShouldForceBundleReload() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Map<String, Object>> loader = () -> successResult(List.of(loads.incrementAndGet()));
+
+        commonCodeUtil.getCachedBundle("bundle", loader);
+        commonCodeUtil.evictCommonCodes("ANY");
+        Map<String, Object> reloaded = commonCodeUtil.getCachedBundle("bundle", loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(List.of(2), reloaded.get("data"));
+    }
+
+    private static AuthContext headers(String... headers) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        return AuthContext.resolve(request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Map<String, Object>> cache() {
+        return (Cache<String, Map<String, Object>>) ReflectionTestUtils.getField(commonCodeUtil, "commonCodeCache");
+    }
+
+    private static Map<String, Object> successResult(Object data) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("success", true);
+        result.put("status", 200);
+        result.put("data", data);
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+package com.wai.admin.util;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpUtilTest {
+
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 50, 1000));
+    }
+
+    @Test
+    void streamDownload_ShouldHoldBulkheadSlotUntilBodyIsStreamed() throws Exception {
+        // 라우트당 동시 호출 1개, 대기 없음
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 1, 0));
+        CountDownLatch finishBody = new CountDownLatch(1);
+        byte[] firstHalf = "0123456789".getBytes(StandardCharsets.UTF_8);
+        byte[] secondHalf = "abcdefghij".getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(200, firstHalf.length + secondHalf.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(firstHalf);
+                out.flush();
+                finishBody.await(5, TimeUnit.SECONDS);
+                out.write(secondHalf);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/minio/files/1";
+
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        Thread download = new Thread(() -> {
+            try {
+                HttpUtil.streamDownload(url, "ok", "fail", null, servletResponse);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        download.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (servletResponse.getContentAsByteArray().length < firstHalf.length && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // 본문 전송 중에는 슬롯을 점유하고 있으므로 같은 라우트의 다른 호출은 거부
+        UpstreamGuard.Permit duringStream = UpstreamGuard.tryAcquire(url);
+        assertFalse(duringStream.isAllowed());
+
+        finishBody.countDown();
+        download.join(5000);
+        assertEquals("0123456789abcdefghij", servletResponse.getContentAsString());
+        UpstreamGuard.Permit afterStream = UpstreamGuard.tryAcquire(url);
+        assertTrue(afterStream.isAllowed());
+        afterStream.release(true);
+    }
+
+    @Test
+    void getAsync_ShouldCompleteImmediatelyWhenBulkheadIsFull() throws Exception {
+        // 동기 호출이라면 5초까지 슬롯을 기다리는 설정
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 1, 5000));
+        String url = "http://127.0.0.1:1/api/v1/process/list";
+        UpstreamGuard.Permit held = UpstreamGuard.tryAcquire(url);
+
+        long started = System.nanoTime();
+        CompletableFuture<HttpUtil.HttpResult> future = HttpUtil.getAsync(url, "application/json", "");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1000, "elapsed=" + elapsedMillis + "ms");
+        assertTrue(future.isDone());
+        assertEquals(-1, future.get().getStatus());
+        assertTrue(future.get().getErrorMessage().contains("동시 요청"));
+        held.release(true);
+    }
+
+    @Test
+    void passThrough_ShouldWrapUpstreamJsonAndUseNullForEmptyBody() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = exchange.getRequestURI().getPath().endsWith("/empty")
+                    ? new byte[0] : "{\"items\":[1,2]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length > 0 ? body.length : -1);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/process";
+
+        MockHttpServletResponse items = new MockHttpServletResponse();
+        HttpUtil.passThrough(baseUrl + "/list", "GET", "application/json", "", "ok", "fail", items);
+        MockHttpServletResponse empty = new MockHttpServletResponse();
+        HttpUtil.passThrough(baseUrl + "/empty", "GET", "application/json", "", "ok", "fail", empty);
+
+        assertEquals(200, items.getStatus());
+        assertEquals("{\"success\":true,\"status\":200,\"message\":\"ok\",\"response\":{\"items\":[1,2]}}",
+                items.getContentAsString(StandardCharsets.UTF_8));
+        assertEquals("{\"success\":true,\"status\":200,\"message\":\"ok\",\"response\":null}",
+                empty.getContentAsString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,92 @@
+package com.wai.admin.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonUtilTest {
+
+    @Test
+    void parseJson_ShouldKeepFieldOrderAndValueTypes() {
+        Map<String, Object> result = JsonUtil.parseJson(
+                "{\"z\":\"text\",\"a\":42,\"m\":1.5,\"e\":1e3,\"t\":true,\"f\":false,\"n\":null}");
+
+        assertNotNull(result);
+        assertEquals(Arrays.asList("z", "a", "m", "e", "t", "f", "n"), List.copyOf(result.keySet()));
+        assertEquals("text", result.get("z"));
+        assertEquals(42L, result.get("a"));
+        assertEquals(1.5, result.get("m"));
+        assertEquals(1000.0, result.get("e"));
+        assertEquals(true, result.get("t"));
+        assertEquals(false, result.get("f"));
+        assertTrue(result.containsKey("n"));
+        assertNull(result.get("n"));
+    }
+
+    @Test
+    void parseJson_ShouldKeepOutOfRangeIntegerAsText() {
+        Map<String, Object> result = JsonUtil.parseJson("{\"big\":123456789012345678901234567890}");
+
+        assertEquals("123456789012345678901234567890", result.get("big"));
+    }
+
+    @Test
+    void parseJson_ShouldDecodeEscapesAndNestedStructures() {
+        Map<String, Object> result = JsonUtil.parseJson(
+                "{\"msg\":\"line1\\nline2 \\\"q\\\" \\uD55C\",\"data\":{\"items\":[1,{\"k\":\"v\"},[true]]}}");
+
+        assertEquals("line1\nline2 \"q\" 한", result.get("msg"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) result.get("data");
+        @SuppressWarnings("unchecked")
+        List<Object> items = (List<Object>) data.get("items");
+        assertEquals(1L, items.get(0));
+        assertEquals(Map.of("k", "v"), items.get(1));
+        assertEquals(List.of(true), items.get(2));
+    }
+
+    @Test
+    void parseJson_ShouldReturnNullForInvalidInput() {
+        assertNull(JsonUtil.parseJson(null));
+        assertNull(JsonUtil.parseJson(""));
+        assertNull(JsonUtil.parseJson("{\"a\":1"));
+        assertNull(JsonUtil.parseJson("{\"a\":1} trailing"));
+        assertNull(JsonUtil.parseJson("[1,2]"));
+        assertNull(JsonUtil.parseJson("not json"));
+    }
+
+    @Test
+    void parseJsonToList_ShouldParseTopLevelArray() {
+        List<Object> result = JsonUtil.parseJsonToList("[{\"id\":1},\"two\",3.0,null]");
+
+        assertEquals(4, result.size());
+        assertEquals(Map.of("id", 1L), result.get(0));
+        assertEquals("two", result.get(1));
+        assertEquals(3.0, result.get(2));
+        assertNull(result.get(3));
+    }
+
+    @Test
+    void parseJsonToList_ShouldReturnNullForObjectOrInvalidInput() {
+        assertNull(JsonUtil.parseJsonToList("{\"a\":1}"));
+        assertNull(JsonUtil.parseJsonToList("[1,2"));
+        assertNull(JsonUtil.parseJsonToList(null));
+        assertEquals(List.of(), JsonUtil.parseJsonToList("[]"));
+    }
+
+    @Test
+    void objectMapToJson_ShouldRoundTripThroughParser() {
+        Map<String, Object> source = new java.util.LinkedHashMap<>();
+        source.put("text", "a\"b\\c\n");
+        source.put("number", 7L);
+        source.put("list", List.of("x", 2L));
+
+        Map<String, Object> parsed = JsonUtil.parseJson(JsonUtil.objectMapToJson(source));
+
+        assertEquals(source, parsed);
+    }
+}
@@ -0,0 +1,90 @@
+package com.wai.admin.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedLockTest {
+
+    @Test
+    void lock_ShouldRemoveKeyAfterLastRelease() {
+        KeyedLock keyedLock = new KeyedLock();
+
+        KeyedLock.Handle first = keyedLock.lock("a");
+        KeyedLock.Handle second = keyedLock.lock("b");
+        assertEquals(2, keyedLock.size());
+
+        first.close();
+        first.close();
+        assertEquals(1, keyedLock.size());
+        second.close();
+        assertEquals(0, keyedLock.size());
+    }
+
+    @Test
+    void lock_ShouldSerializeSameKeyAndPruneManyKeys() throws Exception {
+        KeyedLock keyedLock = new KeyedLock();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                String key = i % 2 == 0 ? "shared" : "key-" + i;
+                boolean shared = "shared".equals(key);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try (KeyedLock.Handle handle = keyedLock.lock(key)) {
+                        if (shared) {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            Thread.yield();
+                            active.decrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, maxActive.get());
+        assertEquals(0, keyedLock.size());
+    }
+
+    @Test
+    void lock_ShouldWaitForHolderOfSameKey() throws Exception {
+        KeyedLock keyedLock = new KeyedLock();
+        KeyedLock.Handle held = keyedLock.lock("key");
+        CountDownLatch acquired = new CountDownLatch(1);
+
+        Thread waiter = new Thread(() -> {
+            try (KeyedLock.Handle handle = keyedLock.lock("key")) {
+                acquired.countDown();
+            }
+        });
+        waiter.start();
+
+        assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, keyedLock.size());
+        held.close();
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        waiter.join(5000);
+        assertEquals(0, keyedLock.size());
+    }
+}
@@ -0,0 +1,112 @@
+package com.wai.admin.util;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    @AfterEach
+    void tearDown() {
+        RetryPolicy.configure(new RetryPolicy.Settings(2, 1, 200, 2000, 5000, Set.of(429, 503)));
+    }
+
+    @Test
+    void nextDelay_ShouldUseFullJitterBoundedByExponentialCeiling() {
+        RetryPolicy.configure(new RetryPolicy.Settings(3, 0, 100, 300, 60_000, Set.of(503)));
+
+        for (int i = 0; i < 200; i++) {
+            RetryPolicy.Budget budget = RetryPolicy.begin("GET");
+            long first = budget.nextDelay(503, null);
+            long second = budget.nextDelay(503, null);
+            long third = budget.nextDelay(503, null);
+
+            assertTrue(first >= 0 && first <= 100, "first=" + first);
+            assertTrue(second >= 0 && second <= 200, "second=" + second);
+            assertTrue(third >= 0 && third <= 300, "third=" + third);
+        }
+    }
+
+    @Test
+    void nextDelay_ShouldStopAfterMaxRetries() {
+        RetryPolicy.configure(new RetryPolicy.Settings(2, 1, 1, 1, 60_000, Set.of(503)));
+        RetryPolicy.Budget budget = RetryPolicy.begin("GET");
+
+        assertTrue(budget.nextDelay(503, null) >= 0);
+        assertTrue(budget.nextDelay(new ConnectException("refused")) >= 0);
+        assertEquals(-1, budget.nextDelay(503, null));
+        assertEquals(2, budget.getRetries());
+    }
+
+    @Test
+    void nextDelay_ShouldSkipRetryThatExceedsBudget() {
+        RetryPolicy.configure(new RetryPolicy.Settings(3, 3, 1, 1, 5000, Set.of(429)));
+        RetryPolicy.Budget budget = RetryPolicy.begin("GET");
+
+        assertEquals(-1, budget.nextDelay(429, "10"));
+        assertEquals(0, budget.getRetries());
+        assertEquals(2000, budget.nextDelay(429, "2"));
+        assertEquals(1, budget.getRetries());
+    }
+
+    @Test
+    void nextDelay_ShouldRetryNonIdempotentResponseOnlyWithRetryAfter() {
+        RetryPolicy.configure(new RetryPolicy.Settings(2, 1, 1, 1, 60_000, Set.of(503)));
+
+        assertEquals(-1, RetryPolicy.begin("POST").nextDelay(503, null));
+        assertEquals(1000, RetryPolicy.begin("POST").nextDelay(503, "1"));
+        assertTrue(RetryPolicy.begin("PUT").nextDelay(503, null) >= 0);
+    }
+
+    @Test
+    void nextDelay_ShouldIgnoreStatusesOutsideRetryList() {
+        RetryPolicy.Budget budget = RetryPolicy.begin("GET");
+
+        assertEquals(-1, budget.nextDelay(500, "1"));
+        assertEquals(-1, budget.nextDelay(404, null));
+        assertEquals(0, budget.getRetries());
+    }
+
+    @Test
+    void nextDelay_ShouldRetryResponseWaitFailuresOnlyForIdempotentMethods() {
+        IOException wrappedTimeout = new IOException("read failed", new SocketTimeoutException("timeout"));
+        IOException wrappedConnect = new IOException("connect failed", new ConnectException("refused"));
+
+        assertTrue(RetryPolicy.begin("GET").nextDelay(wrappedTimeout) >= 0);
+        assertEquals(-1, RetryPolicy.begin("POST").nextDelay(wrappedTimeout));
+        assertTrue(RetryPolicy.begin("POST").nextDelay(wrappedConnect) >= 0);
+        assertEquals(-1, RetryPolicy.begin("GET").nextDelay(new IOException("broken pipe")));
+    }
+
+    @Test
+    void parseRetryAfter_ShouldAcceptSecondsAndHttpDate() {
+        String future = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        String past = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).minusSeconds(30));
+
+        assertEquals(3000, RetryPolicy.parseRetryAfter(" 3 "));
+        assertEquals(0, RetryPolicy.parseRetryAfter("-5"));
+        long fromDate = RetryPolicy.parseRetryAfter(future);
+        assertTrue(fromDate > 25_000 && fromDate <= 30_000, "fromDate=" + fromDate);
+        assertEquals(0, RetryPolicy.parseRetryAfter(past));
+        assertEquals(-1, RetryPolicy.parseRetryAfter(null));
+        assertEquals(-1, RetryPolicy.parseRetryAfter(""));
+        assertEquals(-1, RetryPolicy.parseRetryAfter("soon"));
+    }
+
+    @Test
+    void isIdempotent_ShouldClassifyMethods() {
+        assertTrue(RetryPolicy.isIdempotent("get"));
+        assertTrue(RetryPolicy.isIdempotent("DELETE"));
+        assertFalse(RetryPolicy.isIdempotent("POST"));
+        assertFalse(RetryPolicy.isIdempotent("PATCH"));
+    }
+}
@@ -0,0 +1,194 @@
+package com.wai.admin.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamGuardTest {
+
+    private static final String URL = "http://localhost:8000/api/v1/process/list";
+
+    @AfterEach
+    void tearDown() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 50, 1000));
+    }
+
+    @Test
+    void routeKey_ShouldUseApiGroupOrHost() {
+        assertEquals("process", UpstreamGuard.routeKey(URL));
+        assertEquals("minio", UpstreamGuard.routeKey("http://gw/prefix/api/v1/minio/files/1?x=1"));
+        assertEquals("example.com", UpstreamGuard.routeKey("https://example.com/health"));
+        assertEquals("default", UpstreamGuard.routeKey("not a url"));
+    }
+
+    @Test
+    void tryAcquire_ShouldOpenCircuitOnlyAfterMinimumCallsAndThreshold() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 4, 4, 50, 60, 1, 10, 0));
+
+        // 최소 호출 수(4) 전에는 계산하지 않고, window [S,S,S,F]는 실패율 25%로 임계값(50%) 미만
+        recordSuccesses(3);
+        recordFailures(1);
+        assertAllowed();
+
+        // window [S,S,S,F] → [S,F,S,F]: 실패율 50%로 OPEN
+        recordFailures(1);
+        assertFalse(UpstreamGuard.tryAcquire(URL).isAllowed());
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectWhileOpenAndKeepOtherRoutesClosed() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 4, 4, 50, 60, 1, 10, 0));
+
+        recordSuccesses(2);
+        recordFailures(2);
+        UpstreamGuard.Permit rejected = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit otherRoute = UpstreamGuard.tryAcquire("http://localhost:8000/api/v1/equipment/list");
+
+        assertFalse(rejected.isAllowed());
+        assertTrue(rejected.getRejectReason().contains("process"));
+        assertTrue(otherRoute.isAllowed());
+        otherRoute.release(true);
+    }
+
+    @Test
+    void tryAcquire_ShouldCloseAfterSuccessfulHalfOpenProbes() {
+        // openSeconds=0: OPEN 직후 다음 요청에서 HALF_OPEN으로 전환
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 2, 2, 50, 0, 2, 10, 0));
+        recordFailures(2);
+
+        UpstreamGuard.Permit probe1 = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit probe2 = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit overLimit = UpstreamGuard.tryAcquire(URL);
+        assertTrue(probe1.isAllowed());
+        assertTrue(probe2.isAllowed());
+        assertFalse(overLimit.isAllowed());
+
+        probe1.release(true);
+        probe2.release(true);
+
+        // CLOSED: window가 초기화되어 실패 1건으로는 다시 열리지 않음
+        recordFailures(1);
+        UpstreamGuard.Permit closed = UpstreamGuard.tryAcquire(URL);
+        assertTrue(closed.isAllowed());
+        closed.release(true);
+    }
+
+    @Test
+    void tryAcquire_ShouldReopenWhenHalfOpenProbeFails() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 2, 2, 50, 0, 1, 10, 0));
+        recordFailures(2);
+
+        UpstreamGuard.Permit probe = UpstreamGuard.tryAcquire(URL);
+        assertTrue(probe.isAllowed());
+        probe.release(false);
+
+        // 다시 OPEN → openSeconds=0이므로 곧바로 다음 시험 호출 1건만 허용
+        UpstreamGuard.Permit nextProbe = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit blocked = UpstreamGuard.tryAcquire(URL);
+        assertTrue(nextProbe.isAllowed());
+        assertFalse(blocked.isAllowed());
+        nextProbe.release(true);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectWhenBulkheadIsFull() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 2, 0));
+
+        UpstreamGuard.Permit first = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit second = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit third = UpstreamGuard.tryAcquire(URL);
+
+        assertTrue(first.isAllowed());
+        assertTrue(second.isAllowed());
+        assertFalse(third.isAllowed());
+        assertTrue(third.getRejectReason().contains("동시 요청"));
+
+        first.release(true);
+        first.release(true);
+        UpstreamGuard.Permit afterRelease = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit stillFull = UpstreamGuard.tryAcquire(URL);
+        assertTrue(afterRelease.isAllowed());
+        assertFalse(stillFull.isAllowed());
+        second.release(true);
+        afterRelease.release(true);
+    }
+
+    @Test
+    void tryAcquireNow_ShouldRejectWithoutWaitingForSlot() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 1, 5000));
+
+        UpstreamGuard.Permit held = UpstreamGuard.tryAcquire(URL);
+        long started = System.nanoTime();
+        UpstreamGuard.Permit rejected = UpstreamGuard.tryAcquireNow(URL);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(held.isAllowed());
+        assertFalse(rejected.isAllowed());
+        assertTrue(elapsedMillis < 1000, "elapsed=" + elapsedMillis + "ms");
+
+        held.release(true);
+        UpstreamGuard.Permit afterRelease = UpstreamGuard.tryAcquireNow(URL);
+        assertTrue(afterRelease.isAllowed());
+        afterRelease.release(true);
+    }
+
+    @Test
+    void tryAcquireUpload_ShouldUseSeparateBulkheadFromSameGroup() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(true, 20, 10, 50, 30, 3, 1, 0));
+
+        UpstreamGuard.Permit upload = UpstreamGuard.tryAcquireUpload(URL);
+        UpstreamGuard.Permit secondUpload = UpstreamGuard.tryAcquireUpload(URL);
+        UpstreamGuard.Permit read = UpstreamGuard.tryAcquire(URL);
+
+        assertTrue(upload.isAllowed());
+        assertFalse(secondUpload.isAllowed());
+        assertTrue(secondUpload.getRejectReason().contains("process:upload"));
+        assertTrue(read.isAllowed());
+        upload.release(true);
+        read.release(true);
+    }
+
+    @Test
+    void tryAcquire_ShouldAllowEverythingWhenDisabled() {
+        UpstreamGuard.configure(new UpstreamGuard.Settings(false, 2, 2, 50, 60, 1, 1, 0));
+
+        recordFailures(5);
+        UpstreamGuard.Permit first = UpstreamGuard.tryAcquire(URL);
+        UpstreamGuard.Permit second = UpstreamGuard.tryAcquireUpload(URL);
+
+        assertTrue(first.isAllowed());
+        assertTrue(second.isAllowed());
+    }
+
+    @Test
+    void isFailureStatus_ShouldTreatNetworkErrorsAnd5xxAsFailures() {
+        assertTrue(UpstreamGuard.isFailureStatus(-1));
+        assertTrue(UpstreamGuard.isFailureStatus(500));
+        assertTrue(UpstreamGuard.isFailureStatus(503));
+        assertFalse(UpstreamGuard.isFailureStatus(200));
+        assertFalse(UpstreamGuard.isFailureStatus(404));
+    }
+
+    private static void recordSuccesses(int count) {
+        record(count, true);
+    }
+
+    private static void recordFailures(int count) {
+        record(count, false);
+    }
+
+    private static void assertAllowed() {
+        UpstreamGuard.Permit permit = UpstreamGuard.tryAcquire(URL);
+        assertTrue(permit.isAllowed());
+        permit.release(true);
+    }
+
+    private static void record(int count, boolean success) {
+        for (int i = 0; i < count; i++) {
+            UpstreamGuard.Permit permit = UpstreamGuard.tryAcquire(URL);
+            assertTrue(permit.isAllowed());
+            permit.release(success);
+        }
+    }
+}
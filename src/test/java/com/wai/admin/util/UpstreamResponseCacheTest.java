@@ -0,0 +1,227 @@
+package com.wai.admin.util;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamResponseCacheTest {
+
+    private static final String URL = "http://localhost/api/v1/common/water_flow_types?page=1";
+
+    @TempDir
+    Path diskDir;
+
+    private HttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop(0);
+        }
+        UpstreamResponseCache.configure(UpstreamResponseCache.Settings.disabled());
+    }
+
+    @Test
+    void store_ShouldKeepResponseFreshForMaxAge() {
+        configureHeap(0, null);
+
+        UpstreamResponseCache.store("k", URL, response("Cache-Control", "max-age=60"), "{\"a\":1}");
+        UpstreamResponseCache.Entry entry = UpstreamResponseCache.lookup("k");
+
+        assertNotNull(entry);
+        assertTrue(entry.isFresh());
+        assertEquals("{\"a\":1}", entry.readBody());
+    }
+
+    @Test
+    void store_ShouldSkipNoStoreAndResponsesWithoutValidatorOrTtl() {
+        configureHeap(0, null);
+
+        UpstreamResponseCache.store("no-store", URL, response("Cache-Control", "no-store", "ETag", "\"v1\""), "body");
+        UpstreamResponseCache.store("plain", URL, response(), "body");
+
+        assertNull(UpstreamResponseCache.lookup("no-store"));
+        assertNull(UpstreamResponseCache.lookup("plain"));
+    }
+
+    @Test
+    void store_ShouldRequireRevalidationForNoCacheOrValidatorOnly() {
+        configureHeap(0, null);
+
+        UpstreamResponseCache.store("no-cache", URL,
+                response("Cache-Control", "no-cache, max-age=60", "ETag", "\"v1\""), "body");
+        UpstreamResponseCache.store("validator", URL, response("Last-Modified", "Wed, 21 Oct 2026 07:28:00 GMT"), "body");
+
+        UpstreamResponseCache.Entry noCache = UpstreamResponseCache.lookup("no-cache");
+        UpstreamResponseCache.Entry validator = UpstreamResponseCache.lookup("validator");
+        assertFalse(noCache.isFresh());
+        assertEquals("\"v1\"", noCache.getEtag());
+        assertFalse(validator.isFresh());
+        assertEquals("Wed, 21 Oct 2026 07:28:00 GMT", validator.getLastModified());
+    }
+
+    @Test
+    void store_ShouldApplyLongestPathTtlOverrideBeforeResponseHeaders() {
+        configureHeap(0, "/api/v1/common=0,/api/v1/common/water_flow_types=300");
+
+        UpstreamResponseCache.store("override", URL, response("Cache-Control", "no-cache"), "body");
+        UpstreamResponseCache.store("short", "http://localhost/api/v1/common/units", response("ETag", "\"u\""), "body");
+
+        assertTrue(UpstreamResponseCache.lookup("override").isFresh());
+        assertFalse(UpstreamResponseCache.lookup("short").isFresh());
+    }
+
+    @Test
+    void store_ShouldSkipEntryLargerThanLimit() {
+        UpstreamResponseCache.configure(new UpstreamResponseCache.Settings(true, "heap", null, 1024, 4, 60, 60, null));
+
+        UpstreamResponseCache.store("small", URL, response(), "1234");
+        UpstreamResponseCache.store("large", URL, response(), "12345");
+
+        assertNotNull(UpstreamResponseCache.lookup("small"));
+        assertNull(UpstreamResponseCache.lookup("large"));
+    }
+
+    @Test
+    void revalidated_ShouldRefreshFreshnessAndValidators() {
+        configureHeap(0, null);
+        UpstreamResponseCache.store("k", URL, response("ETag", "\"v1\""), "body");
+        UpstreamResponseCache.Entry entry = UpstreamResponseCache.lookup("k");
+
+        UpstreamResponseCache.revalidated(entry, URL, response("ETag", "\"v2\"", "Cache-Control", "max-age=60"));
+
+        assertTrue(entry.isFresh());
+        assertEquals("\"v2\"", entry.getEtag());
+    }
+
+    @Test
+    void configure_ShouldDisableLookupAndDiscardEntries() {
+        configureHeap(60, null);
+        UpstreamResponseCache.store("k", URL, response(), "body");
+
+        UpstreamResponseCache.configure(UpstreamResponseCache.Settings.disabled());
+
+        assertFalse(UpstreamResponseCache.isEnabled());
+        assertNull(UpstreamResponseCache.lookup("k"));
+    }
+
+    @Test
+    void readBody_ShouldReturnNullWhenDiskFileIsMissing() throws Exception {
+        UpstreamResponseCache.configure(new UpstreamResponseCache.Settings(
+                true, "disk", diskDir.toString(), 1024, 1024, 60, 60, null));
+        UpstreamResponseCache.store("k", URL, response(), "디스크 본문");
+        UpstreamResponseCache.Entry entry = UpstreamResponseCache.lookup("k");
+
+        assertEquals("디스크 본문", entry.readBody());
+        deleteDiskFiles();
+        assertNull(entry.readBody());
+    }
+
+    @Test
+    void get_ShouldServeFreshResponseWithoutCallingUpstream() throws Exception {
+        configureHeap(0, null);
+        List<String> conditions = startServer("\"v1\"", "max-age=60", "{\"items\":[1]}");
+
+        HttpUtil.HttpResult first = HttpUtil.get(serverUrl(), "application/json", "");
+        HttpUtil.HttpResult second = HttpUtil.get(serverUrl(), "application/json", "");
+
+        assertEquals(200, second.getStatus());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals(1, conditions.size());
+    }
+
+    @Test
+    void get_ShouldUseCachedBodyOnNotModified() throws Exception {
+        configureHeap(0, null);
+        List<String> conditions = startServer("\"v1\"", "no-cache", "{\"items\":[1]}");
+
+        HttpUtil.HttpResult first = HttpUtil.get(serverUrl(), "application/json", "");
+        HttpUtil.HttpResult second = HttpUtil.get(serverUrl(), "application/json", "");
+
+        assertEquals(List.of("", "\"v1\""), conditions);
+        assertEquals(200, second.getStatus());
+        assertEquals("{\"items\":[1]}", first.getBody());
+        assertEquals(first.getBody(), second.getBody());
+    }
+
+    @Test
+    void get_ShouldRefetchWithoutConditionsWhenCachedBodyIsMissing() throws Exception {
+        UpstreamResponseCache.configure(new UpstreamResponseCache.Settings(
+                true, "disk", diskDir.toString(), 1024, 1024, 60, 0, null));
+        List<String> conditions = startServer("\"v1\"", "no-cache", "{\"items\":[2]}");
+
+        HttpUtil.get(serverUrl(), "application/json", "");
+        deleteDiskFiles();
+        HttpUtil.HttpResult result = HttpUtil.get(serverUrl(), "application/json", "");
+
+        assertEquals(List.of("", "\"v1\"", ""), conditions);
+        assertEquals(200, result.getStatus());
+        assertEquals("{\"items\":[2]}", result.getBody());
+    }
+
+    private void configureHeap(long defaultTtlSeconds, String ttlOverrides) {
+        UpstreamResponseCache.configure(new UpstreamResponseCache.Settings(
+                true, "heap", null, 1024 * 1024, 64 * 1024, 60, defaultTtlSeconds, ttlOverrides));
+    }
+
+    /**
+     * 외부 API 대역 - If-None-Match가 ETag와 같으면 304, 아니면 200 응답 (수신한 If-None-Match 값을 기록)
+     */
+    private List<String> startServer(String etag, String cacheControl, String body) throws Exception {
+        List<String> conditions = new CopyOnWriteArrayList<>();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            conditions.add(ifNoneMatch != null ? ifNoneMatch : "");
+            exchange.getResponseHeaders().set("ETag", etag);
+            exchange.getResponseHeaders().set("Cache-Control", cacheControl);
+            if (etag.equals(ifNoneMatch)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        return conditions;
+    }
+
+    private String serverUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/api/v1/common/water_flow_types";
+    }
+
+    private void deleteDiskFiles() throws Exception {
+        try (Stream<Path> files = Files.list(diskDir)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private static BasicHttpResponse response(String... headers) {
+        BasicHttpResponse response = new BasicHttpResponse(200);
+        for (int i = 0; i < headers.length; i += 2) {
+            response.addHeader(headers[i], headers[i + 1]);
+        }
+        return response;
+    }
+}
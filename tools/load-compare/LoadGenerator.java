@@ -0,0 +1,119 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 발생기 (load-compare.sh에서 hey가 없을 때 사용, Java 21 단일 파일 실행)
+ * - 사용법: java tools/load-compare/LoadGenerator.java -n 요청수 -c 동시접속수 [-m GET|POST] [-d 본문] [-H "이름: 값"] URL
+ * - 결과는 hey와 같은 항목(Requests/sec, Average, 99% in, 상태 코드 분포)으로 출력
+ */
+public class LoadGenerator {
+
+    public static void main(String[] args) throws Exception {
+        int requests = 200;
+        int concurrency = 50;
+        String method = "GET";
+        String body = null;
+        Map<String, String> headers = new TreeMap<>();
+        String url = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-n" -> requests = Integer.parseInt(args[++i]);
+                case "-c" -> concurrency = Integer.parseInt(args[++i]);
+                case "-m" -> method = args[++i].toUpperCase();
+                case "-d" -> body = args[++i];
+                case "-H" -> {
+                    String[] header = args[++i].split(":", 2);
+                    headers.put(header[0].trim(), header.length > 1 ? header[1].trim() : "");
+                }
+                default -> url = args[i];
+            }
+        }
+        if (url == null) {
+            System.err.println("사용법: java LoadGenerator.java -n 요청수 -c 동시접속수 [-m GET|POST] [-d 본문] [-H \"이름: 값\"] URL");
+            System.exit(1);
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(60));
+        headers.forEach(builder::header);
+        if (body != null && !headers.containsKey("Content-Type")) {
+            builder.header("Content-Type", "application/json");
+        }
+        HttpRequest request = builder.method(method,
+                body != null ? HttpRequest.BodyPublishers.ofString(body) : HttpRequest.BodyPublishers.noBody()).build();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder errors = new LongAdder();
+        Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                workers.submit(() -> {
+                    try {
+                        int index;
+                        while ((index = next.getAndIncrement()) < latencies.length) {
+                            long sentAt = System.nanoTime();
+                            try {
+                                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                                statusCounts.computeIfAbsent(response.statusCode(), k -> new LongAdder()).increment();
+                            } catch (Exception e) {
+                                errors.increment();
+                            }
+                            latencies[index] = System.nanoTime() - sentAt;
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+        double totalSeconds = (System.nanoTime() - startedAt) / 1e9;
+
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double average = Arrays.stream(sorted).average().orElse(0) / 1e9;
+
+        System.out.println();
+        System.out.println("Summary:");
+        System.out.printf("  Total:\t%.4f secs%n", totalSeconds);
+        System.out.printf("  Slowest:\t%.4f secs%n", sorted[sorted.length - 1] / 1e9);
+        System.out.printf("  Fastest:\t%.4f secs%n", sorted[0] / 1e9);
+        System.out.printf("  Average:\t%.4f secs%n", average);
+        System.out.printf("  Requests/sec:\t%.4f%n", requests / totalSeconds);
+        System.out.println();
+        System.out.println("Latency distribution:");
+        for (int percentile : new int[] {10, 25, 50, 75, 90, 95, 99}) {
+            int index = Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * percentile / 100.0) - 1);
+            System.out.printf("  %d%% in %.4f secs%n", percentile, sorted[Math.max(0, index)] / 1e9);
+        }
+        System.out.println();
+        System.out.println("Status code distribution:");
+        new TreeMap<>(statusCounts).forEach((status, count) ->
+                System.out.printf("  [%d]\t%d responses%n", status, count.sum()));
+        if (errors.sum() > 0) {
+            System.out.println();
+            System.out.printf("Error distribution:%n  [%d]\tconnection errors%n", errors.sum());
+        }
+    }
+}
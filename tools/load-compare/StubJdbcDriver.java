@@ -0,0 +1,103 @@
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+/**
+ * 부하 비교용 JDBC 스텁 드라이버 (MySQL이 없는 환경에서 애플리케이션 기동용)
+ * - jdbc:stub: URL에 대해 연결 확인(isValid)만 통과하는 빈 연결을 반환
+ * - 조회 결과는 항상 비어 있으므로 DB를 사용하지 않는 경로(/api/code/list 등) 측정에만 사용
+ * - 사용법: RESULTS.md의 "재현 방법" 참고 (javac로 컴파일 후 APP_CMD 클래스패스에 추가)
+ */
+public class StubJdbcDriver implements Driver {
+
+    private static final String URL_PREFIX = "jdbc:stub:";
+
+    static {
+        try {
+            DriverManager.registerDriver(new StubJdbcDriver());
+        } catch (SQLException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * JDBC 인터페이스 스텁 - 연결 확인만 true, 나머지는 기본값(0/false/빈 스텁) 반환
+     */
+    private static Object stub(Class<?> type) {
+        return Proxy.newProxyInstance(StubJdbcDriver.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Class<?> returnType = method.getReturnType();
+            switch (method.getName()) {
+                case "isValid":
+                case "getAutoCommit":
+                    return true;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "stub-" + type.getSimpleName();
+                case "getURL":
+                    return URL_PREFIX + "load";
+                case "getTransactionIsolation":
+                    return Connection.TRANSACTION_READ_COMMITTED;
+                case "unwrap":
+                    return null;
+                default:
+                    break;
+            }
+            if (returnType == boolean.class) {
+                return false;
+            }
+            if (returnType == int.class) {
+                return 0;
+            }
+            if (returnType == long.class) {
+                return 0L;
+            }
+            if (returnType == String.class) {
+                return "StubDB";
+            }
+            return returnType.isInterface() ? stub(returnType) : null;
+        });
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) {
+        return acceptsURL(url) ? (Connection) stub(Connection.class) : null;
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return Logger.getGlobal();
+    }
+}
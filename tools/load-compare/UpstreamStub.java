@@ -0,0 +1,50 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 외부 인증 서버 대역 (load-compare.sh 부하 비교용, Java 21 단일 파일 실행)
+ * - 모든 경로에 고정 지연 후 공통코드 검색과 같은 형태의 JSON 응답
+ * - 외부 서버 상태와 관계없이 두 실행 모드를 같은 조건(고정 지연)으로 비교하기 위해 사용
+ * - 사용법: java tools/load-compare/UpstreamStub.java [포트] [지연 ms]
+ */
+public class UpstreamStub {
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18081;
+        long delayMillis = args.length > 1 ? Long.parseLong(args[1]) : 50;
+
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append("{\"code_id\":").append(i)
+                    .append(",\"parent_key\":\"LOAD_CD\",\"code_key\":\"CODE_").append(i)
+                    .append("\",\"code_value\":\"부하 테스트 코드 ").append(i).append("\"}");
+        }
+        byte[] body = ("{\"items\":[" + items + "],\"total\":20,\"page\":1,\"page_size\":20}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 4096);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", exchange -> {
+            try (InputStream in = exchange.getRequestBody(); OutputStream out = exchange.getResponseBody()) {
+                in.transferTo(OutputStream.nullOutputStream());
+                Thread.sleep(delayMillis);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                out.write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+        System.out.println("외부 API 대역 시작: port=" + port + ", delay=" + delayMillis + "ms");
+    }
+}